@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectHelper;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.bundle.BundleWriter;
+import com.ibm.intoto.attestation.custom.predicates.slsa.SlsaProvenancePredicate;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenRepositoryLayout;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenUriTemplate;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.PackageUrlLayout;
+import com.ibm.intoto.attestation.digest.FileDigestCache;
+import jakarta.json.Json;
+
+/**
+ * Generates an in-toto Statement with SLSA provenance for the project's packaged artifacts. The subject is the main artifact
+ * and any attached artifacts, and the resolved dependencies are the project's dependency artifacts.
+ * <p>
+ * The goal is skipped when none of its inputs changed since the previous build, judged by the paths, sizes and
+ * modification times of the files and by the configuration. In a parallel build ({@code -T}) every module shares one
+ * {@link FileDigestCache}, so a dependency used by many modules is hashed once.
+ */
+@Mojo(name = "attest", defaultPhase = LifecyclePhase.PACKAGE, requiresDependencyResolution = ResolutionScope.RUNTIME, threadSafe = true)
+public class AttestMojo extends AbstractMojo {
+
+    public static final String BUILD_TYPE = "https://github.com/WASdev/intoto4j/maven-plugin/attest/v1";
+    public static final String ATTESTATION_TYPE = "intoto.jsonl";
+
+    private static final String STATE_FILE_EXTENSION = ".state";
+    private static final String LAYOUT_PURL = "purl";
+
+    /**
+     * Shared by every module of the build because the plugin's classes are loaded once per build.
+     */
+    private static FileDigestCache sharedDigestCache;
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    @Parameter(defaultValue = "${session}", readonly = true, required = true)
+    private MavenSession session;
+
+    @Component
+    private MavenProjectHelper projectHelper;
+
+    /**
+     * The file the Statement is written to, as a single line of JSON.
+     */
+    @Parameter(property = "intoto.attestationFile", defaultValue = "${project.build.directory}/${project.build.finalName}" + BundleWriter.FILE_EXTENSION)
+    private File attestationFile;
+
+    @Parameter(property = "intoto.builderId", defaultValue = "https://github.com/WASdev/intoto4j/maven-plugin")
+    private String builderId;
+
+    /**
+     * Whether to describe the project's dependencies as resolved dependencies of the build.
+     */
+    @Parameter(property = "intoto.includeDependencies", defaultValue = "true")
+    private boolean includeDependencies;
+
+    /**
+     * How dependency URIs are generated: {@code purl} for package URLs, or the base URL of a Maven repository. Defaults to
+     * Maven Central.
+     */
+    @Parameter(property = "intoto.repositoryLayout")
+    private String repositoryLayout;
+
+    /**
+     * Whether to attach the attestation to the project so that it is installed and deployed with the artifacts.
+     */
+    @Parameter(property = "intoto.attach", defaultValue = "false")
+    private boolean attach;
+
+    /**
+     * The number of files the shared digest cache remembers. Only the first module to run in a build sets it.
+     */
+    @Parameter(property = "intoto.digestCacheSize", defaultValue = "100000")
+    private int digestCacheSize;
+
+    /**
+     * Regenerate the attestation even if its inputs have not changed.
+     */
+    @Parameter(property = "intoto.force", defaultValue = "false")
+    private boolean force;
+
+    @Parameter(property = "intoto.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping the attestation.");
+            return;
+        }
+        List<Artifact> subjects = getSubjectArtifacts();
+        if (subjects.isEmpty()) {
+            getLog().info("Skipping the attestation because the project has no packaged artifacts.");
+            return;
+        }
+        List<Artifact> dependencies = includeDependencies ? getDependencyArtifacts() : new ArrayList<Artifact>();
+
+        Path output = attestationFile.toPath();
+        Path stateFile = output.resolveSibling(output.getFileName() + STATE_FILE_EXTENSION);
+        String fingerprint = fingerprint(subjects, dependencies);
+        try {
+            if (!force && InputFingerprint.isUpToDate(fingerprint, stateFile, output)) {
+                getLog().info("The attestation " + output + " is up to date.");
+            } else {
+                writeAttestation(output, createStatement(subjects, dependencies));
+                InputFingerprint.save(fingerprint, stateFile);
+                getLog().info("Wrote the attestation " + output + ".");
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("An error occurred while writing the attestation " + output + ": " + e.getMessage(), e);
+        }
+
+        if (attach) {
+            projectHelper.attachArtifact(project, ATTESTATION_TYPE, null, attestationFile);
+        }
+    }
+
+    private List<Artifact> getSubjectArtifacts() {
+        List<Artifact> subjects = new ArrayList<>();
+        if (project.getArtifact() != null && isFile(project.getArtifact().getFile())) {
+            subjects.add(project.getArtifact());
+        }
+        for (Artifact attached : project.getAttachedArtifacts()) {
+            // Attestations attached by an earlier run in the same build are not their own subject
+            if (isFile(attached.getFile()) && !ATTESTATION_TYPE.equals(attached.getType())) {
+                subjects.add(attached);
+            }
+        }
+        return subjects;
+    }
+
+    private List<Artifact> getDependencyArtifacts() {
+        List<Artifact> dependencies = new ArrayList<>();
+        for (Artifact artifact : project.getArtifacts()) {
+            if (isFile(artifact.getFile())) {
+                dependencies.add(artifact);
+            }
+        }
+        dependencies.sort(Comparator.comparing(Artifact::getId));
+        return dependencies;
+    }
+
+    private String fingerprint(List<Artifact> subjects, List<Artifact> dependencies) {
+        InputFingerprint fingerprint = new InputFingerprint();
+        fingerprint.add("buildType", BUILD_TYPE);
+        fingerprint.add("builderId", builderId);
+        fingerprint.add("repositoryLayout", repositoryLayout);
+        fingerprint.add("project", project.getId());
+        for (Artifact subject : subjects) {
+            fingerprint.add("subject:" + subject.getId(), subject.getFile());
+        }
+        for (Artifact dependency : dependencies) {
+            fingerprint.add("dependency:" + dependency.getId() + ":" + dependency.getScope(), dependency.getFile());
+        }
+        return fingerprint.build();
+    }
+
+    private Statement createStatement(List<Artifact> subjects, List<Artifact> dependencies) throws MojoExecutionException {
+        FileDigestCache digestCache = getSharedDigestCache(digestCacheSize);
+        MavenRepositoryLayout layout = getRepositoryLayout();
+        try {
+            Subject.Builder subject = new Subject.Builder();
+            for (Artifact artifact : subjects) {
+                DigestSet digest = digestCache.getDigests(artifact.getFile());
+                subject.resourceDescriptor(new ResourceDescriptor.Builder().name(artifact.getFile().getName()).digest(digest).build());
+            }
+
+            List<MavenArtifactResourceDescriptor> resolvedDependencies = new ArrayList<>(dependencies.size());
+            for (Artifact artifact : dependencies) {
+                DigestSet digest = digestCache.getDigests(artifact.getFile());
+                resolvedDependencies.add(new MavenArtifactResourceDescriptor(toDependency(artifact), digest, layout));
+            }
+
+            SlsaProvenancePredicate.Builder predicate = new SlsaProvenancePredicate.Builder(BUILD_TYPE,
+                    Json.createObjectBuilder().add("project", project.getId()).add("packaging", project.getPackaging()).build(), builderId);
+            predicate.resolvedDependencies(resolvedDependencies);
+            if (session != null && session.getRequest() != null && session.getRequest().getStartTime() != null) {
+                predicate.startedOn(session.getRequest().getStartTime().toInstant());
+            }
+            predicate.finishedOn(Instant.now());
+            return new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject.build(), SlsaProvenancePredicate.PREDICATE_TYPE).predicate(predicate.build()).build();
+        } catch (MojoExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MojoExecutionException("An error occurred while creating the attestation for " + project.getId() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private MavenRepositoryLayout getRepositoryLayout() {
+        if (repositoryLayout == null || repositoryLayout.isEmpty()) {
+            return MavenUriTemplate.MAVEN_CENTRAL;
+        }
+        if (LAYOUT_PURL.equals(repositoryLayout)) {
+            return PackageUrlLayout.MAVEN_CENTRAL;
+        }
+        return MavenUriTemplate.repository(repositoryLayout);
+    }
+
+    /**
+     * Writes to a temporary file first so that an interrupted build never leaves a partial attestation behind.
+     */
+    private void writeAttestation(Path output, Statement statement) throws IOException {
+        Path directory = output.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, output.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                statement.writeTo(out);
+                out.write('\n');
+            }
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static Dependency toDependency(Artifact artifact) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(artifact.getGroupId());
+        dependency.setArtifactId(artifact.getArtifactId());
+        dependency.setVersion(artifact.getBaseVersion());
+        dependency.setType(artifact.getType());
+        dependency.setClassifier(artifact.getClassifier());
+        dependency.setScope(artifact.getScope());
+        return dependency;
+    }
+
+    private static boolean isFile(File file) {
+        return file != null && file.isFile();
+    }
+
+    static synchronized FileDigestCache getSharedDigestCache(int maxEntries) {
+        if (sharedDigestCache == null) {
+            sharedDigestCache = new FileDigestCache(maxEntries);
+        }
+        return sharedDigestCache;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.ibm.intoto.attestation.utils.Utils;
+
+/**
+ * A digest of everything an attestation is generated from: the configuration, and the path, size and modification time of
+ * each input file. When the fingerprint saved by the previous build matches, the attestation is up to date and neither the
+ * files nor the statement need to be processed again.
+ */
+class InputFingerprint {
+
+    private final MessageDigest digest;
+
+    InputFingerprint() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    InputFingerprint add(String key, String value) {
+        update(key);
+        update(value == null ? "" : value);
+        return this;
+    }
+
+    /**
+     * Adds the file by its metadata only, so the fingerprint is cheap to compute however large the file is. A file that does
+     * not exist is recorded as such.
+     */
+    InputFingerprint add(String key, File file) {
+        update(key);
+        if (file == null) {
+            update("");
+        } else {
+            update(file.getAbsolutePath());
+            update(file.isFile() ? file.length() + ":" + file.lastModified() : "-");
+        }
+        return this;
+    }
+
+    String build() {
+        return Utils.toHex(digest.digest());
+    }
+
+    /**
+     * Checks that the fingerprint saved in the state file matches and that the output it describes still exists.
+     */
+    static boolean isUpToDate(String fingerprint, Path stateFile, Path output) throws IOException {
+        if (!Files.isRegularFile(stateFile) || !Files.isRegularFile(output)) {
+            return false;
+        }
+        String saved = new String(Files.readAllBytes(stateFile), StandardCharsets.US_ASCII).trim();
+        return saved.equals(fingerprint);
+    }
+
+    static void save(String fingerprint, Path stateFile) throws IOException {
+        Files.createDirectories(stateFile.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(stateFile.toAbsolutePath().getParent(), stateFile.getFileName().toString(), ".tmp");
+        Files.write(temp, fingerprint.getBytes(StandardCharsets.US_ASCII));
+        Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Length-prefixed so that adjacent values cannot run together into the same fingerprint.
+     */
+    private void update(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((bytes.length + ":").getBytes(StandardCharsets.US_ASCII));
+        digest.update(bytes);
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class InputFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_fingerprintChangesWithInputs() throws Exception {
+        File file = tempDir.resolve("app.jar").toFile();
+        Files.write(file.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+
+        String original = new InputFingerprint().add("builderId", "https://example.com").add("subject", file).build();
+        assertEquals(original, new InputFingerprint().add("builderId", "https://example.com").add("subject", file).build(), "The fingerprint should be stable.");
+        assertNotEquals(original, new InputFingerprint().add("builderId", "https://example.com/other").add("subject", file).build(), "A configuration change should change the fingerprint.");
+
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(file.lastModified() - 10_000));
+        assertNotEquals(original, new InputFingerprint().add("builderId", "https://example.com").add("subject", file).build(), "A modified file should change the fingerprint.");
+    }
+
+    @Test
+    public void test_valuesDoNotRunTogether() {
+        assertNotEquals(new InputFingerprint().add("ab", "c").build(), new InputFingerprint().add("a", "bc").build());
+    }
+
+    @Test
+    public void test_upToDate() throws Exception {
+        Path output = tempDir.resolve("app.intoto.jsonl");
+        Path stateFile = tempDir.resolve("app.intoto.jsonl.state");
+        String fingerprint = new InputFingerprint().add("project", "com.example:app:jar:1.0").build();
+
+        assertFalse(InputFingerprint.isUpToDate(fingerprint, stateFile, output), "Nothing has been generated yet.");
+        InputFingerprint.save(fingerprint, stateFile);
+        assertFalse(InputFingerprint.isUpToDate(fingerprint, stateFile, output), "The output is missing.");
+        Files.write(output, "{}\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(InputFingerprint.isUpToDate(fingerprint, stateFile, output), "The output should be up to date.");
+        assertFalse(InputFingerprint.isUpToDate("different", stateFile, output), "A different fingerprint is not up to date.");
+    }
+
+}
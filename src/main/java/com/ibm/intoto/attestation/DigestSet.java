@@ -16,6 +16,7 @@
 */
 package com.ibm.intoto.attestation;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -23,6 +24,8 @@ import java.util.Map.Entry;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 
 /**
  * Set of one or more cryptographic digests for a single software artifact or metadata object.
@@ -31,7 +34,10 @@ import jakarta.json.JsonObjectBuilder;
  */
 public class DigestSet {
 
+    public static final String ALG_SHA1 = "sha1";
     public static final String ALG_SHA256 = "sha256";
+    public static final String ALG_SHA384 = "sha384";
+    public static final String ALG_SHA512 = "sha512";
     public static final String GITCOMMIT = "gitCommit";
 
     private Map<String, String> sets = new HashMap<>();
@@ -43,6 +49,21 @@ public class DigestSet {
         sets.put(algorithm, digestValue);
     }
 
+    public String get(String algorithm) {
+        return sets.get(algorithm);
+    }
+
+    public boolean isEmpty() {
+        return sets.isEmpty();
+    }
+
+    /**
+     * An unmodifiable view of the digests, keyed by algorithm.
+     */
+    public Map<String, String> asMap() {
+        return Collections.unmodifiableMap(sets);
+    }
+
     public JsonObject build() {
         JsonObjectBuilder builder = Json.createObjectBuilder();
         for (Entry<String, String> entry : sets.entrySet()) {
@@ -51,6 +72,16 @@ public class DigestSet {
         return builder.build();
     }
 
+    public static DigestSet fromJson(JsonObject json) {
+        DigestSet digestSet = new DigestSet();
+        for (Entry<String, JsonValue> entry : json.entrySet()) {
+            if (entry.getValue() instanceof JsonString) {
+                digestSet.put(entry.getKey(), ((JsonString) entry.getValue()).getString());
+            }
+        }
+        return digestSet;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
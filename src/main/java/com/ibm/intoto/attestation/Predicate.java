@@ -16,7 +16,11 @@
 */
 package com.ibm.intoto.attestation;
 
+import java.util.Map.Entry;
+
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * The Predicate is the innermost layer of the attestation, containing arbitrary metadata about the Statement's subject.
@@ -33,4 +37,28 @@ public abstract class Predicate {
      */
     public abstract JsonObject getPredicateParameters();
 
+    /**
+     * Whether this predicate overrides {@link #writeParameters(JsonGenerator)} to emit its parameters incrementally. When true,
+     * {@link Statement#writeTo(java.io.OutputStream)} uses the streaming hook instead of {@link #getPredicateParameters()}, so
+     * the parameters never need to be held in memory as a whole.
+     */
+    public boolean isStreamable() {
+        return false;
+    }
+
+    /**
+     * Writes the additional, type-dependent parameters as members of the predicate JSON object. The object has already been
+     * started on the generator and is ended by the caller, so implementations only write name/value pairs. The default
+     * implementation writes the entries of {@link #getPredicateParameters()}.
+     */
+    public void writeParameters(JsonGenerator generator) {
+        JsonObject predicateParameters = getPredicateParameters();
+        if (predicateParameters == null) {
+            return;
+        }
+        for (Entry<String, JsonValue> entry : predicateParameters.entrySet()) {
+            generator.write(entry.getKey(), entry.getValue());
+        }
+    }
+
 }
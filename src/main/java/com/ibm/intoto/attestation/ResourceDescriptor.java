@@ -16,6 +16,7 @@
 */
 package com.ibm.intoto.attestation;
 
+import com.ibm.intoto.attestation.metrics.Metrics;
 import com.ibm.intoto.attestation.utils.Utils;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
@@ -153,6 +154,21 @@ public class ResourceDescriptor {
         return builder.build();
     }
 
+    public static ResourceDescriptor fromJson(JsonObject json) {
+        Builder builder = new Builder();
+        builder.name(json.getString(KEY_NAME, null));
+        builder.uri(json.getString(KEY_URI, null));
+        JsonObject digestJson = json.getJsonObject(KEY_DIGEST);
+        if (digestJson != null) {
+            builder.digest(DigestSet.fromJson(digestJson));
+        }
+        builder.content(json.getString(KEY_CONTENT, null));
+        builder.downloadLocation(json.getString(KEY_DOWNLOAD_LOCATION, null));
+        builder.mediaType(json.getString(KEY_MEDIA_TYPE, null));
+        builder.annotations(json.getJsonObject(KEY_ANNOTATIONS));
+        return new ResourceDescriptor(builder);
+    }
+
     public static class Builder {
 
         protected String name;
@@ -199,6 +215,7 @@ public class ResourceDescriptor {
         }
 
         public ResourceDescriptor build() throws Exception {
+            Metrics.descriptorCreated();
             return new ResourceDescriptor(this);
         }
     }
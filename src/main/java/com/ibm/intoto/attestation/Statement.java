@@ -16,11 +16,25 @@
 */
 package com.ibm.intoto.attestation;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.ibm.intoto.attestation.custom.predicates.json.JsonPredicate;
+import com.ibm.intoto.attestation.custom.predicates.json.RawJsonPredicate;
 import com.ibm.intoto.attestation.exceptions.StatementValueNullException;
+import com.ibm.intoto.attestation.jfr.JfrEvents;
+import com.ibm.intoto.attestation.metrics.AttestationMetrics;
+import com.ibm.intoto.attestation.metrics.Metrics;
+import com.ibm.intoto.attestation.utils.CountingOutputStream;
+import com.ibm.intoto.attestation.utils.JsonStreamUtils;
 import com.ibm.intoto.attestation.utils.Utils;
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * The Statement is the middle layer of the attestation, binding it to a particular subject and unambiguously identifying the
@@ -35,6 +49,8 @@ public class Statement {
     public static final String KEY_PREDICATE_TYPE = "predicateType";
     public static final String KEY_PREDICATE = "predicate";
 
+    private static final byte[] PREDICATE_ENTRY_PREFIX = (",\"" + KEY_PREDICATE + "\":").getBytes(StandardCharsets.UTF_8);
+
     public static final String TYPE_IN_TOTO_STATEMENT = "https://in-toto.io/Statement/v1";
 
     /**
@@ -66,6 +82,22 @@ public class Statement {
         this.predicate = builder.predicate;
     }
 
+    public String getType() {
+        return type;
+    }
+
+    public Subject getSubject() {
+        return subject;
+    }
+
+    public String getPredicateType() {
+        return predicateType;
+    }
+
+    public Predicate getPredicate() {
+        return predicate;
+    }
+
     public JsonObject toJson() {
         JsonObjectBuilder builder = Json.createObjectBuilder();
         builder.add(KEY_TYPE, type);
@@ -78,6 +110,80 @@ public class Statement {
         return builder.build();
     }
 
+    /**
+     * Writes the same JSON as {@link #toJson()} to the given stream, UTF-8 encoded, without building a JSON tree for the whole
+     * Statement. A {@link RawJsonPredicate} is copied through verbatim rather than being parsed, and is left out when it is an
+     * empty object, as in {@link #toJson()}. A {@link Predicate#isStreamable() streamable} predicate writes its parameters
+     * directly to the output; because it can't be checked for emptiness up front, its {@code predicate} entry is always
+     * written. The stream is flushed but not closed.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        AttestationMetrics metrics = Metrics.get();
+        Object event = JfrEvents.beginStatementSerialization();
+        if (metrics == null && event == null) {
+            write(out);
+            return;
+        }
+        long start = System.nanoTime();
+        CountingOutputStream counted = new CountingOutputStream(out);
+        write(counted);
+        if (metrics != null) {
+            metrics.statementSerialized(counted.getCount(), System.nanoTime() - start);
+        }
+        if (event != null) {
+            JfrEvents.commitStatementSerialization(event, predicateType, subject.size(), counted.getCount());
+        }
+    }
+
+    private void write(OutputStream out) throws IOException {
+        Writer writer = JsonStreamUtils.createWriter(out);
+        writer.write('{');
+        JsonStreamUtils.writeKey(writer, KEY_TYPE);
+        JsonStreamUtils.writeValue(writer, Json.createValue(type));
+        writer.write(',');
+        JsonStreamUtils.writeKey(writer, KEY_SUBJECT);
+        JsonStreamUtils.writeValue(writer, subject.toJson());
+        writer.write(',');
+        JsonStreamUtils.writeKey(writer, KEY_PREDICATE_TYPE);
+        JsonStreamUtils.writeValue(writer, Json.createValue(predicateType));
+        if (predicate instanceof RawJsonPredicate) {
+            writer.flush();
+            ((RawJsonPredicate) predicate).writeIfNotEmpty(out, PREDICATE_ENTRY_PREFIX);
+        } else if (predicate != null && predicate.isStreamable()) {
+            writer.write(',');
+            JsonStreamUtils.writeKey(writer, KEY_PREDICATE);
+            JsonGenerator generator = JsonStreamUtils.createGenerator(writer);
+            generator.writeStartObject();
+            predicate.writeParameters(generator);
+            generator.writeEnd();
+            generator.close();
+        } else if (predicate != null) {
+            JsonObject predicateParameters = predicate.getPredicateParameters();
+            if (predicateParameters != null && !predicateParameters.isEmpty()) {
+                writer.write(',');
+                JsonStreamUtils.writeKey(writer, KEY_PREDICATE);
+                JsonStreamUtils.writeValue(writer, predicateParameters);
+            }
+        }
+        writer.write('}');
+        writer.flush();
+    }
+
+    /**
+     * Reads a Statement back from its JSON form. The predicate, if present, is returned as a {@link JsonPredicate}.
+     */
+    public static Statement fromJson(JsonObject json) throws StatementValueNullException {
+        String type = json.getString(KEY_TYPE, null);
+        JsonArray subject = json.getJsonArray(KEY_SUBJECT);
+        String predicateType = json.getString(KEY_PREDICATE_TYPE, null);
+        Builder builder = new Builder(type, subject == null ? null : Subject.fromJson(subject), predicateType);
+        JsonObject predicateParameters = json.getJsonObject(KEY_PREDICATE);
+        if (predicateParameters != null) {
+            builder.predicate(new JsonPredicate(predicateType, predicateParameters));
+        }
+        return builder.build();
+    }
+
     public static class Builder {
 
         private String type;
@@ -16,9 +16,13 @@
 */
 package com.ibm.intoto.attestation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonValue;
 
 /**
  * Set of software artifacts that the attestation applies to. Each element represents a single software artifact. Each element
@@ -43,10 +47,36 @@ public class Subject {
         this.resourceDescriptors = builder.resourceDescriptors.build();
     }
 
+    private Subject(JsonArray resourceDescriptors) {
+        this.resourceDescriptors = resourceDescriptors;
+    }
+
     public JsonArray toJson() {
         return resourceDescriptors;
     }
 
+    /**
+     * The number of resource descriptors in the subject, without parsing them.
+     */
+    public int size() {
+        return resourceDescriptors.size();
+    }
+
+    /**
+     * Parses the resource descriptors of the subject, for example to compare their digests with artifacts being verified.
+     */
+    public List<ResourceDescriptor> getResourceDescriptors() {
+        List<ResourceDescriptor> descriptors = new ArrayList<>(resourceDescriptors.size());
+        for (JsonValue descriptor : resourceDescriptors) {
+            descriptors.add(ResourceDescriptor.fromJson(descriptor.asJsonObject()));
+        }
+        return descriptors;
+    }
+
+    public static Subject fromJson(JsonArray json) {
+        return new Subject(json);
+    }
+
     public static class Builder {
 
         private JsonArrayBuilder resourceDescriptors = Json.createArrayBuilder();
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.bundle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the subject digests and names found in a bundle to the location of the lines that mention them.
+ * <p>
+ * The index is saved as a binary sidecar file recording the size of the bundle it covers. Because bundles are append-only, an
+ * index for a smaller bundle can be brought up to date by indexing only the lines added after that size. The sidecar also
+ * records where the last indexed line starts and a fingerprint of that line, so that an index of a bundle that has since been
+ * replaced or rewritten is detected, rather than trusted because the new bundle is at least as large.
+ */
+class BundleIndex {
+
+    private static final int MAGIC = 0x69743469; // "it4i"
+    private static final int VERSION = 2;
+
+    // A key is at least its length and its location count, and a location is an offset and a length
+    private static final int KEY_MIN_BYTES = 8;
+    private static final int LOCATION_BYTES = 12;
+
+    private static final String DIGEST_PREFIX = "digest:";
+    private static final String NAME_PREFIX = "name:";
+
+    private final Map<String, List<Location>> locations = new HashMap<>();
+    private long indexedSize;
+    private long lastLineOffset;
+    private byte[] fingerprint = new byte[0];
+    private int lineCount;
+
+    long getIndexedSize() {
+        return indexedSize;
+    }
+
+    /**
+     * Where the last indexed line starts. The line ends at the indexed size.
+     */
+    long getLastLineOffset() {
+        return lastLineOffset;
+    }
+
+    boolean hasFingerprint(byte[] fingerprint) {
+        return Arrays.equals(this.fingerprint, fingerprint);
+    }
+
+    /**
+     * @param fingerprint identifies the content of the last indexed line, which must be the one the index was built from for
+     *            the index to be reused
+     */
+    void setLastLine(long lastLineOffset, byte[] fingerprint) {
+        this.lastLineOffset = lastLineOffset;
+        this.fingerprint = fingerprint.clone();
+    }
+
+    int getLineCount() {
+        return lineCount;
+    }
+
+    void setIndexedSize(long indexedSize) {
+        this.indexedSize = indexedSize;
+    }
+
+    void addLine() {
+        lineCount++;
+    }
+
+    void addDigest(String algorithm, String digest, Location location) {
+        add(DIGEST_PREFIX + algorithm + ":" + digest, location);
+    }
+
+    void addName(String name, Location location) {
+        add(NAME_PREFIX + name, location);
+    }
+
+    List<Location> findByDigest(String algorithm, String digest) {
+        return find(DIGEST_PREFIX + algorithm + ":" + digest);
+    }
+
+    List<Location> findByName(String name) {
+        return find(NAME_PREFIX + name);
+    }
+
+    private void add(String key, Location location) {
+        List<Location> keyLocations = locations.computeIfAbsent(key, k -> new ArrayList<>(1));
+        // A statement listing the same digest twice should still only be returned once
+        if (keyLocations.isEmpty() || !keyLocations.get(keyLocations.size() - 1).equals(location)) {
+            keyLocations.add(location);
+        }
+    }
+
+    private List<Location> find(String key) {
+        List<Location> keyLocations = locations.get(key);
+        return keyLocations == null ? Collections.<Location> emptyList() : Collections.unmodifiableList(keyLocations);
+    }
+
+    void save(Path sidecar) throws IOException {
+        Path temp = sidecar.resolveSibling(sidecar.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(indexedSize);
+            out.writeLong(lastLineOffset);
+            writeBytes(out, fingerprint);
+            out.writeInt(lineCount);
+            out.writeInt(locations.size());
+            for (Map.Entry<String, List<Location>> entry : locations.entrySet()) {
+                // Not writeUTF, which is limited to 64KB and a subject name can be longer
+                writeBytes(out, entry.getKey().getBytes(StandardCharsets.UTF_8));
+                out.writeInt(entry.getValue().size());
+                for (Location location : entry.getValue()) {
+                    out.writeLong(location.offset);
+                    out.writeInt(location.length);
+                }
+            }
+        }
+        // Readers only ever see a complete index
+        Files.move(temp, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a saved index, or returns null if the sidecar doesn't exist or isn't a readable index.
+     */
+    static BundleIndex load(Path sidecar) {
+        if (!Files.isRegularFile(sidecar)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(sidecar)))) {
+            long limit = Files.size(sidecar);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            BundleIndex index = new BundleIndex();
+            index.indexedSize = in.readLong();
+            index.lastLineOffset = in.readLong();
+            index.fingerprint = readBytes(in, limit);
+            index.lineCount = in.readInt();
+            int keyCount = readCount(in, limit, KEY_MIN_BYTES);
+            for (int i = 0; i < keyCount; i++) {
+                String key = new String(readBytes(in, limit), StandardCharsets.UTF_8);
+                int locationCount = readCount(in, limit, LOCATION_BYTES);
+                List<Location> keyLocations = new ArrayList<>(locationCount);
+                for (int j = 0; j < locationCount; j++) {
+                    keyLocations.add(new Location(in.readLong(), in.readInt()));
+                }
+                index.locations.put(key, keyLocations);
+            }
+            return index;
+        } catch (IOException e) {
+            // A damaged sidecar is rebuilt from the bundle
+            return null;
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the number of entries that follow, which can't be more than would fit in the sidecar.
+     */
+    private static int readCount(DataInputStream in, long limit, int entryBytes) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > limit / entryBytes) {
+            // Don't allocate for a count read from a damaged sidecar
+            throw new IOException("A count of " + count + " entries is not valid.");
+        }
+        return count;
+    }
+
+    /**
+     * @param limit the size of the sidecar, which no field can be longer than
+     */
+    private static byte[] readBytes(DataInputStream in, long limit) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > limit) {
+            // Don't allocate for a length read from a damaged sidecar
+            throw new IOException("A field of " + length + " bytes is not valid.");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    static class Location {
+
+        final long offset;
+        final int length;
+
+        Location(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(offset) * 31 + length;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Location)) return false;
+            Location other = (Location) obj;
+            return offset == other.offset && length == other.length;
+        }
+    }
+
+}
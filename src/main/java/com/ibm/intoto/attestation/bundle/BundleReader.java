@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.bundle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.bundle.BundleIndex.Location;
+import com.ibm.intoto.attestation.dsse.DsseEnvelope;
+import com.ibm.intoto.attestation.dsse.exceptions.InvalidDsseEnvelopeException;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Looks up the lines of a JSON Lines attestation bundle by subject digest or subject name without scanning the bundle.
+ * <p>
+ * The index is loaded from a sidecar file next to the bundle when there is one, and otherwise built with a single pass over the
+ * bundle and saved. A sidecar that covers only the start of the bundle is extended by indexing just the newer lines. A sidecar
+ * whose last indexed line no longer matches the bundle, because the bundle was replaced or rewritten, is rebuilt. The bundle
+ * itself is memory-mapped in segments, so fetching a line copies only that line and never reads or parses the others. Lines
+ * holding DSSE envelopes are indexed by the subject of their payload; the envelopes are returned as is so they can be verified
+ * with {@link com.ibm.intoto.attestation.dsse.DsseVerifier}.
+ * <p>
+ * Lines appended after the reader was opened are not visible to it. A final line without a line break is treated as still being
+ * written and is not indexed.
+ */
+public class BundleReader implements AutoCloseable {
+
+    public static final String INDEX_EXTENSION = ".idx";
+
+    static final long SEGMENT_SIZE = 1L << 30;
+
+    private static final int INDEX_BUFFER_SIZE = 64 * 1024;
+
+    private final Path bundlePath;
+    private final FileChannel channel;
+    private final long size;
+    private final BundleIndex index;
+    private final MappedByteBuffer[] segments;
+
+    private BundleReader(Builder builder) throws IOException {
+        this.bundlePath = builder.bundlePath;
+        this.channel = FileChannel.open(bundlePath, StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            BundleIndex loaded = BundleIndex.load(builder.indexPath);
+            if (loaded == null || !matchesBundle(loaded)) {
+                loaded = new BundleIndex();
+            }
+            this.index = loaded;
+            if (index.getIndexedSize() < size) {
+                indexLines(index.getIndexedSize());
+                if (builder.saveIndex) {
+                    index.save(builder.indexPath);
+                }
+            }
+            this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static BundleReader open(Path bundlePath) throws IOException {
+        return new Builder(bundlePath).build();
+    }
+
+    public Path getBundlePath() {
+        return bundlePath;
+    }
+
+    /**
+     * The number of complete lines in the bundle.
+     */
+    public int getLineCount() {
+        return index.getLineCount();
+    }
+
+    /**
+     * Returns every line whose subject contains an artifact with the given digest, in bundle order.
+     */
+    public List<byte[]> findByDigest(String algorithm, String digest) throws IOException {
+        return read(index.findByDigest(algorithm, digest));
+    }
+
+    /**
+     * Returns every line whose subject contains an artifact with the given name, in bundle order.
+     */
+    public List<byte[]> findByName(String name) throws IOException {
+        return read(index.findByName(name));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private List<byte[]> read(List<Location> locations) throws IOException {
+        List<byte[]> lines = new ArrayList<>(locations.size());
+        for (Location location : locations) {
+            lines.add(read(location));
+        }
+        return lines;
+    }
+
+    private byte[] read(Location location) throws IOException {
+        byte[] line = new byte[location.length];
+        int segmentIndex = (int) (location.offset / SEGMENT_SIZE);
+        long segmentStart = segmentIndex * SEGMENT_SIZE;
+        if (location.offset + location.length <= segmentStart + SEGMENT_SIZE) {
+            ByteBuffer segment = getSegment(segmentIndex).duplicate();
+            segment.position((int) (location.offset - segmentStart));
+            segment.get(line);
+        } else {
+            // The rare line that straddles two segments is mapped on its own
+            channel.map(FileChannel.MapMode.READ_ONLY, location.offset, location.length).get(line);
+        }
+        return line;
+    }
+
+    private synchronized MappedByteBuffer getSegment(int segmentIndex) throws IOException {
+        if (segments[segmentIndex] == null) {
+            long start = segmentIndex * SEGMENT_SIZE;
+            segments[segmentIndex] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+        }
+        return segments[segmentIndex];
+    }
+
+    /**
+     * Whether the index was built from the start of this bundle: the bundle is at least as large and still has the same last
+     * indexed line.
+     */
+    private boolean matchesBundle(BundleIndex loaded) throws IOException {
+        if (loaded.getIndexedSize() > size || loaded.getLastLineOffset() > loaded.getIndexedSize()) {
+            return false;
+        }
+        return loaded.getIndexedSize() == 0 || loaded.hasFingerprint(fingerprint(loaded.getLastLineOffset(), loaded.getIndexedSize()));
+    }
+
+    /**
+     * The SHA-256 hash of the bytes from start to end, which is a single line, so only that line is read.
+     */
+    private byte[] fingerprint(long start, long end) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(INDEX_BUFFER_SIZE, end - start));
+        long position = start;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            buffer.flip();
+            digest.update(buffer);
+            position += read;
+        }
+        return digest.digest();
+    }
+
+    private void indexLines(long start) throws IOException {
+        channel.position(start);
+        // Not closed, because closing it would close the channel
+        InputStream in = Channels.newInputStream(channel);
+        byte[] buffer = new byte[INDEX_BUFFER_SIZE];
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        long position = start;
+        long lineStart = start;
+        long lastLineStart = -1;
+        int read;
+        while (position < size && (read = in.read(buffer, 0, (int) Math.min(buffer.length, size - position))) != -1) {
+            int from = 0;
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    line.write(buffer, from, i - from);
+                    long lineEnd = position + i + 1;
+                    indexLine(line.toByteArray(), new Location(lineStart, line.size()));
+                    index.setIndexedSize(lineEnd);
+                    lastLineStart = lineStart;
+                    line.reset();
+                    lineStart = lineEnd;
+                    from = i + 1;
+                }
+            }
+            line.write(buffer, from, read - from);
+            position += read;
+        }
+        if (lastLineStart >= 0) {
+            index.setLastLine(lastLineStart, fingerprint(lastLineStart, index.getIndexedSize()));
+        }
+    }
+
+    private void indexLine(byte[] line, Location location) {
+        index.addLine();
+        JsonArray subject = readSubject(line);
+        if (subject == null) {
+            return;
+        }
+        for (JsonValue descriptor : subject) {
+            if (descriptor.getValueType() != JsonValue.ValueType.OBJECT) {
+                continue;
+            }
+            JsonObject descriptorJson = descriptor.asJsonObject();
+            String name = descriptorJson.getString(ResourceDescriptor.KEY_NAME, null);
+            if (name != null) {
+                index.addName(name, location);
+            }
+            JsonValue digest = descriptorJson.get(ResourceDescriptor.KEY_DIGEST);
+            if (digest != null && digest.getValueType() == JsonValue.ValueType.OBJECT) {
+                for (Map.Entry<String, JsonValue> entry : digest.asJsonObject().entrySet()) {
+                    if (entry.getValue() instanceof JsonString) {
+                        index.addDigest(entry.getKey(), ((JsonString) entry.getValue()).getString(), location);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the subject of the Statement on the line, unwrapping a DSSE envelope if needed, or null if the line isn't one.
+     */
+    private JsonArray readSubject(byte[] line) {
+        try {
+            JsonObject json = readObject(line);
+            if (json.containsKey(DsseEnvelope.KEY_PAYLOAD) && json.containsKey(DsseEnvelope.KEY_SIGNATURES)) {
+                json = readObject(DsseEnvelope.fromJson(json).getPayload());
+            }
+            JsonValue subject = json.get(Statement.KEY_SUBJECT);
+            return subject != null && subject.getValueType() == JsonValue.ValueType.ARRAY ? subject.asJsonArray() : null;
+        } catch (JsonException | InvalidDsseEnvelopeException e) {
+            // Blank or foreign lines don't stop the rest of the bundle from being indexed
+            return null;
+        }
+    }
+
+    private JsonObject readObject(byte[] json) {
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(json))) {
+            return reader.readObject();
+        }
+    }
+
+    public static class Builder {
+
+        private Path bundlePath;
+        private Path indexPath;
+        private boolean saveIndex = true;
+
+        public Builder(Path bundlePath) {
+            this.bundlePath = bundlePath;
+            this.indexPath = bundlePath.resolveSibling(bundlePath.getFileName() + INDEX_EXTENSION);
+        }
+
+        /**
+         * Where the index sidecar is loaded from and saved to. Defaults to the bundle path with {@value BundleReader#INDEX_EXTENSION} appended.
+         */
+        public Builder indexPath(Path indexPath) {
+            this.indexPath = indexPath;
+            return this;
+        }
+
+        /**
+         * Whether an index that had to be built or extended is saved to the sidecar. Defaults to true.
+         */
+        public Builder saveIndex(boolean saveIndex) {
+            this.saveIndex = saveIndex;
+            return this;
+        }
+
+        public BundleReader build() throws IOException {
+            return new BundleReader(this);
+        }
+    }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.bundle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.bundle.exceptions.BundleWriterClosedException;
+import com.ibm.intoto.attestation.dsse.DsseSigner;
+import com.ibm.intoto.attestation.dsse.exceptions.DsseSigningException;
+
+/**
+ * Appends serialized Statements or DSSE envelopes to a JSON Lines attestation bundle, one document per line, from any number of
+ * producer threads.
+ * <p>
+ * Producers serialize on their own thread and hand the bytes to a bounded queue; no lock is held while they serialize and the
+ * queue is only locked for the hand-off. A single writer thread drains whatever has been queued, writes it to the
+ * {@link FileChannel} with one gathering write and forces it to disk once for the whole batch (group commit). The future returned
+ * by each append completes with the byte offset of the line once the batch holding it is durable. If a batch can't be written,
+ * the bundle is truncated back to where the batch started and every pending append fails.
+ * <p>
+ * JSON Lines can't hold line breaks inside a document. Outside of strings, line breaks in JSON are insignificant whitespace, and
+ * inside strings they must be escaped, so any CR or LF byte in an appended document is replaced with a space.
+ */
+public class BundleWriter implements AutoCloseable {
+
+    public static final String FILE_EXTENSION = ".intoto.jsonl";
+
+    private static final byte NEWLINE = '\n';
+    private static final long POLL_MILLIS = 100;
+
+    private final Path bundlePath;
+    private final FileChannel channel;
+    private final BlockingQueue<PendingLine> queue;
+    private final int maxBatchSize;
+    private final boolean sync;
+    private final Thread writerThread;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private BundleWriter(Builder builder) throws IOException {
+        this.bundlePath = builder.bundlePath;
+        this.channel = FileChannel.open(bundlePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        this.maxBatchSize = builder.maxBatchSize;
+        this.sync = builder.sync;
+        this.writerThread = new Thread(this::writeBatches, "intoto4j-bundle-writer-" + bundlePath.getFileName());
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public Path getBundlePath() {
+        return bundlePath;
+    }
+
+    /**
+     * Appends an unsigned Statement.
+     */
+    public CompletableFuture<Long> append(Statement statement) throws IOException, InterruptedException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+        return append(out.toByteArray());
+    }
+
+    /**
+     * Appends the Statement wrapped in a DSSE envelope signed by the signer.
+     */
+    public CompletableFuture<Long> append(Statement statement, DsseSigner signer) throws IOException, DsseSigningException, InterruptedException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        signer.sign(statement, out);
+        return append(out.toByteArray());
+    }
+
+    /**
+     * Appends an already serialized JSON document. Line breaks are replaced with spaces in a copy of the array, so the caller's
+     * array is never changed, but an array without line breaks is queued as it is and must not be modified by the caller until
+     * the returned future completes. Blocks while the queue is full.
+     */
+    public CompletableFuture<Long> append(byte[] json) throws IOException, InterruptedException {
+        checkOpen();
+        PendingLine line = new PendingLine(toSingleLine(json));
+        while (!queue.offer(line, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            checkOpen();
+        }
+        // If the writer stopped while the line was being queued, nothing else will take it off the queue
+        if ((closed || failure != null) && queue.remove(line)) {
+            line.future.completeExceptionally(new BundleWriterClosedException(bundlePath.toString(), failure));
+        }
+        return line.future;
+    }
+
+    /**
+     * Returns the JSON with its line breaks replaced with spaces, copying the array only if it has any.
+     */
+    private static byte[] toSingleLine(byte[] json) {
+        byte[] line = json;
+        for (int i = 0; i < json.length; i++) {
+            if (json[i] == '\n' || json[i] == '\r') {
+                if (line == json) {
+                    line = json.clone();
+                }
+                line[i] = ' ';
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Stops accepting lines, waits for everything already queued to be written and forced to disk, then closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed || failure != null) {
+            throw new BundleWriterClosedException(bundlePath.toString(), failure);
+        }
+    }
+
+    private void writeBatches() {
+        List<PendingLine> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (true) {
+                PendingLine first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                writeBatch(batch);
+                batch.clear();
+            }
+        } catch (IOException e) {
+            failure = e;
+            failAll(batch, e);
+        } catch (InterruptedException e) {
+            failure = new BundleWriterClosedException(bundlePath.toString(), e);
+            failAll(batch, failure);
+        } finally {
+            // Anything still queued can no longer be written
+            List<PendingLine> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            failAll(remaining, new BundleWriterClosedException(bundlePath.toString(), failure));
+        }
+    }
+
+    private void writeBatch(List<PendingLine> batch) throws IOException {
+        ByteBuffer newline = ByteBuffer.wrap(new byte[] { NEWLINE });
+        ByteBuffer[] buffers = new ByteBuffer[batch.size() * 2];
+        long start = channel.size();
+        long offset = start;
+        long[] offsets = new long[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            byte[] json = batch.get(i).json;
+            offsets[i] = offset;
+            offset += json.length + 1;
+            buffers[2 * i] = ByteBuffer.wrap(json);
+            buffers[2 * i + 1] = newline.duplicate();
+        }
+        try {
+            long remaining = offset - start;
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            discardPartialBatch(start, e);
+            throw e;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(offsets[i]);
+        }
+    }
+
+    /**
+     * Cuts the bundle back to where the failed batch started, so that it doesn't end with part of a line that readers would
+     * take as still being written and the next writer would append to.
+     */
+    private void discardPartialBatch(long start, IOException failure) {
+        try {
+            if (channel.size() > start) {
+                channel.truncate(start);
+                if (sync) {
+                    channel.force(false);
+                }
+            }
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private void failAll(List<PendingLine> lines, IOException e) {
+        for (PendingLine line : lines) {
+            line.future.completeExceptionally(e);
+        }
+    }
+
+    private static class PendingLine {
+
+        final byte[] json;
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        PendingLine(byte[] json) {
+            this.json = json;
+        }
+    }
+
+    public static class Builder {
+
+        private Path bundlePath;
+        private int queueCapacity = 4096;
+        private int maxBatchSize = 1024;
+        private boolean sync = true;
+
+        public Builder(Path bundlePath) {
+            this.bundlePath = bundlePath;
+        }
+
+        /**
+         * The number of lines that can be waiting to be written before producers block.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("The queue capacity must be at least 1 but was " + queueCapacity + ".");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * The largest number of lines written and forced to disk together.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("The maximum batch size must be at least 1 but was " + maxBatchSize + ".");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Whether each batch is forced to disk before its appends complete. Defaults to true.
+         */
+        public Builder sync(boolean sync) {
+            this.sync = sync;
+            return this;
+        }
+
+        public BundleWriter build() throws IOException {
+            return new BundleWriter(this);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.bundle.exceptions;
+
+import java.io.IOException;
+
+public class BundleWriterClosedException extends IOException {
+
+    private static final String ERROR_MSG = "The writer for the [%s] bundle is closed.";
+
+    public BundleWriterClosedException(String bundlePath) {
+        super(String.format(ERROR_MSG, bundlePath));
+    }
+
+    public BundleWriterClosedException(String bundlePath, Throwable t) {
+        super(String.format(ERROR_MSG, bundlePath), t);
+    }
+
+}
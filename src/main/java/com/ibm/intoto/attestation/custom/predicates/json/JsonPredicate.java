@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.json;
+
+import com.ibm.intoto.attestation.Predicate;
+import jakarta.json.JsonObject;
+
+/**
+ * A Predicate of any type whose parameters are held as a JSON object, for example one read back from a serialized Statement.
+ */
+public class JsonPredicate extends Predicate {
+
+    private final String predicateType;
+    private final JsonObject predicateParameters;
+
+    public JsonPredicate(String predicateType, JsonObject predicateParameters) {
+        this.predicateType = predicateType;
+        this.predicateParameters = predicateParameters;
+    }
+
+    @Override
+    public String getPredicateType() {
+        return predicateType;
+    }
+
+    @Override
+    public JsonObject getPredicateParameters() {
+        return predicateParameters;
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+
+import com.ibm.intoto.attestation.Predicate;
+import com.ibm.intoto.attestation.custom.predicates.json.exceptions.InvalidJsonPredicateException;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * A Predicate whose parameters are already serialized as a JSON object, for example an SBOM or provenance document on disk.
+ * <p>
+ * {@link com.ibm.intoto.attestation.Statement#writeTo(OutputStream)} copies the bytes through verbatim without building a JSON
+ * tree. When validation is enabled, the bytes are checked with a streaming parser while they are copied. The JSON must be UTF-8
+ * encoded. {@link #getPredicateParameters()} still parses the whole document, so it should only be used for small parameters.
+ * <p>
+ * A predicate backed by a {@link ReadableByteChannel} can only be read once; the channel is closed after it has been read.
+ */
+public class RawJsonPredicate extends Predicate {
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final String predicateType;
+    private final byte[] json;
+    private final File file;
+    private ReadableByteChannel channel;
+    private final boolean validate;
+
+    public RawJsonPredicate(String predicateType, byte[] json, boolean validate) {
+        this(predicateType, json, null, null, validate);
+    }
+
+    public RawJsonPredicate(String predicateType, File file, boolean validate) {
+        this(predicateType, null, file, null, validate);
+    }
+
+    public RawJsonPredicate(String predicateType, ReadableByteChannel channel, boolean validate) {
+        this(predicateType, null, null, channel, validate);
+    }
+
+    private RawJsonPredicate(String predicateType, byte[] json, File file, ReadableByteChannel channel, boolean validate) {
+        this.predicateType = predicateType;
+        this.json = json;
+        this.file = file;
+        this.channel = channel;
+        this.validate = validate;
+    }
+
+    @Override
+    public String getPredicateType() {
+        return predicateType;
+    }
+
+    /**
+     * Parses the raw JSON into a tree. Prefer {@link #writeTo(OutputStream)} for large documents.
+     */
+    @Override
+    public JsonObject getPredicateParameters() {
+        try (JsonReader reader = Json.createReader(openStream())) {
+            return reader.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isValidated() {
+        return validate;
+    }
+
+    /**
+     * Copies the raw JSON to the given stream without closing it. If validation is enabled and the JSON is not a single valid
+     * object, an {@link InvalidJsonPredicateException} is thrown; anything already copied at that point must be discarded.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        try (InputStream in = openStream()) {
+            writeJson(in, out);
+        }
+    }
+
+    /**
+     * Copies the raw JSON as {@link #writeTo(OutputStream)} does, after the given prefix, unless the JSON is an empty object,
+     * in which case nothing is written. This lets a Statement leave out an empty predicate as
+     * {@link com.ibm.intoto.attestation.Statement#toJson()} does, without reading the JSON twice.
+     *
+     * @return whether the prefix and the JSON were written
+     */
+    public boolean writeIfNotEmpty(OutputStream out, byte[] prefix) throws IOException {
+        try (InputStream in = openStream()) {
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            if (isEmptyObject(in, head)) {
+                return false;
+            }
+            out.write(prefix);
+            writeJson(new SequenceInputStream(new ByteArrayInputStream(head.toByteArray()), in), out);
+            return true;
+        }
+    }
+
+    /**
+     * Reads the stream up to the first byte that shows whether the JSON is an empty object, keeping what was read in the head.
+     * The stream is only read to its end if the object is empty, and then the only bytes after the object are whitespace.
+     */
+    private static boolean isEmptyObject(InputStream in, ByteArrayOutputStream head) throws IOException {
+        int b = readSignificant(in, head);
+        if (b != '{') {
+            return false;
+        }
+        if (readSignificant(in, head) != '}') {
+            return false;
+        }
+        return readSignificant(in, head) == -1;
+    }
+
+    /**
+     * Reads past whitespace, returning the first other byte, or -1 at the end of the stream.
+     */
+    private static int readSignificant(InputStream in, ByteArrayOutputStream head) throws IOException {
+        int b;
+        do {
+            b = in.read();
+            if (b != -1) {
+                head.write(b);
+            }
+        } while (b == ' ' || b == '\t' || b == '\n' || b == '\r');
+        return b;
+    }
+
+    private void writeJson(InputStream in, OutputStream out) throws IOException {
+        if (!validate) {
+            copy(in, out);
+            return;
+        }
+        TeeInputStream tee = new TeeInputStream(in, out);
+        try (JsonParser parser = Json.createParser(tee)) {
+            if (!parser.hasNext() || parser.next() != Event.START_OBJECT) {
+                throw new InvalidJsonPredicateException("the JSON value is not an object");
+            }
+            // hasNext() also rejects anything other than whitespace after the object
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        } catch (JsonException e) {
+            throw new InvalidJsonPredicateException(e);
+        }
+        // The parser may stop before EOF; copy whatever trailing whitespace it didn't consume
+        copy(in, out);
+    }
+
+    private InputStream openStream() throws IOException {
+        if (json != null) {
+            return new ByteArrayInputStream(json);
+        }
+        if (file != null) {
+            return Files.newInputStream(file.toPath());
+        }
+        synchronized (this) {
+            if (channel == null) {
+                throw new IllegalStateException("The channel for the " + predicateType + " predicate has already been read.");
+            }
+            InputStream in = Channels.newInputStream(channel);
+            channel = null;
+            return in;
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    /**
+     * Copies every byte that the validating parser reads to the output stream, so the JSON is validated and written in one pass.
+     */
+    private static class TeeInputStream extends FilterInputStream {
+
+        private final OutputStream out;
+
+        TeeInputStream(InputStream in, OutputStream out) {
+            super(in);
+            this.out = out;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b != -1) {
+                out.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            if (read > 0) {
+                out.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes would be missing from the output
+            return 0;
+        }
+
+        @Override
+        public void close() {
+            // The underlying stream is closed by writeTo
+        }
+    }
+
+}
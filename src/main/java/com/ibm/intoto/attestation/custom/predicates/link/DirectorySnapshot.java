@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.link;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.FileResourceDescriptor;
+import com.ibm.intoto.attestation.digest.FileStat;
+
+/**
+ * The files found in a directory at a point in time, each with the stat data it had and its FileResourceDescriptor. A later
+ * snapshot of the same directory reuses the descriptor of any file whose stat data has not changed.
+ */
+public class DirectorySnapshot {
+
+    private final Path directory;
+    private final long startedAt;
+    private final SortedMap<String, Entry> entries;
+    private final int hashedCount;
+
+    DirectorySnapshot(Path directory, long startedAt, SortedMap<String, Entry> entries, int hashedCount) {
+        this.directory = directory;
+        this.startedAt = startedAt;
+        this.entries = Collections.unmodifiableSortedMap(entries);
+        this.hashedCount = hashedCount;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The descriptors for the files in the directory, ordered by their path relative to the directory.
+     */
+    public List<FileResourceDescriptor> getDescriptors() {
+        List<FileResourceDescriptor> descriptors = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            descriptors.add(entry.descriptor);
+        }
+        return descriptors;
+    }
+
+    public FileResourceDescriptor getDescriptor(String relativePath) {
+        Entry entry = entries.get(relativePath);
+        return entry == null ? null : entry.descriptor;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * The number of files that had to be hashed for this snapshot, as opposed to reusing a digest from an earlier snapshot.
+     */
+    public int getHashedCount() {
+        return hashedCount;
+    }
+
+    long getStartedAt() {
+        return startedAt;
+    }
+
+    Entry getEntry(String relativePath) {
+        return entries.get(relativePath);
+    }
+
+    static class Entry {
+
+        final FileStat stat;
+        final FileResourceDescriptor descriptor;
+
+        Entry(FileStat stat, FileResourceDescriptor descriptor) {
+            this.stat = stat;
+            this.descriptor = descriptor;
+        }
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.link;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibm.intoto.attestation.Predicate;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.utils.Utils;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * The in-toto Link predicate, recording the materials a single supply chain step used and the command it ran. The products of
+ * the step are the subject of the enclosing Statement.
+ * <p>
+ * See https://github.com/in-toto/attestation/blob/main/spec/predicates/link.md.
+ */
+public class LinkPredicate extends Predicate {
+
+    public static final String PREDICATE_TYPE = "https://in-toto.io/attestation/link/v0.3";
+
+    public static final String KEY_NAME = "name";
+    public static final String KEY_COMMAND = "command";
+    public static final String KEY_MATERIALS = "materials";
+    public static final String KEY_BYPRODUCTS = "byproducts";
+    public static final String KEY_ENVIRONMENT = "environment";
+
+    /**
+     * Name of the step. When used with an in-toto layout, the name MUST match the step name in the layout.
+     */
+    private String name;
+
+    /**
+     * The command that was executed for the step, one element per argument.
+     */
+    private List<String> command;
+
+    /**
+     * The artifacts that were used by the step.
+     */
+    private Iterable<? extends ResourceDescriptor> materials;
+
+    /**
+     * Information about the step that is not an artifact, such as its standard output or return value.
+     */
+    private JsonObject byproducts;
+
+    /**
+     * Information about the environment in which the step was carried out.
+     */
+    private JsonObject environment;
+
+    private LinkPredicate(Builder builder) {
+        this.name = builder.name;
+        this.command = builder.command;
+        this.materials = builder.materials;
+        this.byproducts = builder.byproducts;
+        this.environment = builder.environment;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getCommand() {
+        return command;
+    }
+
+    public Iterable<? extends ResourceDescriptor> getMaterials() {
+        return materials;
+    }
+
+    @Override
+    public String getPredicateType() {
+        return PREDICATE_TYPE;
+    }
+
+    @Override
+    public JsonObject getPredicateParameters() {
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        Utils.addIfNonNullAndNotEmpty(name, KEY_NAME, builder);
+        if (command != null && !command.isEmpty()) {
+            builder.add(KEY_COMMAND, Json.createArrayBuilder(command));
+        }
+        if (materials != null) {
+            JsonArrayBuilder materialsBuilder = Json.createArrayBuilder();
+            for (ResourceDescriptor material : materials) {
+                materialsBuilder.add(material.toJson());
+            }
+            Utils.addIfNonNullAndNotEmpty(materialsBuilder.build(), KEY_MATERIALS, builder);
+        }
+        Utils.addIfNonNullAndNotEmpty(byproducts, KEY_BYPRODUCTS, builder);
+        Utils.addIfNonNullAndNotEmpty(environment, KEY_ENVIRONMENT, builder);
+        return builder.build();
+    }
+
+    @Override
+    public boolean isStreamable() {
+        return true;
+    }
+
+    @Override
+    public void writeParameters(JsonGenerator generator) {
+        if (name != null && !name.isEmpty()) {
+            generator.write(KEY_NAME, name);
+        }
+        if (command != null && !command.isEmpty()) {
+            generator.writeStartArray(KEY_COMMAND);
+            for (String argument : command) {
+                generator.write(argument);
+            }
+            generator.writeEnd();
+        }
+        if (materials != null && materials.iterator().hasNext()) {
+            generator.writeStartArray(KEY_MATERIALS);
+            for (ResourceDescriptor material : materials) {
+                generator.write(material.toJson());
+            }
+            generator.writeEnd();
+        }
+        if (byproducts != null && !byproducts.isEmpty()) {
+            generator.write(KEY_BYPRODUCTS, byproducts);
+        }
+        if (environment != null && !environment.isEmpty()) {
+            generator.write(KEY_ENVIRONMENT, environment);
+        }
+    }
+
+    public static class Builder {
+
+        private String name;
+        private List<String> command;
+        private Iterable<? extends ResourceDescriptor> materials;
+        private JsonObject byproducts;
+        private JsonObject environment;
+
+        public Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder command(List<String> command) {
+            this.command = command == null ? null : new ArrayList<>(command);
+            return this;
+        }
+
+        public Builder materials(Iterable<? extends ResourceDescriptor> materials) {
+            this.materials = materials;
+            return this;
+        }
+
+        public Builder byproducts(JsonObject byproducts) {
+            this.byproducts = byproducts;
+            return this;
+        }
+
+        public Builder environment(JsonObject environment) {
+            this.environment = environment;
+            return this;
+        }
+
+        public LinkPredicate build() {
+            return new LinkPredicate(this);
+        }
+    }
+
+}
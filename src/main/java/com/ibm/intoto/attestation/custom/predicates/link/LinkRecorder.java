@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.link;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.custom.predicates.link.DirectorySnapshot.Entry;
+import com.ibm.intoto.attestation.custom.predicates.link.exceptions.LinkRecordingException;
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.FileResourceDescriptor;
+import com.ibm.intoto.attestation.digest.Cancellation;
+import com.ibm.intoto.attestation.digest.DigestEngine;
+import com.ibm.intoto.attestation.digest.FileStat;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
+
+/**
+ * Records the materials and products of a supply chain step as in-toto Link metadata.
+ * <p>
+ * {@link #recordMaterials(Path)} snapshots a directory before the step runs and {@link #recordProducts(Path, DirectorySnapshot)}
+ * snapshots it afterwards. Files are hashed in parallel by a {@link DigestEngine}. When recording products, a file whose size, modification time and file
+ * key are unchanged since the materials snapshot keeps its material digest instead of being hashed again. A file that was
+ * {@linkplain FileStat#isRacy(long) racy} at the start of the materials snapshot is always rehashed, because a coarse timestamp
+ * can't show whether it changed after it was hashed.
+ */
+public class LinkRecorder {
+
+    private final String name;
+    private final List<String> command;
+    private final DigestEngine digestEngine;
+
+    private LinkRecorder(Builder builder) {
+        this.name = builder.name;
+        this.command = builder.command;
+        this.digestEngine = builder.digestEngine != null ? builder.digestEngine : DigestEngine.getDefault();
+    }
+
+    public DirectorySnapshot recordMaterials(Path directory) throws LinkRecordingException {
+        return snapshot(directory, null);
+    }
+
+    public DirectorySnapshot recordProducts(Path directory, DirectorySnapshot materials) throws LinkRecordingException {
+        return snapshot(directory, materials);
+    }
+
+    /**
+     * Creates the Link predicate for the step, listing the recorded materials.
+     */
+    public LinkPredicate buildPredicate(DirectorySnapshot materials) {
+        return new LinkPredicate.Builder(name).command(command).materials(materials.getDescriptors()).build();
+    }
+
+    /**
+     * Creates the Statement subject for the step, listing the recorded products.
+     */
+    public Subject buildSubject(DirectorySnapshot products) {
+        Subject.Builder builder = new Subject.Builder();
+        for (FileResourceDescriptor product : products.getDescriptors()) {
+            builder.resourceDescriptor(product);
+        }
+        return builder.build();
+    }
+
+    private DirectorySnapshot snapshot(Path directory, DirectorySnapshot previous) throws LinkRecordingException {
+        long startedAt = System.currentTimeMillis();
+        Map<String, BasicFileAttributes> files;
+        try {
+            files = listFiles(directory);
+        } catch (IOException e) {
+            throw new LinkRecordingException(directory.toString(), e);
+        }
+
+        TreeMap<String, Entry> entries = new TreeMap<>();
+        Map<String, Path> pending = new LinkedHashMap<>();
+        for (Map.Entry<String, BasicFileAttributes> file : files.entrySet()) {
+            String relativePath = file.getKey();
+            FileStat stat = FileStat.of(file.getValue());
+            FileResourceDescriptor reusable = findReusableDescriptor(previous, relativePath, stat);
+            if (reusable == null) {
+                pending.put(relativePath, directory.resolve(relativePath));
+            }
+            entries.put(relativePath, new Entry(stat, reusable));
+        }
+        SortedMap<String, DigestSet> digests;
+        try {
+            digests = digestEngine.digestFiles(pending, Cancellation.NONE);
+        } catch (DigestCalculationException | DigestCancelledException e) {
+            throw new LinkRecordingException(directory.toString(), e);
+        }
+        for (Map.Entry<String, DigestSet> hashed : digests.entrySet()) {
+            Entry entry = entries.get(hashed.getKey());
+            entries.put(hashed.getKey(), new Entry(entry.stat, new FileResourceDescriptor(hashed.getKey(), hashed.getValue())));
+        }
+        return new DirectorySnapshot(directory, startedAt, entries, pending.size());
+    }
+
+    private FileResourceDescriptor findReusableDescriptor(DirectorySnapshot previous, String relativePath, FileStat stat) {
+        if (previous == null) {
+            return null;
+        }
+        Entry entry = previous.getEntry(relativePath);
+        if (entry == null || !stat.isUnchangedSince(entry.stat, previous.getStartedAt())) {
+            return null;
+        }
+        return entry.descriptor;
+    }
+
+    /**
+     * Lists the regular files under the directory by their path relative to it, always using '/' as the separator.
+     */
+    private Map<String, BasicFileAttributes> listFiles(Path directory) throws IOException {
+        Map<String, BasicFileAttributes> files = new TreeMap<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isRegularFile()) {
+                    List<String> segments = new ArrayList<>();
+                    for (Path segment : directory.relativize(file)) {
+                        segments.add(segment.toString());
+                    }
+                    files.put(String.join("/", segments), attributes);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files;
+    }
+
+    public static class Builder {
+
+        private String name;
+        private List<String> command;
+        private DigestEngine digestEngine;
+
+        public Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder command(List<String> command) {
+            this.command = command;
+            return this;
+        }
+
+        /**
+         * The engine that hashes the files, which sets the {@link DigestSet} algorithms and how many files are hashed at once.
+         * Defaults to {@link DigestEngine#getDefault()}. The engine is not closed by the recorder.
+         */
+        public Builder digestEngine(DigestEngine digestEngine) {
+            this.digestEngine = digestEngine;
+            return this;
+        }
+
+        public LinkRecorder build() {
+            return new LinkRecorder(this);
+        }
+    }
+
+}
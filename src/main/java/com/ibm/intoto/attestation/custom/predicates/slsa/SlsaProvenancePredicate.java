@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.slsa;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import com.ibm.intoto.attestation.Predicate;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.custom.predicates.slsa.exceptions.ProvenanceValueNullException;
+import com.ibm.intoto.attestation.utils.Utils;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * SLSA Provenance v1 predicate, describing how an artifact was produced.
+ * <p>
+ * The {@code resolvedDependencies}, {@code byproducts} and {@code builderDependencies} lists are held as {@link Iterable}s and are
+ * only walked when the predicate is serialized. When written through {@link com.ibm.intoto.attestation.Statement#writeTo} each
+ * descriptor is converted and written one at a time, so very large dependency lists never exist as a single JSON tree. Lists
+ * supplied as a {@link Stream} can only be serialized once.
+ * <p>
+ * See https://slsa.dev/spec/v1.0/provenance.
+ */
+public class SlsaProvenancePredicate extends Predicate {
+
+    public static final String PREDICATE_TYPE = "https://slsa.dev/provenance/v1";
+
+    public static final String KEY_BUILD_DEFINITION = "buildDefinition";
+    public static final String KEY_BUILD_TYPE = "buildType";
+    public static final String KEY_EXTERNAL_PARAMETERS = "externalParameters";
+    public static final String KEY_INTERNAL_PARAMETERS = "internalParameters";
+    public static final String KEY_RESOLVED_DEPENDENCIES = "resolvedDependencies";
+    public static final String KEY_RUN_DETAILS = "runDetails";
+    public static final String KEY_BUILDER = "builder";
+    public static final String KEY_BUILDER_ID = "id";
+    public static final String KEY_BUILDER_DEPENDENCIES = "builderDependencies";
+    public static final String KEY_BUILDER_VERSION = "version";
+    public static final String KEY_METADATA = "metadata";
+    public static final String KEY_INVOCATION_ID = "invocationId";
+    public static final String KEY_STARTED_ON = "startedOn";
+    public static final String KEY_FINISHED_ON = "finishedOn";
+    public static final String KEY_BYPRODUCTS = "byproducts";
+
+    /**
+     * URI indicating the template for how to perform the build and how to interpret the parameters and dependencies.
+     */
+    private String buildType;
+
+    /**
+     * The parameters that are under external control, such as those set by a user or tenant of the build platform.
+     */
+    private JsonObject externalParameters;
+
+    /**
+     * The parameters that are under the control of the entity represented by the builder ID.
+     */
+    private JsonObject internalParameters;
+
+    /**
+     * Unordered collection of artifacts needed at build time.
+     */
+    private Iterable<? extends ResourceDescriptor> resolvedDependencies;
+
+    /**
+     * URI indicating the transitive closure of the trusted build platform.
+     */
+    private String builderId;
+
+    /**
+     * Dependencies used by the orchestrator that are not run within the workload.
+     */
+    private Iterable<? extends ResourceDescriptor> builderDependencies;
+
+    /**
+     * Map of names of components of the build platform to their version.
+     */
+    private Map<String, String> builderVersion;
+
+    /**
+     * Identifies this particular build invocation, which can be useful for finding associated logs or other ad-hoc analysis.
+     */
+    private String invocationId;
+
+    /**
+     * The timestamp of when the build started.
+     */
+    private Instant startedOn;
+
+    /**
+     * The timestamp of when the build completed.
+     */
+    private Instant finishedOn;
+
+    /**
+     * Additional artifacts generated during the build that are not considered the "output" of the build.
+     */
+    private Iterable<? extends ResourceDescriptor> byproducts;
+
+    private SlsaProvenancePredicate(Builder builder) {
+        this.buildType = builder.buildType;
+        this.externalParameters = builder.externalParameters;
+        this.internalParameters = builder.internalParameters;
+        this.resolvedDependencies = builder.resolvedDependencies;
+        this.builderId = builder.builderId;
+        this.builderDependencies = builder.builderDependencies;
+        this.builderVersion = builder.builderVersion == null ? null : new LinkedHashMap<>(builder.builderVersion);
+        this.invocationId = builder.invocationId;
+        this.startedOn = builder.startedOn;
+        this.finishedOn = builder.finishedOn;
+        this.byproducts = builder.byproducts;
+    }
+
+    @Override
+    public String getPredicateType() {
+        return PREDICATE_TYPE;
+    }
+
+    /**
+     * Builds the whole predicate as a JSON tree. Prefer {@link com.ibm.intoto.attestation.Statement#writeTo} for provenance with
+     * many dependencies.
+     */
+    @Override
+    public JsonObject getPredicateParameters() {
+        JsonObjectBuilder buildDefinition = Json.createObjectBuilder();
+        buildDefinition.add(KEY_BUILD_TYPE, buildType);
+        buildDefinition.add(KEY_EXTERNAL_PARAMETERS, externalParameters);
+        Utils.addIfNonNullAndNotEmpty(internalParameters, KEY_INTERNAL_PARAMETERS, buildDefinition);
+        addDescriptors(resolvedDependencies, KEY_RESOLVED_DEPENDENCIES, buildDefinition);
+
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        builder.add(KEY_BUILDER_ID, builderId);
+        addDescriptors(builderDependencies, KEY_BUILDER_DEPENDENCIES, builder);
+        Utils.addIfNonNullAndNotEmpty(builderVersion, KEY_BUILDER_VERSION, builder);
+
+        JsonObjectBuilder runDetails = Json.createObjectBuilder();
+        runDetails.add(KEY_BUILDER, builder);
+        Utils.addIfNonNullAndNotEmpty(buildMetadata(), KEY_METADATA, runDetails);
+        addDescriptors(byproducts, KEY_BYPRODUCTS, runDetails);
+
+        JsonObjectBuilder predicate = Json.createObjectBuilder();
+        predicate.add(KEY_BUILD_DEFINITION, buildDefinition);
+        predicate.add(KEY_RUN_DETAILS, runDetails);
+        return predicate.build();
+    }
+
+    @Override
+    public boolean isStreamable() {
+        return true;
+    }
+
+    @Override
+    public void writeParameters(JsonGenerator generator) {
+        generator.writeStartObject(KEY_BUILD_DEFINITION);
+        generator.write(KEY_BUILD_TYPE, buildType);
+        generator.write(KEY_EXTERNAL_PARAMETERS, externalParameters);
+        if (internalParameters != null && !internalParameters.isEmpty()) {
+            generator.write(KEY_INTERNAL_PARAMETERS, internalParameters);
+        }
+        writeDescriptors(resolvedDependencies, KEY_RESOLVED_DEPENDENCIES, generator);
+        generator.writeEnd();
+
+        generator.writeStartObject(KEY_RUN_DETAILS);
+        generator.writeStartObject(KEY_BUILDER);
+        generator.write(KEY_BUILDER_ID, builderId);
+        writeDescriptors(builderDependencies, KEY_BUILDER_DEPENDENCIES, generator);
+        if (builderVersion != null && !builderVersion.isEmpty()) {
+            generator.writeStartObject(KEY_BUILDER_VERSION);
+            for (Entry<String, String> entry : builderVersion.entrySet()) {
+                generator.write(entry.getKey(), entry.getValue());
+            }
+            generator.writeEnd();
+        }
+        generator.writeEnd();
+        JsonObject metadata = buildMetadata();
+        if (!metadata.isEmpty()) {
+            generator.write(KEY_METADATA, metadata);
+        }
+        writeDescriptors(byproducts, KEY_BYPRODUCTS, generator);
+        generator.writeEnd();
+    }
+
+    private JsonObject buildMetadata() {
+        JsonObjectBuilder metadata = Json.createObjectBuilder();
+        Utils.addIfNonNullAndNotEmpty(invocationId, KEY_INVOCATION_ID, metadata);
+        if (startedOn != null) {
+            metadata.add(KEY_STARTED_ON, startedOn.toString());
+        }
+        if (finishedOn != null) {
+            metadata.add(KEY_FINISHED_ON, finishedOn.toString());
+        }
+        return metadata.build();
+    }
+
+    private void addDescriptors(Iterable<? extends ResourceDescriptor> descriptors, String key, JsonObjectBuilder builder) {
+        if (descriptors == null) {
+            return;
+        }
+        JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
+        for (ResourceDescriptor descriptor : descriptors) {
+            JsonObject descriptorJson = descriptor.toJson();
+            if (!descriptorJson.isEmpty()) {
+                arrayBuilder.add(descriptorJson);
+            }
+        }
+        Utils.addIfNonNullAndNotEmpty(arrayBuilder.build(), key, builder);
+    }
+
+    private void writeDescriptors(Iterable<? extends ResourceDescriptor> descriptors, String key, JsonGenerator generator) {
+        if (descriptors == null) {
+            return;
+        }
+        boolean started = false;
+        Iterator<? extends ResourceDescriptor> iterator = descriptors.iterator();
+        while (iterator.hasNext()) {
+            JsonObject descriptorJson = iterator.next().toJson();
+            if (descriptorJson.isEmpty()) {
+                continue;
+            }
+            // The array is only started once there is something to put in it, matching the JSON tree form
+            if (!started) {
+                generator.writeStartArray(key);
+                started = true;
+            }
+            generator.write(descriptorJson);
+        }
+        if (started) {
+            generator.writeEnd();
+        }
+    }
+
+    public static class Builder {
+
+        private String buildType;
+        private JsonObject externalParameters;
+        private JsonObject internalParameters;
+        private Iterable<? extends ResourceDescriptor> resolvedDependencies;
+        private String builderId;
+        private Iterable<? extends ResourceDescriptor> builderDependencies;
+        private Map<String, String> builderVersion;
+        private String invocationId;
+        private Instant startedOn;
+        private Instant finishedOn;
+        private Iterable<? extends ResourceDescriptor> byproducts;
+
+        public Builder(String buildType, JsonObject externalParameters, String builderId) throws ProvenanceValueNullException {
+            if (buildType == null) {
+                throw new ProvenanceValueNullException(KEY_BUILD_TYPE);
+            }
+            if (externalParameters == null) {
+                throw new ProvenanceValueNullException(KEY_EXTERNAL_PARAMETERS);
+            }
+            if (builderId == null) {
+                throw new ProvenanceValueNullException(KEY_BUILDER + "." + KEY_BUILDER_ID);
+            }
+            this.buildType = buildType;
+            this.externalParameters = externalParameters;
+            this.builderId = builderId;
+        }
+
+        public Builder internalParameters(JsonObject internalParameters) {
+            this.internalParameters = internalParameters;
+            return this;
+        }
+
+        public Builder resolvedDependencies(Iterable<? extends ResourceDescriptor> resolvedDependencies) {
+            this.resolvedDependencies = resolvedDependencies;
+            return this;
+        }
+
+        /**
+         * The stream is consumed when the predicate is serialized, so the predicate can only be serialized once.
+         */
+        public Builder resolvedDependencies(Stream<? extends ResourceDescriptor> resolvedDependencies) {
+            this.resolvedDependencies = onceIterable(resolvedDependencies);
+            return this;
+        }
+
+        public Builder builderDependencies(Iterable<? extends ResourceDescriptor> builderDependencies) {
+            this.builderDependencies = builderDependencies;
+            return this;
+        }
+
+        public Builder builderVersion(String component, String version) {
+            if (builderVersion == null) {
+                builderVersion = new LinkedHashMap<>();
+            }
+            builderVersion.put(component, version);
+            return this;
+        }
+
+        public Builder invocationId(String invocationId) {
+            this.invocationId = invocationId;
+            return this;
+        }
+
+        public Builder startedOn(Instant startedOn) {
+            this.startedOn = startedOn;
+            return this;
+        }
+
+        public Builder finishedOn(Instant finishedOn) {
+            this.finishedOn = finishedOn;
+            return this;
+        }
+
+        public Builder byproducts(Iterable<? extends ResourceDescriptor> byproducts) {
+            this.byproducts = byproducts;
+            return this;
+        }
+
+        /**
+         * The stream is consumed when the predicate is serialized, so the predicate can only be serialized once.
+         */
+        public Builder byproducts(Stream<? extends ResourceDescriptor> byproducts) {
+            this.byproducts = onceIterable(byproducts);
+            return this;
+        }
+
+        public SlsaProvenancePredicate build() {
+            return new SlsaProvenancePredicate(this);
+        }
+
+        private static Iterable<ResourceDescriptor> onceIterable(Stream<? extends ResourceDescriptor> stream) {
+            if (stream == null) {
+                return null;
+            }
+            AtomicBoolean consumed = new AtomicBoolean();
+            return () -> {
+                if (consumed.getAndSet(true)) {
+                    throw new IllegalStateException("The stream of resource descriptors has already been serialized.");
+                }
+                return stream.<ResourceDescriptor> map(descriptor -> descriptor).iterator();
+            };
+        }
+    }
+
+}
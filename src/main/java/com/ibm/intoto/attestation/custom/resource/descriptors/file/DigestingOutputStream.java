@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.file;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.NoSuchAlgorithmException;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.MultiDigest;
+
+/**
+ * Calculates the digests of an artifact as it is written, so that it does not have to be read back to be described. Once the
+ * stream is closed, {@link #getResourceDescriptor()} describes everything that was written through it. If closing the
+ * underlying stream fails, the artifact may not hold everything written, so it is never described.
+ */
+public class DigestingOutputStream extends FilterOutputStream {
+
+    private final String name;
+    private final MultiDigest digest;
+    private boolean closeFailed;
+
+    /**
+     * @param name the name of the described artifact, such as its file name
+     * @param algorithms the {@link DigestSet} algorithms to calculate, {@code sha256} if none are given
+     */
+    public DigestingOutputStream(OutputStream out, String name, String... algorithms) throws NoSuchAlgorithmException {
+        super(out);
+        this.name = name;
+        this.digest = new MultiDigest(algorithms);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        digest.update((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        // FilterOutputStream would write one byte at a time
+        out.write(b, off, len);
+        digest.update(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (digest.isFinished() || closeFailed) {
+            return;
+        }
+        try {
+            super.close();
+        } catch (IOException | RuntimeException e) {
+            closeFailed = true;
+            throw e;
+        }
+        digest.finish();
+    }
+
+    public long getByteCount() {
+        return digest.getByteCount();
+    }
+
+    /**
+     * The digests of everything written.
+     *
+     * @throws IllegalStateException if the stream has not been closed, or could not be closed
+     */
+    public DigestSet getDigests() {
+        if (closeFailed) {
+            throw new IllegalStateException("The " + name + " stream could not be closed, so its digests are not known.");
+        }
+        if (!digest.isFinished()) {
+            throw new IllegalStateException("The " + name + " stream must be closed before its digests are known.");
+        }
+        return DigestSet.fromJson(digest.finish().build());
+    }
+
+    /**
+     * Describes what was written, by name and digests.
+     *
+     * @throws IllegalStateException if the stream has not been closed, or could not be closed
+     */
+    public FileResourceDescriptor getResourceDescriptor() {
+        return new FileResourceDescriptor(name, getDigests());
+    }
+
+}
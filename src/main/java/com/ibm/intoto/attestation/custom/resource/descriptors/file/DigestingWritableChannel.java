@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.NoSuchAlgorithmException;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.MultiDigest;
+
+/**
+ * The {@link WritableByteChannel} counterpart of {@link DigestingOutputStream}. Only the bytes that the underlying channel
+ * accepts are digested, so partial writes are handled.
+ */
+public class DigestingWritableChannel implements WritableByteChannel {
+
+    private final WritableByteChannel channel;
+    private final String name;
+    private final MultiDigest digest;
+    private boolean closeFailed;
+
+    /**
+     * @param name the name of the described artifact, such as its file name
+     * @param algorithms the {@link DigestSet} algorithms to calculate, {@code sha256} if none are given
+     */
+    public DigestingWritableChannel(WritableByteChannel channel, String name, String... algorithms) throws NoSuchAlgorithmException {
+        this.channel = channel;
+        this.name = name;
+        this.digest = new MultiDigest(algorithms);
+    }
+
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+        ByteBuffer written = source.duplicate();
+        int count = channel.write(source);
+        if (count > 0) {
+            written.limit(written.position() + count);
+            digest.update(written);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (digest.isFinished() || closeFailed) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException | RuntimeException e) {
+            closeFailed = true;
+            throw e;
+        }
+        digest.finish();
+    }
+
+    public long getByteCount() {
+        return digest.getByteCount();
+    }
+
+    /**
+     * The digests of everything written.
+     *
+     * @throws IllegalStateException if the channel has not been closed, or could not be closed
+     */
+    public DigestSet getDigests() {
+        if (closeFailed) {
+            throw new IllegalStateException("The " + name + " channel could not be closed, so its digests are not known.");
+        }
+        if (!digest.isFinished()) {
+            throw new IllegalStateException("The " + name + " channel must be closed before its digests are known.");
+        }
+        return DigestSet.fromJson(digest.finish().build());
+    }
+
+    /**
+     * Describes what was written, by name and digests.
+     *
+     * @throws IllegalStateException if the channel has not been closed, or could not be closed
+     */
+    public FileResourceDescriptor getResourceDescriptor() {
+        return new FileResourceDescriptor(name, getDigests());
+    }
+
+}
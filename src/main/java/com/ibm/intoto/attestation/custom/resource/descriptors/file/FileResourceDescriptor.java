@@ -25,7 +25,9 @@ import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
 import com.ibm.intoto.attestation.exceptions.FileDoesNotExistException;
 import com.ibm.intoto.attestation.exceptions.FileNullException;
 import com.ibm.intoto.attestation.exceptions.NotAFileException;
+import com.ibm.intoto.attestation.metrics.Metrics;
 import com.ibm.intoto.attestation.utils.Utils;
+import jakarta.json.JsonObject;
 
 /**
  * A ResourceDescriptor type to encapsulate the package file created from a Maven project.
@@ -33,6 +35,13 @@ import com.ibm.intoto.attestation.utils.Utils;
 public class FileResourceDescriptor extends ResourceDescriptor {
 
     public FileResourceDescriptor(File packageName) throws ResourceFileException {
+        this(packageName, packageName == null ? null : packageName.getName());
+    }
+
+    /**
+     * Describes the file using the given name, such as a path relative to a build directory, instead of the bare file name.
+     */
+    public FileResourceDescriptor(File packageName, String name) throws ResourceFileException {
         try {
             if (packageName == null) {
                 throw new FileNullException();
@@ -43,13 +52,31 @@ public class FileResourceDescriptor extends ResourceDescriptor {
             if (!packageName.isFile()) {
                 throw new NotAFileException(packageName.getAbsolutePath());
             }
-            this.name = packageName.getName();
+            this.name = name;
             calculateDigest(packageName);
+            Metrics.descriptorCreated();
         } catch (Exception e) {
             throw new ResourceFileException(e.getMessage());
         }
     }
 
+    /**
+     * Describes a file whose digests are already known, for example because they were calculated while it was written.
+     */
+    public FileResourceDescriptor(String name, DigestSet digest) {
+        this(name, digest, null);
+    }
+
+    /**
+     * Describes a file whose digests are already known, with annotations such as the stat data it was attested with.
+     */
+    public FileResourceDescriptor(String name, DigestSet digest, JsonObject annotations) {
+        this.name = name;
+        this.digest = digest;
+        this.annotations = annotations;
+        Metrics.descriptorCreated();
+    }
+
     private void calculateDigest(File packageName) throws DigestCalculationException {
         String hash = Utils.calculateSha256ForFile(packageName);
         digest.put(DigestSet.ALG_SHA256, hash);
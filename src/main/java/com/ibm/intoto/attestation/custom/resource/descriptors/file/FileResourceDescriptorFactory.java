@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.file;
+
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.DigestEngine;
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.exceptions.ResourceFileException;
+import com.ibm.intoto.attestation.exceptions.FileDoesNotExistException;
+import com.ibm.intoto.attestation.exceptions.FileNullException;
+import com.ibm.intoto.attestation.exceptions.NotAFileException;
+
+/**
+ * Creates {@link FileResourceDescriptor} objects for artifacts that are not {@link java.io.File}s: paths on any file system
+ * provider, such as a zip or in-memory file system, and streams or channels, such as uploads. The content is digested by a
+ * {@link DigestEngine} as it is read, without being staged to local disk.
+ */
+public class FileResourceDescriptorFactory {
+
+    private final DigestEngine digestEngine;
+
+    private FileResourceDescriptorFactory(Builder builder) {
+        this.digestEngine = builder.digestEngine != null ? builder.digestEngine : DigestEngine.getDefault();
+    }
+
+    /**
+     * Describes the file by its file name.
+     */
+    public FileResourceDescriptor create(Path file) throws ResourceFileException {
+        return create(file, file == null || file.getFileName() == null ? null : file.getFileName().toString());
+    }
+
+    public FileResourceDescriptor create(Path file, String name) throws ResourceFileException {
+        try {
+            if (file == null) {
+                throw new FileNullException();
+            }
+            if (!Files.exists(file)) {
+                throw new FileDoesNotExistException(file.toUri().toString());
+            }
+            if (!Files.isRegularFile(file)) {
+                throw new NotAFileException(file.toUri().toString());
+            }
+            return new FileResourceDescriptor(name, digestEngine.digest(file));
+        } catch (Exception e) {
+            throw new ResourceFileException(e.getMessage());
+        }
+    }
+
+    /**
+     * Describes the rest of the stream. The stream is read to its end but not closed.
+     */
+    public FileResourceDescriptor create(InputStream in, String name) throws ResourceFileException {
+        try {
+            return new FileResourceDescriptor(name, digestEngine.digest(in, name));
+        } catch (Exception e) {
+            throw new ResourceFileException(e.getMessage());
+        }
+    }
+
+    /**
+     * Describes the rest of the channel. The channel is read to its end but not closed.
+     */
+    public FileResourceDescriptor create(ReadableByteChannel channel, String name) throws ResourceFileException {
+        try {
+            return new FileResourceDescriptor(name, digestEngine.digest(channel, name));
+        } catch (Exception e) {
+            throw new ResourceFileException(e.getMessage());
+        }
+    }
+
+    public static class Builder {
+
+        private DigestEngine digestEngine;
+
+        /**
+         * The engine that digests the content, which sets the {@link DigestSet} algorithms. Defaults to
+         * {@link DigestEngine#getDefault()}, which calculates {@code sha256}. The engine is not closed by the factory.
+         */
+        public Builder digestEngine(DigestEngine digestEngine) {
+            this.digestEngine = digestEngine;
+            return this;
+        }
+
+        public FileResourceDescriptorFactory build() {
+            return new FileResourceDescriptorFactory(this);
+        }
+    }
+
+}
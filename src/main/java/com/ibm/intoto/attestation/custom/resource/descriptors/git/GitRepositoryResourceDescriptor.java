@@ -17,6 +17,7 @@
 package com.ibm.intoto.attestation.custom.resource.descriptors.git;
 
 import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.metrics.Metrics;
 import com.ibm.intoto.attestation.utils.GitUtils;
 import com.ibm.intoto.attestation.utils.exceptions.GitRepoUrlException;
 
@@ -58,6 +59,7 @@ public class GitRepositoryResourceDescriptor extends ResourceDescriptor {
         }
 
         public GitRepositoryResourceDescriptor build() {
+            Metrics.descriptorCreated();
             return new GitRepositoryResourceDescriptor(this);
         }
     }
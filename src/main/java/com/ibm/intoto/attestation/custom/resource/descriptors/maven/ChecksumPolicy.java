@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.maven;
+
+/**
+ * How the {@code .sha1}, {@code .sha256} and {@code .sha512} checksum files that a local Maven repository keeps next to each
+ * artifact are used when describing the artifact.
+ */
+public enum ChecksumPolicy {
+
+    /**
+     * Ignore the checksum files and always hash the artifact.
+     */
+    IGNORE,
+
+    /**
+     * Use the checksum files as the digests without reading the artifact. Artifacts without checksum files are hashed.
+     */
+    TRUST,
+
+    /**
+     * Trust the checksum files, but hash a random sample of the artifacts and fail if any of them does not match.
+     */
+    SAMPLE,
+
+    /**
+     * Hash every artifact and fail if it does not match its checksum files.
+     */
+    VERIFY
+
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.exceptions.ChecksumMismatchException;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.exceptions.MavenArtifactHashingException;
+import com.ibm.intoto.attestation.digest.Cancellation;
+import com.ibm.intoto.attestation.digest.DigestEngine;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
+
+/**
+ * Creates {@link MavenArtifactResourceDescriptor} objects in bulk, finding each artifact in the local Maven repository, or
+ * using the file it was resolved to, and hashing the files in parallel with a {@link DigestEngine}.
+ * <p>
+ * Dependencies are deduplicated by their coordinates, so an artifact declared more than once is described and hashed only
+ * once. Artifacts that are not present in the local repository are still described, but without a digest.
+ * <p>
+ * By default every artifact is hashed. With a {@link ChecksumPolicy} other than {@link ChecksumPolicy#IGNORE}, the checksum
+ * files that the local repository keeps next to the artifacts are read instead, so describing an artifact costs a small
+ * metadata read rather than a full read of the file. The digests are then those of the checksum files, which is often only
+ * {@code sha1} for artifacts downloaded by Maven.
+ */
+public class MavenArtifactDescriptorFactory {
+
+    public static final String PROPERTY_LOCAL_REPOSITORY = "maven.repo.local";
+
+    private static final String SCOPE_SYSTEM = "system";
+
+    private static final String[] CHECKSUM_ALGORITHMS = { DigestSet.ALG_SHA1, DigestSet.ALG_SHA256, DigestSet.ALG_SHA512 };
+    private static final Map<String, Integer> CHECKSUM_LENGTHS = new HashMap<>();
+
+    static {
+        CHECKSUM_LENGTHS.put(DigestSet.ALG_SHA1, 40);
+        CHECKSUM_LENGTHS.put(DigestSet.ALG_SHA256, 64);
+        CHECKSUM_LENGTHS.put(DigestSet.ALG_SHA512, 128);
+    }
+
+    private final File localRepository;
+    private final DigestEngine digestEngine;
+    private final MavenRepositoryLayout repositoryLayout;
+    private final ChecksumPolicy checksumPolicy;
+    private final double sampleRate;
+
+    private MavenArtifactDescriptorFactory(Builder builder) {
+        this.localRepository = builder.localRepository;
+        this.digestEngine = builder.digestEngine != null ? builder.digestEngine : DigestEngine.getDefault();
+        this.repositoryLayout = builder.repositoryLayout;
+        this.checksumPolicy = builder.checksumPolicy;
+        this.sampleRate = builder.sampleRate;
+    }
+
+    public File getLocalRepository() {
+        return localRepository;
+    }
+
+    /**
+     * Describes the resolved dependencies of the project, including transitive ones, as returned by
+     * {@link MavenProject#getArtifacts()}. Maven only resolves them for a mojo that requires dependency resolution. When they
+     * have not been resolved, only the dependencies declared in the POM are described, found in the local repository by their
+     * coordinates, and their own dependencies are missing.
+     */
+    @SuppressWarnings("unchecked")
+    public List<MavenArtifactResourceDescriptor> create(MavenProject project) throws MavenArtifactHashingException {
+        Set<Artifact> artifacts = project.getArtifacts();
+        if (artifacts == null || artifacts.isEmpty()) {
+            return create((List<Dependency>) project.getDependencies());
+        }
+        return createFromArtifacts(artifacts);
+    }
+
+    /**
+     * Describes resolved artifacts, hashing the file each was resolved to rather than looking it up in the local repository.
+     */
+    public List<MavenArtifactResourceDescriptor> createFromArtifacts(Collection<Artifact> artifacts) throws MavenArtifactHashingException {
+        Map<String, Dependency> unique = new LinkedHashMap<>();
+        Map<String, File> files = new HashMap<>();
+        for (Artifact artifact : artifacts) {
+            Dependency dependency = toDependency(artifact);
+            String coordinates = getCoordinates(dependency);
+            if (unique.putIfAbsent(coordinates, dependency) == null) {
+                files.put(coordinates, artifact.getFile() != null ? artifact.getFile() : getArtifactFile(dependency));
+            }
+        }
+        return describe(unique, files);
+    }
+
+    /**
+     * Describes the dependencies in the order they were first seen, hashing each distinct artifact file once.
+     */
+    public List<MavenArtifactResourceDescriptor> create(Collection<Dependency> dependencies) throws MavenArtifactHashingException {
+        Map<String, Dependency> unique = new LinkedHashMap<>();
+        Map<String, File> files = new HashMap<>();
+        for (Dependency dependency : dependencies) {
+            String coordinates = getCoordinates(dependency);
+            if (unique.putIfAbsent(coordinates, dependency) == null) {
+                files.put(coordinates, getArtifactFile(dependency));
+            }
+        }
+        return describe(unique, files);
+    }
+
+    private List<MavenArtifactResourceDescriptor> describe(Map<String, Dependency> unique, Map<String, File> files) throws MavenArtifactHashingException {
+
+        // Artifacts whose checksum files are trusted need no read; the rest are hashed together, batched by the algorithms
+        // they need, so one engine pass covers every file
+        Map<String, DigestSet> digests = new HashMap<>();
+        Map<String, DigestSet> expected = new HashMap<>();
+        Map<List<String>, Map<String, Path>> toHash = new LinkedHashMap<>();
+        for (Map.Entry<String, Dependency> entry : unique.entrySet()) {
+            String coordinates = entry.getKey();
+            File file = files.get(coordinates);
+            if (file == null || !file.isFile()) {
+                digests.put(coordinates, new DigestSet());
+                continue;
+            }
+            DigestSet checksums;
+            try {
+                checksums = checksumPolicy == ChecksumPolicy.IGNORE ? new DigestSet() : readChecksums(file);
+            } catch (IOException e) {
+                throw new MavenArtifactHashingException(coordinates, e);
+            }
+            List<String> algorithms = new ArrayList<>();
+            if (!checksums.isEmpty()) {
+                if (!shouldVerify()) {
+                    digests.put(coordinates, checksums);
+                    continue;
+                }
+                algorithms.addAll(checksums.asMap().keySet());
+                expected.put(coordinates, checksums);
+            }
+            if (!algorithms.contains(DigestSet.ALG_SHA256)) {
+                algorithms.add(DigestSet.ALG_SHA256);
+            }
+            toHash.computeIfAbsent(algorithms, key -> new LinkedHashMap<>()).put(coordinates, file.toPath());
+        }
+
+        for (Map.Entry<List<String>, Map<String, Path>> batch : toHash.entrySet()) {
+            try {
+                digests.putAll(digestEngine.digestFiles(batch.getValue(), Cancellation.NONE, batch.getKey().toArray(new String[0])));
+            } catch (DigestCalculationException e) {
+                throw new MavenArtifactHashingException(findCoordinates(batch.getValue(), e.getSource()), e);
+            } catch (DigestCancelledException e) {
+                throw new MavenArtifactHashingException(null, e);
+            }
+        }
+
+        List<MavenArtifactResourceDescriptor> descriptors = new ArrayList<>(unique.size());
+        for (Map.Entry<String, Dependency> entry : unique.entrySet()) {
+            String coordinates = entry.getKey();
+            DigestSet digest = digests.get(coordinates);
+            DigestSet checksums = expected.get(coordinates);
+            if (checksums != null) {
+                for (Map.Entry<String, String> checksum : checksums.asMap().entrySet()) {
+                    String actual = digest.get(checksum.getKey());
+                    if (!checksum.getValue().equals(actual)) {
+                        File file = files.get(coordinates);
+                        throw new MavenArtifactHashingException(coordinates, new ChecksumMismatchException(file, checksum.getKey(), actual, checksum.getValue()));
+                    }
+                }
+            }
+            descriptors.add(new MavenArtifactResourceDescriptor(entry.getValue(), digest, repositoryLayout));
+        }
+        return descriptors;
+    }
+
+    private static String findCoordinates(Map<String, Path> files, String source) {
+        for (Map.Entry<String, Path> file : files.entrySet()) {
+            if (file.getValue().toAbsolutePath().toString().equals(source)) {
+                return file.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static Dependency toDependency(Artifact artifact) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(artifact.getGroupId());
+        dependency.setArtifactId(artifact.getArtifactId());
+        dependency.setVersion(artifact.getVersion());
+        dependency.setType(artifact.getType());
+        dependency.setClassifier(artifact.getClassifier());
+        dependency.setScope(artifact.getScope());
+        return dependency;
+    }
+
+    /**
+     * Returns where the artifact file is expected to be, whether or not it exists. System scoped dependencies are looked up by
+     * their system path rather than in the local repository.
+     */
+    public File getArtifactFile(Dependency dependency) {
+        if (SCOPE_SYSTEM.equals(dependency.getScope()) && dependency.getSystemPath() != null) {
+            return new File(dependency.getSystemPath());
+        }
+        String path = MavenUriTemplate.REPOSITORY_PATH.getUri(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), dependency.getType(), dependency.getClassifier());
+        return path == null ? null : new File(localRepository, path);
+    }
+
+    private boolean shouldVerify() {
+        switch (checksumPolicy) {
+            case VERIFY:
+                return true;
+            case SAMPLE:
+                return ThreadLocalRandom.current().nextDouble() < sampleRate;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Reads the checksum files next to the artifact. A checksum file holds the hex digest, optionally followed by the file
+     * name, and is ignored if the digest does not have the expected length for its algorithm.
+     */
+    private DigestSet readChecksums(File file) throws IOException {
+        DigestSet checksums = new DigestSet();
+        for (String algorithm : CHECKSUM_ALGORITHMS) {
+            File checksumFile = new File(file.getPath() + "." + algorithm);
+            if (!checksumFile.isFile()) {
+                continue;
+            }
+            String content = new String(Files.readAllBytes(checksumFile.toPath()), StandardCharsets.US_ASCII).trim();
+            String checksum = content.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+            if (checksum.length() == CHECKSUM_LENGTHS.get(algorithm) && isHex(checksum)) {
+                checksums.put(algorithm, checksum);
+            }
+        }
+        return checksums;
+    }
+
+    private static boolean isHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The coordinates used to deduplicate dependencies. The type and classifier are included because they select different
+     * files for the same group, artifact and version.
+     */
+    static String getCoordinates(Dependency dependency) {
+        StringBuilder coordinates = new StringBuilder();
+        coordinates.append(dependency.getGroupId()).append(':').append(dependency.getArtifactId()).append(':').append(dependency.getVersion());
+        coordinates.append(':').append(MavenArtifactFiles.getType(dependency.getType()));
+        if (dependency.getClassifier() != null && !dependency.getClassifier().isEmpty()) {
+            coordinates.append(':').append(dependency.getClassifier());
+        }
+        return coordinates.toString();
+    }
+
+    /**
+     * The local repository given by the {@value #PROPERTY_LOCAL_REPOSITORY} system property, or {@code ~/.m2/repository}.
+     */
+    public static File getDefaultLocalRepository() {
+        String configured = System.getProperty(PROPERTY_LOCAL_REPOSITORY);
+        if (configured != null && !configured.isEmpty()) {
+            return new File(configured);
+        }
+        return new File(new File(System.getProperty("user.home"), ".m2"), "repository");
+    }
+
+    public static class Builder {
+
+        private File localRepository = getDefaultLocalRepository();
+        private DigestEngine digestEngine;
+        private MavenRepositoryLayout repositoryLayout = MavenUriTemplate.MAVEN_CENTRAL;
+        private ChecksumPolicy checksumPolicy = ChecksumPolicy.IGNORE;
+        private double sampleRate = 0.05;
+
+        public Builder localRepository(File localRepository) {
+            this.localRepository = localRepository;
+            return this;
+        }
+
+        /**
+         * The engine that hashes the artifacts, which sets how many are hashed at once. Defaults to
+         * {@link DigestEngine#getDefault()}. The engine is not closed by the factory.
+         */
+        public Builder digestEngine(DigestEngine digestEngine) {
+            this.digestEngine = digestEngine;
+            return this;
+        }
+
+        /**
+         * The layout used to generate the URIs of the descriptors. Defaults to {@link MavenUriTemplate#MAVEN_CENTRAL}.
+         */
+        public Builder repositoryLayout(MavenRepositoryLayout repositoryLayout) {
+            this.repositoryLayout = repositoryLayout;
+            return this;
+        }
+
+        public Builder checksumPolicy(ChecksumPolicy checksumPolicy) {
+            this.checksumPolicy = checksumPolicy;
+            return this;
+        }
+
+        /**
+         * The fraction of artifacts, between 0 and 1, that are hashed and compared to their checksum files under
+         * {@link ChecksumPolicy#SAMPLE}. Defaults to 0.05.
+         */
+        public Builder sampleRate(double sampleRate) {
+            if (sampleRate < 0 || sampleRate > 1) {
+                throw new IllegalArgumentException("The sample rate must be between 0 and 1 but was " + sampleRate + ".");
+            }
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public MavenArtifactDescriptorFactory build() {
+            return new MavenArtifactDescriptorFactory(this);
+        }
+    }
+
+}
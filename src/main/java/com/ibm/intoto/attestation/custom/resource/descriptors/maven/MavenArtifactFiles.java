@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.maven;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * File naming conventions of Maven's standard artifact handlers, which map a dependency type to the extension and default
+ * classifier of its file.
+ */
+final class MavenArtifactFiles {
+
+    static final String DEFAULT_TYPE = "jar";
+
+    private static final Map<String, String> TYPE_EXTENSIONS = new HashMap<>();
+    private static final Map<String, String> TYPE_CLASSIFIERS = new HashMap<>();
+
+    static {
+        TYPE_EXTENSIONS.put("test-jar", "jar");
+        TYPE_EXTENSIONS.put("maven-plugin", "jar");
+        TYPE_EXTENSIONS.put("ejb", "jar");
+        TYPE_EXTENSIONS.put("ejb-client", "jar");
+        TYPE_EXTENSIONS.put("java-source", "jar");
+        TYPE_EXTENSIONS.put("javadoc", "jar");
+        TYPE_EXTENSIONS.put("bundle", "jar");
+        TYPE_CLASSIFIERS.put("test-jar", "tests");
+        TYPE_CLASSIFIERS.put("ejb-client", "client");
+        TYPE_CLASSIFIERS.put("java-source", "sources");
+        TYPE_CLASSIFIERS.put("javadoc", "javadoc");
+    }
+
+    private MavenArtifactFiles() {
+    }
+
+    static String getType(String type) {
+        return type == null || type.isEmpty() ? DEFAULT_TYPE : type;
+    }
+
+    static String getExtension(String type) {
+        String resolved = getType(type);
+        return TYPE_EXTENSIONS.getOrDefault(resolved, resolved);
+    }
+
+    /**
+     * The explicit classifier if there is one, otherwise the classifier implied by the type, which may be {@code null}.
+     */
+    static String getClassifier(String type, String classifier) {
+        if (classifier != null && !classifier.isEmpty()) {
+            return classifier;
+        }
+        return TYPE_CLASSIFIERS.get(getType(type));
+    }
+
+    static void appendFileName(StringBuilder builder, String artifactId, String version, String type, String classifier) {
+        builder.append(artifactId).append('-').append(version);
+        String resolvedClassifier = getClassifier(type, classifier);
+        if (resolvedClassifier != null) {
+            builder.append('-').append(resolvedClassifier);
+        }
+        builder.append('.').append(getExtension(type));
+    }
+
+}
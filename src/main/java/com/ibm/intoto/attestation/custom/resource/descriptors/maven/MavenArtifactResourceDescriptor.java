@@ -20,7 +20,9 @@ import java.util.Objects;
 
 import org.apache.maven.model.Dependency;
 
+import com.ibm.intoto.attestation.DigestSet;
 import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.metrics.Metrics;
 import com.ibm.intoto.attestation.utils.Utils;
 import jakarta.json.Json;
 import jakarta.json.JsonObjectBuilder;
@@ -33,7 +35,9 @@ public class MavenArtifactResourceDescriptor extends ResourceDescriptor {
     public static final String KEY_ANNOTATION_TYPE = "type";
     public static final String KEY_ANNOTATION_SCOPE = "scope";
 
-    // TODO
+    /**
+     * The format of the URIs generated by {@link MavenUriTemplate#MAVEN_CENTRAL}, the layout used when none is given.
+     */
     public static final String URI_FORMAT = "https://repo1.maven.org/maven2/%s/%s/%s";
 
     private String groupId = null;
@@ -41,26 +45,35 @@ public class MavenArtifactResourceDescriptor extends ResourceDescriptor {
     private String version = null;
     private String type = null;
     private String scope = null;
+    private String classifier = null;
 
     public MavenArtifactResourceDescriptor(Dependency artifact) {
+        this(artifact, new DigestSet());
+    }
+
+    /**
+     * Describes the artifact together with the digests of its file, such as those computed by
+     * {@link MavenArtifactDescriptorFactory}.
+     */
+    public MavenArtifactResourceDescriptor(Dependency artifact, DigestSet digest) {
+        this(artifact, digest, MavenUriTemplate.MAVEN_CENTRAL);
+    }
+
+    /**
+     * Describes the artifact, generating its URI with the given layout.
+     */
+    public MavenArtifactResourceDescriptor(Dependency artifact, DigestSet digest, MavenRepositoryLayout layout) {
         this.groupId = artifact.getGroupId();
         this.artifactId = artifact.getArtifactId();
         this.version = artifact.getVersion();
         this.type = artifact.getType();
         this.scope = artifact.getScope();
+        this.classifier = artifact.getClassifier();
         this.name = groupId + ":" + artifactId + ":" + version;
-        this.uri = resourceURIGenerator(groupId, artifactId, version);
+        this.uri = layout.getUri(groupId, artifactId, version, type, classifier);
+        this.digest = digest == null ? new DigestSet() : digest;
         setAnnotations();
-    }
-
-    private String resourceURIGenerator(String groupId, String artifactId, String version){
-        try{
-            return String.format(URI_FORMAT, groupId.replace(".","/"), artifactId, version);
-        }
-        catch (NullPointerException e){
-            // String.replace() would throw a NullPointerException if the string is null.
-            return null;
-        }
+        Metrics.descriptorCreated();
     }
 
     private void setAnnotations() {
@@ -80,14 +93,16 @@ public class MavenArtifactResourceDescriptor extends ResourceDescriptor {
                Objects.equals(version, other.version) &&
                Objects.equals(type, other.type) &&
                Objects.equals(scope, other.scope) &&
+               Objects.equals(classifier, other.classifier) &&
                Objects.equals(name, other.name) &&
                Objects.equals(uri, other.uri) &&
+               Objects.equals(digest, other.digest) &&
                Objects.equals(annotations, other.annotations);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(groupId, artifactId, version, type, scope, name, uri, annotations);
+        return Objects.hash(groupId, artifactId, version, type, scope, classifier, name, uri, digest, annotations);
     }
 
 }
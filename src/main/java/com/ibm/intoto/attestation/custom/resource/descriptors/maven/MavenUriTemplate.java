@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link MavenRepositoryLayout} built from a template such as
+ * {@code https://repo.example.com/maven2/{groupPath}/{artifactId}/{version}/{fileName}}.
+ * <p>
+ * The template is parsed once when it is compiled, so generating a URI only appends the literal parts and the artifact's
+ * values. The supported placeholders are:
+ * <ul>
+ * <li>{@code {groupId}}: the group, such as {@code org.example}</li>
+ * <li>{@code {groupPath}}: the group with its dots replaced by slashes, such as {@code org/example}</li>
+ * <li>{@code {artifactId}}, {@code {version}}</li>
+ * <li>{@code {type}}: the dependency type, {@code jar} if it is not set</li>
+ * <li>{@code {classifier}}: the classifier, or the one implied by the type, or empty</li>
+ * <li>{@code {extension}}: the file extension for the type, such as {@code jar} for {@code test-jar}</li>
+ * <li>{@code {fileName}}: the artifact's file name, such as {@code lib-1.0-tests.jar}</li>
+ * </ul>
+ */
+public class MavenUriTemplate implements MavenRepositoryLayout {
+
+    // Declared before the predefined templates, which need them to compile
+    private static final String[] PLACEHOLDERS = { "groupId", "groupPath", "artifactId", "version", "type", "classifier", "extension", "fileName" };
+    private static final int GROUP_ID = 0;
+    private static final int GROUP_PATH = 1;
+    private static final int ARTIFACT_ID = 2;
+    private static final int VERSION = 3;
+    private static final int TYPE = 4;
+    private static final int CLASSIFIER = 5;
+    private static final int EXTENSION = 6;
+    private static final int FILE_NAME = 7;
+
+    public static final String MAVEN_CENTRAL_URL = "https://repo1.maven.org/maven2";
+
+    /**
+     * The directory of the artifact's version in Maven Central. This is the layout used when none is given.
+     */
+    public static final MavenUriTemplate MAVEN_CENTRAL = compile(MAVEN_CENTRAL_URL + "/{groupPath}/{artifactId}/{version}");
+
+    /**
+     * The path of the artifact's file relative to the root of a repository with the standard Maven layout.
+     */
+    public static final MavenUriTemplate REPOSITORY_PATH = compile("{groupPath}/{artifactId}/{version}/{fileName}");
+
+    private final String template;
+
+    /**
+     * The template alternates between literals and placeholders: {@code literals[i]} is followed by {@code placeholders[i]},
+     * and the final literal follows the last placeholder.
+     */
+    private final String[] literals;
+    private final int[] placeholders;
+    private final int literalLength;
+
+    private MavenUriTemplate(String template, String[] literals, int[] placeholders) {
+        this.template = template;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses the template. Braces only delimit placeholders, so they cannot appear as literals.
+     *
+     * @throws IllegalArgumentException if the template has an unknown or unterminated placeholder
+     */
+    public static MavenUriTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> placeholders = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = template.indexOf('{', position)) != -1) {
+            int close = template.indexOf('}', open);
+            if (close == -1) {
+                throw new IllegalArgumentException("The placeholder at index " + open + " of the " + template + " URI template is not terminated.");
+            }
+            literals.add(template.substring(position, open));
+            placeholders.add(getPlaceholder(template, template.substring(open + 1, close)));
+            position = close + 1;
+        }
+        literals.add(template.substring(position));
+
+        int[] placeholderArray = new int[placeholders.size()];
+        for (int i = 0; i < placeholderArray.length; i++) {
+            placeholderArray[i] = placeholders.get(i);
+        }
+        return new MavenUriTemplate(template, literals.toArray(new String[0]), placeholderArray);
+    }
+
+    /**
+     * The layout of a remote repository with the standard Maven layout, such as a Maven Central mirror or an Artifactory
+     * repository, generating the URI of the artifact's file.
+     */
+    public static MavenUriTemplate repository(String baseUrl) {
+        String base = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        return compile(base.replace("{", "").replace("}", "") + REPOSITORY_PATH.getTemplate());
+    }
+
+    private static int getPlaceholder(String template, String name) {
+        for (int i = 0; i < PLACEHOLDERS.length; i++) {
+            if (PLACEHOLDERS[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("The " + template + " URI template has the unknown placeholder {" + name + "}.");
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public String getUri(String groupId, String artifactId, String version, String type, String classifier) {
+        if (groupId == null || artifactId == null || version == null) {
+            return null;
+        }
+        StringBuilder uri = new StringBuilder(literalLength + 2 * (groupId.length() + artifactId.length() + version.length()) + 16);
+        for (int i = 0; i < placeholders.length; i++) {
+            uri.append(literals[i]);
+            switch (placeholders[i]) {
+                case GROUP_ID:
+                    uri.append(groupId);
+                    break;
+                case GROUP_PATH:
+                    uri.append(groupId.replace('.', '/'));
+                    break;
+                case ARTIFACT_ID:
+                    uri.append(artifactId);
+                    break;
+                case VERSION:
+                    uri.append(version);
+                    break;
+                case TYPE:
+                    uri.append(MavenArtifactFiles.getType(type));
+                    break;
+                case CLASSIFIER:
+                    String resolvedClassifier = MavenArtifactFiles.getClassifier(type, classifier);
+                    if (resolvedClassifier != null) {
+                        uri.append(resolvedClassifier);
+                    }
+                    break;
+                case EXTENSION:
+                    uri.append(MavenArtifactFiles.getExtension(type));
+                    break;
+                default:
+                    MavenArtifactFiles.appendFileName(uri, artifactId, version, type, classifier);
+                    break;
+            }
+        }
+        return uri.append(literals[literals.length - 1]).toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+}
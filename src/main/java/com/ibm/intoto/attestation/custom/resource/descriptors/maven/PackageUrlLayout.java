@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.maven;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link MavenRepositoryLayout} that generates package URLs, such as {@code pkg:maven/org.example/lib@1.0?type=pom}.
+ * <p>
+ * See https://github.com/package-url/purl-spec. The {@code classifier} and {@code type} qualifiers are only added when they
+ * differ from the defaults, and a {@code repository_url} qualifier is added when the artifact is not from Maven Central.
+ */
+public class PackageUrlLayout implements MavenRepositoryLayout {
+
+    public static final String SCHEME = "pkg:maven/";
+
+    public static final PackageUrlLayout MAVEN_CENTRAL = new PackageUrlLayout(null);
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final String repositoryQualifier;
+
+    /**
+     * @param repositoryUrl the repository the artifacts come from, or {@code null} for Maven Central
+     */
+    public PackageUrlLayout(String repositoryUrl) {
+        if (repositoryUrl == null) {
+            this.repositoryQualifier = null;
+        } else {
+            StringBuilder qualifier = new StringBuilder("repository_url=");
+            encode(qualifier, repositoryUrl);
+            this.repositoryQualifier = qualifier.toString();
+        }
+    }
+
+    @Override
+    public String getUri(String groupId, String artifactId, String version, String type, String classifier) {
+        if (groupId == null || artifactId == null || version == null) {
+            return null;
+        }
+        StringBuilder uri = new StringBuilder(SCHEME.length() + groupId.length() + artifactId.length() + version.length() + 32);
+        uri.append(SCHEME);
+        encode(uri, groupId);
+        uri.append('/');
+        encode(uri, artifactId);
+        uri.append('@');
+        encode(uri, version);
+
+        // Qualifiers are sorted by key as the specification requires
+        char separator = '?';
+        if (classifier != null && !classifier.isEmpty()) {
+            uri.append(separator).append("classifier=");
+            encode(uri, classifier);
+            separator = '&';
+        }
+        if (repositoryQualifier != null) {
+            uri.append(separator).append(repositoryQualifier);
+            separator = '&';
+        }
+        if (type != null && !type.isEmpty() && !MavenArtifactFiles.DEFAULT_TYPE.equals(type)) {
+            uri.append(separator).append("type=");
+            encode(uri, type);
+        }
+        return uri.toString();
+    }
+
+    /**
+     * Percent-encodes everything except the characters that are unreserved in a URI.
+     */
+    private static void encode(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i += Character.charCount(value.codePointAt(i))) {
+            int c = value.codePointAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-' || c == '_' || c == '~') {
+                builder.append((char) c);
+            } else {
+                for (byte b : new String(Character.toChars(c)).getBytes(StandardCharsets.UTF_8)) {
+                    builder.append('%').append(HEX_DIGITS[(b >> 4) & 0xf]).append(HEX_DIGITS[b & 0xf]);
+                }
+            }
+        }
+    }
+
+}
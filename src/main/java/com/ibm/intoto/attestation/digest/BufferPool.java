@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+
+/**
+ * A pool of direct read buffers that never holds more than a fixed budget of memory, shared by every thread and engine that
+ * reads through it.
+ * <p>
+ * Buffer sizes are rounded up to a power of two, so buffers can be reused for similar requests. A buffer that is released goes
+ * back to the pool rather than to the garbage collector. When taking another buffer would go over the budget, released buffers
+ * of other sizes are dropped to make room, and if that is not enough the caller waits for a buffer to be released. A request
+ * larger than the whole budget gets the largest buffer the budget allows, so a file is then read in smaller pieces rather than
+ * never.
+ * <p>
+ * Dropped buffers are freed by the garbage collector, not immediately, so the budget is best kept somewhat below any
+ * {@code -XX:MaxDirectMemorySize} limit.
+ */
+public class BufferPool {
+
+    public static final int MIN_BUFFER_SIZE = 4096;
+
+    private static final long WAIT_MILLIS = 50;
+
+    private final long budget;
+    private final int maxBufferSize;
+
+    // Guarded by this
+    private final Map<Integer, ArrayDeque<ByteBuffer>> released = new TreeMap<>();
+    private long allocatedBytes;
+    private long inUseBytes;
+    private long waitCount;
+
+    /**
+     * @param budget the most memory, in bytes, that the pool's buffers may use in total
+     */
+    public BufferPool(long budget) {
+        if (budget < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("The budget must be at least " + MIN_BUFFER_SIZE + " bytes but was " + budget + ".");
+        }
+        this.budget = budget;
+        this.maxBufferSize = Integer.highestOneBit((int) Math.min(budget, 1 << 30));
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public synchronized long getInUseBytes() {
+        return inUseBytes;
+    }
+
+    /**
+     * How many times a caller has had to wait because the budget was used up.
+     */
+    public synchronized long getWaitCount() {
+        return waitCount;
+    }
+
+    /**
+     * Takes a cleared buffer with a capacity of at least the size, or of the largest size the budget allows, waiting until
+     * the budget has room for it.
+     */
+    public ByteBuffer acquire(int size, Cancellation cancellation) throws DigestCancelledException {
+        int capacity = getCapacity(size);
+        synchronized (this) {
+            boolean waited = false;
+            while (true) {
+                ByteBuffer buffer = reuse(capacity);
+                if (buffer != null) {
+                    return buffer;
+                }
+                if (reserve(capacity)) {
+                    break;
+                }
+                cancellation.throwIfCancelled();
+                if (!waited) {
+                    waited = true;
+                    waitCount++;
+                }
+                try {
+                    wait(Math.max(1, Math.min(WAIT_MILLIS, TimeUnit.NANOSECONDS.toMillis(cancellation.getRemainingNanos()))));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DigestCancelledException(Cancellation.REASON_INTERRUPTED);
+                }
+            }
+        }
+        // The budget is already reserved, so the allocation itself does not need the lock
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Takes a buffer as {@link #acquire(int, Cancellation)} does, but returns null rather than waiting if the budget has no room
+     * for it. Used for buffers that are only an optimization, such as the extra buffers of an overlapped read.
+     */
+    public ByteBuffer tryAcquire(int size) {
+        int capacity = getCapacity(size);
+        synchronized (this) {
+            ByteBuffer buffer = reuse(capacity);
+            if (buffer != null) {
+                return buffer;
+            }
+            if (!reserve(capacity)) {
+                return null;
+            }
+        }
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Returns a buffer taken from this pool. It must not be used afterwards.
+     */
+    public synchronized void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        inUseBytes -= capacity;
+        released.computeIfAbsent(capacity, key -> new ArrayDeque<>()).push(buffer);
+        notifyAll();
+    }
+
+    int getCapacity(int size) {
+        if (size <= MIN_BUFFER_SIZE) {
+            return MIN_BUFFER_SIZE;
+        }
+        if (size >= maxBufferSize) {
+            return maxBufferSize;
+        }
+        int capacity = Integer.highestOneBit(size);
+        return capacity == size ? capacity : capacity << 1;
+    }
+
+    /**
+     * Takes a released buffer of the capacity, if there is one. Guarded by this.
+     */
+    private ByteBuffer reuse(int capacity) {
+        ArrayDeque<ByteBuffer> buffers = released.get(capacity);
+        if (buffers == null || buffers.isEmpty()) {
+            return null;
+        }
+        ByteBuffer buffer = buffers.pop();
+        inUseBytes += capacity;
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Reserves the budget for a new buffer, dropping released buffers if that makes room. Guarded by this.
+     */
+    private boolean reserve(int capacity) {
+        if (allocatedBytes + capacity > budget) {
+            dropReleasedBuffers(allocatedBytes + capacity - budget);
+        }
+        if (allocatedBytes + capacity > budget) {
+            return false;
+        }
+        allocatedBytes += capacity;
+        inUseBytes += capacity;
+        return true;
+    }
+
+    private void dropReleasedBuffers(long needed) {
+        long dropped = 0;
+        Iterator<ArrayDeque<ByteBuffer>> sizes = released.values().iterator();
+        while (dropped < needed && sizes.hasNext()) {
+            ArrayDeque<ByteBuffer> buffers = sizes.next();
+            while (dropped < needed && !buffers.isEmpty()) {
+                dropped += buffers.pop().capacity();
+            }
+        }
+        allocatedBytes -= dropped;
+    }
+
+}
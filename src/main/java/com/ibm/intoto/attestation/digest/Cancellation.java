@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+
+/**
+ * Cooperative cancellation for a digest operation, with an optional deadline. The hashing threads check it between reads, so
+ * an operation stops within one buffer of being cancelled or running out of time.
+ * <p>
+ * A Cancellation is meant for a single operation. Create one with {@link #withTimeout(long, TimeUnit)} to give each operation
+ * its own deadline.
+ */
+public final class Cancellation {
+
+    /**
+     * Never cancelled, and cannot be cancelled.
+     */
+    public static final Cancellation NONE = new Cancellation(false, 0);
+
+    static final String REASON_CANCELLED = "it was cancelled";
+    static final String REASON_DEADLINE = "its deadline passed";
+    static final String REASON_INTERRUPTED = "the thread was interrupted";
+    static final String REASON_ENGINE_CLOSED = "the digest engine was closed";
+
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+    private volatile String reason;
+
+    public Cancellation() {
+        this(false, 0);
+    }
+
+    private Cancellation(boolean hasDeadline, long deadlineNanos) {
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * A Cancellation that is cancelled automatically once the timeout has passed, counting from now.
+     */
+    public static Cancellation withTimeout(long timeout, TimeUnit unit) {
+        return new Cancellation(true, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    public void cancel() {
+        if (this == NONE) {
+            throw new UnsupportedOperationException("Cancellation.NONE cannot be cancelled.");
+        }
+        if (reason == null) {
+            reason = REASON_CANCELLED;
+        }
+    }
+
+    public boolean isCancelled() {
+        return getReason() != null;
+    }
+
+    /**
+     * The time left before the deadline, which is {@link Long#MAX_VALUE} without a deadline and zero or less once it has
+     * passed.
+     */
+    public long getRemainingNanos() {
+        return hasDeadline ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public void throwIfCancelled() throws DigestCancelledException {
+        String cancelledReason = getReason();
+        if (cancelledReason != null) {
+            throw new DigestCancelledException(cancelledReason);
+        }
+    }
+
+    private String getReason() {
+        String cancelledReason = reason;
+        if (cancelledReason == null && hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+            reason = cancelledReason = REASON_DEADLINE;
+        }
+        return cancelledReason;
+    }
+
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ibm.intoto.attestation.digest.exceptions.ChunkManifestException;
+import com.ibm.intoto.attestation.digest.exceptions.InvalidChunkedDigestException;
+import com.ibm.intoto.attestation.utils.Utils;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+
+/**
+ * The digests of the fixed-size chunks of a file, and a root digest over them, so that a large file can be verified in
+ * parallel or only in part. Every chunk but the last is exactly the chunk size long.
+ * <p>
+ * The root is the digest, with the same algorithm, of the concatenated binary chunk digests. It can be recorded in a
+ * descriptor's annotations together with the chunk digests, or on its own with the chunk digests in a companion manifest file.
+ * A manifest read back is only trusted if its chunk digests produce the recorded root.
+ * <p>
+ * The annotation is an object under {@value #ANNOTATION_KEY}, for example:
+ *
+ * <pre>
+ * "chunkedDigest": {
+ *   "algorithm": "sha256",
+ *   "chunkSize": 4194304,
+ *   "length": 10737418240,
+ *   "root": "...",
+ *   "chunks": ["...", "..."]
+ * }
+ * </pre>
+ *
+ * When a manifest is used, {@code chunks} is replaced by {@code "manifest": "<file name>"}, and the manifest holds the full
+ * object.
+ */
+public final class ChunkedDigest {
+
+    public static final String ANNOTATION_KEY = "chunkedDigest";
+    public static final String KEY_ALGORITHM = "algorithm";
+    public static final String KEY_CHUNK_SIZE = "chunkSize";
+    public static final String KEY_LENGTH = "length";
+    public static final String KEY_ROOT = "root";
+    public static final String KEY_CHUNKS = "chunks";
+    public static final String KEY_MANIFEST = "manifest";
+
+    public static final String MANIFEST_EXTENSION = ".chunks.json";
+
+    private final String algorithm;
+    private final int chunkSize;
+    private final long length;
+    private final String root;
+    private final List<String> chunks;
+    private final String manifest;
+
+    /**
+     * @param chunks the hex digests of the chunks, in order
+     */
+    public ChunkedDigest(String algorithm, int chunkSize, long length, List<String> chunks) throws NoSuchAlgorithmException {
+        this(algorithm, chunkSize, length, computeRoot(algorithm, chunks), chunks, null);
+        if (chunks.size() != getChunkCount()) {
+            throw new IllegalArgumentException(length + " bytes in chunks of " + chunkSize + " need " + getChunkCount() + " chunk digests but there are " + chunks.size() + ".");
+        }
+    }
+
+    private ChunkedDigest(String algorithm, int chunkSize, long length, String root, List<String> chunks, String manifest) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1 but was " + chunkSize + ".");
+        }
+        this.algorithm = algorithm;
+        this.chunkSize = chunkSize;
+        this.length = length;
+        this.root = root;
+        this.chunks = chunks == null ? null : Collections.unmodifiableList(new ArrayList<>(chunks));
+        this.manifest = manifest;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * The length of the whole file.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    public String getRoot() {
+        return root;
+    }
+
+    /**
+     * The chunk digests, or {@code null} if they are in a manifest that has not been read.
+     */
+    public List<String> getChunks() {
+        return chunks;
+    }
+
+    /**
+     * The file name of the companion manifest, or {@code null} if the chunk digests are held inline.
+     */
+    public String getManifest() {
+        return manifest;
+    }
+
+    public int getChunkCount() {
+        return (int) ((length + chunkSize - 1) / chunkSize);
+    }
+
+    /**
+     * The index of the chunk holding the byte at the offset.
+     */
+    public int getChunkIndex(long offset) {
+        if (offset < 0 || offset >= length) {
+            throw new IndexOutOfBoundsException("The offset " + offset + " is outside the " + length + " bytes of the file.");
+        }
+        return (int) (offset / chunkSize);
+    }
+
+    public long getChunkOffset(int index) {
+        return (long) index * chunkSize;
+    }
+
+    public long getChunkLength(int index) {
+        return Math.min(chunkSize, length - getChunkOffset(index));
+    }
+
+    /**
+     * Whether the chunk digests produce the root. Always false if the chunk digests are not held.
+     */
+    public boolean isRootValid() {
+        if (chunks == null || chunks.size() != getChunkCount()) {
+            return false;
+        }
+        try {
+            return root.equals(computeRoot(algorithm, chunks));
+        } catch (NoSuchAlgorithmException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The full form, with the chunk digests, as written to a manifest.
+     */
+    public JsonObject toJson() {
+        JsonObjectBuilder builder = summary();
+        JsonArrayBuilder chunkDigests = Json.createArrayBuilder();
+        for (String chunk : chunks) {
+            chunkDigests.add(chunk);
+        }
+        builder.add(KEY_CHUNKS, chunkDigests);
+        return builder.build();
+    }
+
+    /**
+     * The annotations that record this chunked digest on a descriptor.
+     *
+     * @param manifest the file name of the companion manifest holding the chunk digests, or {@code null} to hold them inline
+     */
+    public JsonObject toAnnotations(String manifest) {
+        JsonObject value = manifest == null ? toJson() : summary().add(KEY_MANIFEST, manifest).build();
+        return Json.createObjectBuilder().add(ANNOTATION_KEY, value).build();
+    }
+
+    private JsonObjectBuilder summary() {
+        return Json.createObjectBuilder().add(KEY_ALGORITHM, algorithm).add(KEY_CHUNK_SIZE, chunkSize).add(KEY_LENGTH, length).add(KEY_ROOT, root);
+    }
+
+    /**
+     * Writes the full form to a manifest file, which is named after the artifact with {@value #MANIFEST_EXTENSION} by
+     * convention.
+     */
+    public void writeManifest(Path manifestPath) throws IOException {
+        try (OutputStream out = Files.newOutputStream(manifestPath); JsonWriter writer = Json.createWriter(out)) {
+            writer.writeObject(toJson());
+        }
+    }
+
+    /**
+     * Reads a manifest and checks it against this chunked digest, which is typically one read from a descriptor's annotations
+     * without its chunk digests.
+     *
+     * @throws ChunkManifestException if the manifest can't be read, or does not match the algorithm, chunk size, length or
+     *             root
+     */
+    public ChunkedDigest readManifest(Path manifestPath) throws ChunkManifestException {
+        ChunkedDigest read;
+        try (InputStream in = Files.newInputStream(manifestPath); JsonReader reader = Json.createReader(in)) {
+            read = fromJson(reader.readObject());
+        } catch (IOException | JsonException | InvalidChunkedDigestException e) {
+            throw new ChunkManifestException(manifestPath.toString(), e);
+        }
+        if (read.chunks == null) {
+            throw new ChunkManifestException(manifestPath.toString(), "it has no chunk digests");
+        }
+        if (!algorithm.equals(read.algorithm) || chunkSize != read.chunkSize || length != read.length) {
+            throw new ChunkManifestException(manifestPath.toString(), "it describes different chunks");
+        }
+        if (!root.equals(read.root) || !read.isRootValid()) {
+            throw new ChunkManifestException(manifestPath.toString(), "its chunk digests do not produce the root " + root);
+        }
+        return new ChunkedDigest(algorithm, chunkSize, length, root, read.chunks, manifest);
+    }
+
+    /**
+     * Reads the {@value #ANNOTATION_KEY} annotation of a descriptor, returning {@code null} if there isn't one.
+     */
+    public static ChunkedDigest fromAnnotations(JsonObject annotations) throws InvalidChunkedDigestException {
+        if (annotations == null || !(annotations.get(ANNOTATION_KEY) instanceof JsonObject)) {
+            return null;
+        }
+        return fromJson(annotations.getJsonObject(ANNOTATION_KEY));
+    }
+
+    /**
+     * Reads either form. The chunk digests are checked to be digests of the algorithm, but not against the root; see
+     * {@link #isRootValid()}.
+     */
+    public static ChunkedDigest fromJson(JsonObject json) throws InvalidChunkedDigestException {
+        String algorithm = getString(json, KEY_ALGORITHM, true);
+        int digestLength;
+        try {
+            digestLength = MessageDigest.getInstance(Utils.getJcaAlgorithm(algorithm)).getDigestLength();
+        } catch (NoSuchAlgorithmException e) {
+            throw new InvalidChunkedDigestException("the " + algorithm + " algorithm is not supported", e);
+        }
+        int chunkSize = getWholeNumber(json, KEY_CHUNK_SIZE, 1, Integer.MAX_VALUE).intValueExact();
+        long length = getWholeNumber(json, KEY_LENGTH, 0, Long.MAX_VALUE).longValueExact();
+        String root = getString(json, KEY_ROOT, true);
+        if (!isDigest(root, digestLength)) {
+            throw new InvalidChunkedDigestException("the root " + root + " is not a hex encoded " + algorithm + " digest");
+        }
+        List<String> chunks = null;
+        JsonValue chunkDigests = json.get(KEY_CHUNKS);
+        if (chunkDigests != null) {
+            if (!(chunkDigests instanceof JsonArray)) {
+                throw new InvalidChunkedDigestException("the " + KEY_CHUNKS + " entry is not an array");
+            }
+            chunks = new ArrayList<>();
+            for (JsonValue chunk : chunkDigests.asJsonArray()) {
+                if (!(chunk instanceof JsonString) || !isDigest(((JsonString) chunk).getString(), digestLength)) {
+                    throw new InvalidChunkedDigestException("the chunk digest " + chunk + " is not a hex encoded " + algorithm + " digest");
+                }
+                chunks.add(((JsonString) chunk).getString());
+            }
+        }
+        return new ChunkedDigest(algorithm, chunkSize, length, root, chunks, getString(json, KEY_MANIFEST, false));
+    }
+
+    private static String getString(JsonObject json, String key, boolean required) throws InvalidChunkedDigestException {
+        JsonValue value = json.get(key);
+        if (value instanceof JsonString) {
+            return ((JsonString) value).getString();
+        }
+        if (value == null && !required) {
+            return null;
+        }
+        throw new InvalidChunkedDigestException("the " + key + " entry is missing or not a string");
+    }
+
+    /**
+     * Returns the number entry, which is checked to be a whole number in the range so that it can be read exactly.
+     */
+    private static JsonNumber getWholeNumber(JsonObject json, String key, long min, long max) throws InvalidChunkedDigestException {
+        JsonValue value = json.get(key);
+        if (value instanceof JsonNumber && ((JsonNumber) value).isIntegral()) {
+            BigDecimal number = ((JsonNumber) value).bigDecimalValue();
+            if (number.compareTo(BigDecimal.valueOf(min)) >= 0 && number.compareTo(BigDecimal.valueOf(max)) <= 0) {
+                return (JsonNumber) value;
+            }
+        }
+        throw new InvalidChunkedDigestException("the " + key + " entry is missing or not a whole number from " + min + " to " + max);
+    }
+
+    private static boolean isDigest(String hex, int digestLength) {
+        return hex.length() == digestLength * 2 && fromHex(hex) != null;
+    }
+
+    static String computeRoot(String algorithm, List<String> chunks) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(Utils.getJcaAlgorithm(algorithm));
+        for (String chunk : chunks) {
+            byte[] bytes = fromHex(chunk);
+            // Digests of the wrong length would be concatenated into a root that other chunk boundaries could also produce
+            if (bytes == null || bytes.length != digest.getDigestLength()) {
+                throw new IllegalArgumentException("The chunk digest " + chunk + " is not a hex encoded " + algorithm + " digest.");
+            }
+            digest.update(bytes);
+        }
+        return Utils.toHex(digest.digest());
+    }
+
+    /**
+     * Decodes the hex, returning null if it isn't hex encoded.
+     */
+    private static byte[] fromHex(String hex) {
+        if (hex.length() % 2 != 0) {
+            return null;
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,1048 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
+import com.ibm.intoto.attestation.jfr.JfrEvents;
+import com.ibm.intoto.attestation.utils.Utils;
+
+/**
+ * Calculates the digests of files and of whole directory trees, in parallel, with progress reporting and cooperative
+ * cancellation.
+ * <p>
+ * Every algorithm is calculated in a single read of each file. The hashing threads are created when they are first needed and
+ * are kept until the engine is closed, so an engine should be reused across operations. Large files can optionally be read
+ * ahead on separate I/O threads, so that reading and hashing one file overlap.
+ */
+public class DigestEngine implements AutoCloseable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    public static final long DEFAULT_OVERLAP_THRESHOLD = 8 * 1024 * 1024;
+
+    public static final int MAX_OVERLAPPED_BUFFERS = 8;
+
+    /**
+     * How often the calling thread wakes up to check for cancellation while it waits for the hashing threads.
+     */
+    private static final long CANCELLATION_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Marks the end of an overlapped read in the queue of filled buffers.
+     */
+    private static final ByteBuffer END_OF_INPUT = ByteBuffer.allocate(0);
+
+    private static final AtomicInteger ENGINE_COUNT = new AtomicInteger();
+
+    private static DigestEngine defaultEngine;
+
+    private final String[] algorithms;
+    private final IoScheduler ioScheduler;
+    private final BufferPool bufferPool;
+    private final int overlappedBuffers;
+    private final long overlapThreshold;
+    private final int parallelism;
+    private final ProgressListener progressListener;
+    private final long progressIntervalNanos;
+    private final int engineId = ENGINE_COUNT.incrementAndGet();
+
+    private ExecutorService executor;
+    private ExecutorService ioExecutor;
+    private boolean closed;
+
+    private DigestEngine(Builder builder) {
+        this.algorithms = builder.algorithms;
+        this.bufferPool = builder.bufferPool;
+        this.overlappedBuffers = builder.overlappedBuffers;
+        this.overlapThreshold = builder.overlapThreshold;
+        this.ioScheduler = builder.ioScheduler != null ? builder.ioScheduler : IoScheduler.unscheduled(builder.bufferSize);
+        this.parallelism = builder.parallelism;
+        this.progressListener = builder.progressListener;
+        this.progressIntervalNanos = builder.progressIntervalNanos;
+    }
+
+    public String[] getAlgorithms() {
+        return algorithms.clone();
+    }
+
+    public DigestSet digest(Path file) throws DigestCalculationException, DigestCancelledException {
+        return digest(file, Cancellation.NONE);
+    }
+
+    /**
+     * Calculates the digests of one file on the calling thread.
+     */
+    public DigestSet digest(Path file, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        return digest(file, cancellation, algorithms, null);
+    }
+
+    /**
+     * Calculates the given digests of one file on the calling thread, instead of the engine's own algorithms.
+     *
+     * @throws IllegalArgumentException if an algorithm is not supported
+     */
+    public DigestSet digest(Path file, Cancellation cancellation, String... algorithms) throws DigestCalculationException, DigestCancelledException {
+        return digest(file, cancellation, checkAlgorithms(algorithms), null);
+    }
+
+    private DigestSet digest(Path file, Cancellation cancellation, String[] fileAlgorithms, Tracker tracker) throws DigestCalculationException, DigestCancelledException {
+        cancellation.throwIfCancelled();
+        IoScheduler.Lane lane = ioScheduler.getLane(file);
+        acquire(lane, cancellation);
+        try {
+            return hash(new Segment(file, fileAlgorithms), lane, cancellation, tracker);
+        } finally {
+            lane.release();
+        }
+    }
+
+    /**
+     * Starts an operation for files that are handed over one at a time, such as those of a stream, rather than all at once.
+     */
+    public Operation startOperation(Cancellation cancellation) {
+        return new Operation(cancellation);
+    }
+
+    public SortedMap<String, DigestSet> digestTree(Path directory) throws DigestCalculationException, DigestCancelledException {
+        return digestTree(directory, Cancellation.NONE);
+    }
+
+    /**
+     * Calculates the digests of every regular file under the directory, keyed by the path relative to the directory with '/'
+     * as the separator.
+     */
+    public SortedMap<String, DigestSet> digestTree(Path directory, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        SortedMap<String, Segment> files = new TreeMap<>();
+        long[] totalBytes = new long[1];
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (cancellation.isCancelled()) {
+                        return FileVisitResult.TERMINATE;
+                    }
+                    if (attributes.isRegularFile()) {
+                        files.put(relativeName(directory, file), new Segment(file, algorithms));
+                        totalBytes[0] += attributes.size();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new DigestCalculationException(describe(directory), e);
+        }
+        cancellation.throwIfCancelled();
+        return digestAll(files, totalBytes[0], cancellation);
+    }
+
+    /**
+     * Calculates the digests of the files in parallel, keyed by the same names as the given files.
+     */
+    public SortedMap<String, DigestSet> digestFiles(Map<String, Path> files, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        return digestFiles(files, cancellation, algorithms);
+    }
+
+    /**
+     * Calculates the given digests of the files in parallel, instead of the engine's own algorithms.
+     *
+     * @throws IllegalArgumentException if an algorithm is not supported
+     */
+    public SortedMap<String, DigestSet> digestFiles(Map<String, Path> files, Cancellation cancellation, String... algorithms) throws DigestCalculationException, DigestCancelledException {
+        String[] fileAlgorithms = checkAlgorithms(algorithms);
+        Map<String, Segment> segments = new LinkedHashMap<>();
+        long totalBytes = 0;
+        for (Map.Entry<String, Path> file : files.entrySet()) {
+            try {
+                totalBytes += Files.size(file.getValue());
+            } catch (IOException e) {
+                throw new DigestCalculationException(describe(file.getValue()), e);
+            }
+            segments.put(file.getKey(), new Segment(file.getValue(), fileAlgorithms));
+        }
+        return digestAll(segments, totalBytes, cancellation);
+    }
+
+    /**
+     * Calculates the digests of the file's fixed-size chunks in parallel, with the first of the engine's algorithms.
+     */
+    public ChunkedDigest digestChunks(Path file, int chunkSize, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1 but was " + chunkSize + ".");
+        }
+        long length;
+        try {
+            length = Files.size(file);
+        } catch (IOException e) {
+            throw new DigestCalculationException(describe(file), e);
+        }
+        int chunkCount = (int) ((length + chunkSize - 1) / chunkSize);
+        SortedMap<String, DigestSet> digests = digestChunks(file, algorithms[0], chunkSize, length, 0, chunkCount, cancellation);
+        List<String> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(digests.get(String.valueOf(i)).get(algorithms[0]));
+        }
+        try {
+            return new ChunkedDigest(algorithms[0], chunkSize, length, chunks);
+        } catch (NoSuchAlgorithmException e) {
+            throw new DigestCalculationException(describe(file), e);
+        }
+    }
+
+    /**
+     * Checks the whole file against the chunk digests in parallel, returning whether its length and every chunk match.
+     */
+    public boolean verifyChunks(Path file, ChunkedDigest expected, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        try {
+            if (Files.size(file) != expected.getLength()) {
+                return false;
+            }
+        } catch (IOException e) {
+            throw new DigestCalculationException(describe(file), e);
+        }
+        return expected.getLength() == 0 || verifyChunks(file, expected, 0, expected.getLength(), cancellation).isEmpty();
+    }
+
+    /**
+     * Checks only the chunks that overlap the byte range, in parallel, returning the indexes of those that do not match. The
+     * chunk digests are not checked against their root here; see {@link ChunkedDigest#isRootValid()}.
+     */
+    public SortedSet<Integer> verifyChunks(Path file, ChunkedDigest expected, long offset, long length, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        if (expected.getChunks() == null) {
+            throw new IllegalArgumentException("The chunk digests are in the " + expected.getManifest() + " manifest, which must be read first.");
+        }
+        if (length < 1 || offset + length > expected.getLength()) {
+            throw new IndexOutOfBoundsException("The range of " + length + " bytes at " + offset + " is not within the " + expected.getLength() + " bytes of the file.");
+        }
+        int first = expected.getChunkIndex(offset);
+        int end = expected.getChunkIndex(offset + length - 1) + 1;
+        SortedMap<String, DigestSet> digests = digestChunks(file, expected.getAlgorithm(), expected.getChunkSize(), expected.getLength(), first, end, cancellation);
+        SortedSet<Integer> mismatched = new TreeSet<>();
+        for (int i = first; i < end; i++) {
+            if (!expected.getChunks().get(i).equals(digests.get(String.valueOf(i)).get(expected.getAlgorithm()))) {
+                mismatched.add(i);
+            }
+        }
+        return mismatched;
+    }
+
+    private SortedMap<String, DigestSet> digestChunks(Path file, String algorithm, int chunkSize, long length, int first, int end, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        String[] chunkAlgorithms = { algorithm };
+        Map<String, Segment> segments = new LinkedHashMap<>();
+        long totalBytes = 0;
+        for (int i = first; i < end; i++) {
+            long chunkOffset = (long) i * chunkSize;
+            long chunkLength = Math.min(chunkSize, length - chunkOffset);
+            segments.put(String.valueOf(i), new Segment(file, chunkOffset, chunkLength, chunkAlgorithms));
+            totalBytes += chunkLength;
+        }
+        return digestAll(segments, totalBytes, cancellation);
+    }
+
+    private SortedMap<String, DigestSet> digestAll(Map<String, Segment> files, long totalBytes, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        Tracker tracker = new Tracker(files.size(), totalBytes);
+        // Queued per store, so that a busy store does not hold up the files of the others
+        Map<IoScheduler.Lane, Deque<Map.Entry<String, Segment>>> queues = new LinkedHashMap<>();
+        for (Map.Entry<String, Segment> file : files.entrySet()) {
+            queues.computeIfAbsent(ioScheduler.getLane(file.getValue().file), lane -> new ArrayDeque<>()).add(file);
+        }
+        SortedMap<String, DigestSet> digests = new TreeMap<>();
+        BlockingQueue<DigestTask> completed = new LinkedBlockingQueue<>();
+        List<DigestTask> started = new ArrayList<>(files.size());
+        ExecutorService pool = getExecutor();
+        int inFlight = 0;
+        try {
+            while (digests.size() < files.size()) {
+                inFlight += dispatch(queues, parallelism - inFlight, pool, completed, started, cancellation, tracker);
+                long wait = Math.min(CANCELLATION_POLL_NANOS, Math.max(1, cancellation.getRemainingNanos()));
+                if (inFlight == 0) {
+                    // Every store with files left is full with the reads of other operations, so wait for one to free up
+                    Map.Entry<IoScheduler.Lane, Deque<Map.Entry<String, Segment>>> queue = firstPending(queues);
+                    if (queue.getKey().acquire(wait, TimeUnit.NANOSECONDS)) {
+                        start(queue.getKey(), queue.getValue().poll(), pool, completed, started, cancellation, tracker);
+                        inFlight++;
+                    } else {
+                        cancellation.throwIfCancelled();
+                    }
+                    continue;
+                }
+                DigestTask done = completed.poll(wait, TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    cancellation.throwIfCancelled();
+                    continue;
+                }
+                inFlight--;
+                digests.put(done.name, done.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DigestCancelledException) {
+                throw (DigestCancelledException) e.getCause();
+            }
+            if (e.getCause() instanceof DigestCalculationException) {
+                throw (DigestCalculationException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (CancellationException e) {
+            // Only a task that close() discarded before it ran is cancelled without the operation having stopped first
+            throw new DigestCancelledException(Cancellation.REASON_ENGINE_CLOSED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DigestCancelledException(Cancellation.REASON_INTERRUPTED);
+        } finally {
+            if (digests.size() < files.size()) {
+                // Interrupts the reads that are still in progress
+                for (DigestTask task : started) {
+                    task.cancel(true);
+                }
+            }
+        }
+        tracker.report(true);
+        return digests;
+    }
+
+    /**
+     * Starts as many queued files as the stores and the free threads allow, returning how many were started.
+     */
+    private int dispatch(Map<IoScheduler.Lane, Deque<Map.Entry<String, Segment>>> queues, int capacity, ExecutorService pool, BlockingQueue<DigestTask> completed, List<DigestTask> started, Cancellation cancellation, Tracker tracker) throws DigestCancelledException {
+        int dispatched = 0;
+        for (Map.Entry<IoScheduler.Lane, Deque<Map.Entry<String, Segment>>> queue : queues.entrySet()) {
+            IoScheduler.Lane lane = queue.getKey();
+            Deque<Map.Entry<String, Segment>> pending = queue.getValue();
+            while (dispatched < capacity && !pending.isEmpty() && lane.tryAcquire()) {
+                start(lane, pending.poll(), pool, completed, started, cancellation, tracker);
+                dispatched++;
+            }
+        }
+        return dispatched;
+    }
+
+    private static Map.Entry<IoScheduler.Lane, Deque<Map.Entry<String, Segment>>> firstPending(Map<IoScheduler.Lane, Deque<Map.Entry<String, Segment>>> queues) {
+        for (Map.Entry<IoScheduler.Lane, Deque<Map.Entry<String, Segment>>> queue : queues.entrySet()) {
+            if (!queue.getValue().isEmpty()) {
+                return queue;
+            }
+        }
+        throw new IllegalStateException("No files are left to digest.");
+    }
+
+    /**
+     * Starts digesting a file on the hashing threads, with a permit of its lane already taken.
+     */
+    private void start(IoScheduler.Lane lane, Map.Entry<String, Segment> file, ExecutorService pool, BlockingQueue<DigestTask> completed, List<DigestTask> started, Cancellation cancellation, Tracker tracker) throws DigestCancelledException {
+        DigestTask task = new DigestTask(file.getKey(), () -> hash(file.getValue(), lane, cancellation, tracker), lane, completed);
+        try {
+            pool.execute(task);
+        } catch (RejectedExecutionException e) {
+            // The engine was closed after the operation started
+            task.discard();
+            throw new DigestCancelledException(Cancellation.REASON_ENGINE_CLOSED);
+        }
+        started.add(task);
+    }
+
+    public DigestSet digest(InputStream in, String name) throws DigestCalculationException, DigestCancelledException {
+        return digest(in, name, Cancellation.NONE);
+    }
+
+    /**
+     * Calculates the digests of the rest of the stream on the calling thread. The stream is read to its end but not closed.
+     *
+     * @param name names the stream in errors and events
+     */
+    public DigestSet digest(InputStream in, String name, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        return digest(Channels.newChannel(in), name, cancellation);
+    }
+
+    public DigestSet digest(ReadableByteChannel channel, String name) throws DigestCalculationException, DigestCancelledException {
+        return digest(channel, name, Cancellation.NONE);
+    }
+
+    /**
+     * Calculates the digests of the rest of the channel on the calling thread. The channel is read to its end but not closed.
+     *
+     * @param name names the channel in errors and events
+     */
+    public DigestSet digest(ReadableByteChannel channel, String name, Cancellation cancellation) throws DigestCalculationException, DigestCancelledException {
+        cancellation.throwIfCancelled();
+        IoScheduler.Lane lane = ioScheduler.getUnknownLane();
+        acquire(lane, cancellation);
+        Object event = JfrEvents.beginFileDigest();
+        try {
+            MultiDigest digest = read(channel, -1, algorithms, lane, cancellation, null);
+            DigestSet digests = digest.finish();
+            JfrEvents.commitFileDigest(event, name, digest.getByteCount(), algorithms, false);
+            return digests;
+        } catch (DigestCancelledException e) {
+            throw e;
+        } catch (ClosedByInterruptException e) {
+            throw new DigestCancelledException(cancellation.isCancelled() ? Cancellation.REASON_CANCELLED : Cancellation.REASON_INTERRUPTED);
+        } catch (Exception e) {
+            throw new DigestCalculationException(name, e);
+        } finally {
+            lane.release();
+        }
+    }
+
+    /**
+     * Waits for a read permit of the lane, for reads made on the calling thread rather than dispatched to the hashing threads.
+     */
+    private static void acquire(IoScheduler.Lane lane, Cancellation cancellation) throws DigestCancelledException {
+        while (true) {
+            cancellation.throwIfCancelled();
+            try {
+                // Wakes up to check for cancellation, which does not signal the lane
+                if (lane.acquire(Math.min(CANCELLATION_POLL_NANOS, Math.max(1, cancellation.getRemainingNanos())), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DigestCancelledException(Cancellation.REASON_INTERRUPTED);
+            }
+        }
+    }
+
+    private DigestSet hash(Segment segment, IoScheduler.Lane lane, Cancellation cancellation, Tracker tracker) throws DigestCalculationException, DigestCancelledException {
+        Path file = segment.file;
+        Object event = JfrEvents.beginFileDigest();
+        // A byte channel rather than a FileChannel, which not every file system provider supports
+        try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ)) {
+            long length = segment.length;
+            if (length < 0) {
+                length = channel.size();
+            } else {
+                channel.position(segment.offset);
+            }
+            if (tracker != null) {
+                tracker.fileStarted(length);
+            }
+            MultiDigest digest = read(channel, length, segment.algorithms, lane, cancellation, tracker);
+            DigestSet digests = digest.finish();
+            JfrEvents.commitFileDigest(event, file.toString(), digest.getByteCount(), segment.algorithms, false);
+            if (tracker != null) {
+                tracker.fileHashed();
+            }
+            return digests;
+        } catch (DigestCancelledException e) {
+            throw e;
+        } catch (ClosedByInterruptException e) {
+            throw new DigestCancelledException(cancellation.isCancelled() ? Cancellation.REASON_CANCELLED : Cancellation.REASON_INTERRUPTED);
+        } catch (Exception e) {
+            throw new DigestCalculationException(describe(file), e);
+        }
+    }
+
+    /**
+     * Reads the channel once, updating every digest from the same buffer, and checks for cancellation before each read. Reads
+     * of at least the {@link Builder#overlapThreshold(long) overlap threshold} are overlapped with the hashing when the engine
+     * has more than one buffer per read and the buffer pool has room for them.
+     *
+     * @param size the number of bytes to read, which are fewer if the channel ends first, or -1 to read to the end
+     */
+    private MultiDigest read(ReadableByteChannel channel, long size, String[] algorithms, IoScheduler.Lane lane, Cancellation cancellation, Tracker tracker) throws IOException, NoSuchAlgorithmException, DigestCancelledException {
+        MultiDigest digest = new MultiDigest(algorithms);
+        // Small files don't need a full size buffer
+        int bufferSize = size < 0 ? lane.getReadAhead() : (int) Math.max(1, Math.min(lane.getReadAhead(), size));
+        boolean overlapped = overlappedBuffers > 1 && size >= overlapThreshold && size > bufferSize;
+        List<ByteBuffer> buffers = acquireBuffers(bufferSize, overlapped ? overlappedBuffers : 1, cancellation);
+        try {
+            if (buffers.size() > 1) {
+                readOverlapped(channel, size, digest, buffers, cancellation, tracker);
+            } else {
+                readSequential(channel, size, digest, buffers.get(0), cancellation, tracker);
+            }
+        } finally {
+            if (bufferPool != null) {
+                for (ByteBuffer buffer : buffers) {
+                    bufferPool.release(buffer);
+                }
+            }
+        }
+        lane.completed(digest.getByteCount());
+        return digest;
+    }
+
+    private void readSequential(ReadableByteChannel channel, long size, MultiDigest digest, ByteBuffer buffer, Cancellation cancellation, Tracker tracker) throws IOException, DigestCancelledException {
+        while (size < 0 || digest.getByteCount() < size) {
+            cancellation.throwIfCancelled();
+            buffer.clear();
+            if (size >= 0) {
+                buffer.limit((int) Math.min(buffer.capacity(), size - digest.getByteCount()));
+            }
+            int read = channel.read(buffer);
+            if (read == -1) {
+                break;
+            }
+            buffer.flip();
+            digest.update(buffer);
+            if (tracker != null) {
+                tracker.bytesHashed(read);
+            }
+        }
+    }
+
+    /**
+     * Reads on an I/O thread while the calling thread hashes. The buffers circulate between the two threads: the reader fills
+     * an empty buffer and hands it over, and the hasher hands it back once every digest has been updated from it, so the next
+     * reads are already under way while a buffer is being hashed.
+     */
+    private void readOverlapped(ReadableByteChannel channel, long size, MultiDigest digest, List<ByteBuffer> buffers, Cancellation cancellation, Tracker tracker) throws IOException, DigestCancelledException {
+        BlockingQueue<ByteBuffer> empty = new ArrayBlockingQueue<>(buffers.size(), false, buffers);
+        // One extra place for the end of input marker
+        BlockingQueue<ByteBuffer> filled = new ArrayBlockingQueue<>(buffers.size() + 1);
+        AtomicBoolean stopped = new AtomicBoolean();
+        Callable<Void> fill = () -> {
+            fill(channel, size, empty, filled, stopped);
+            return null;
+        };
+        Future<Void> reader = getIoExecutor().submit(fill);
+        try {
+            while (true) {
+                cancellation.throwIfCancelled();
+                ByteBuffer buffer = filled.poll(CANCELLATION_POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (buffer == END_OF_INPUT) {
+                    break;
+                }
+                if (buffer != null) {
+                    int read = buffer.remaining();
+                    digest.update(buffer);
+                    if (tracker != null) {
+                        tracker.bytesHashed(read);
+                    }
+                    empty.add(buffer);
+                }
+            }
+            // Throws any failure of the reader
+            reader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DigestCancelledException(Cancellation.REASON_INTERRUPTED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            stopped.set(true);
+            awaitReader(reader);
+        }
+    }
+
+    /**
+     * Fills the empty buffers until the size has been read, the channel ends or the hasher stops, and then queues the end of
+     * input marker.
+     */
+    private static void fill(ReadableByteChannel channel, long size, BlockingQueue<ByteBuffer> empty, BlockingQueue<ByteBuffer> filled, AtomicBoolean stopped) throws IOException, InterruptedException {
+        try {
+            long remaining = size;
+            boolean ended = false;
+            while (remaining > 0 && !ended && !stopped.get()) {
+                ByteBuffer buffer = empty.poll(CANCELLATION_POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (buffer == null) {
+                    continue;
+                }
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), remaining));
+                // Fill the whole buffer, so that each hand over carries as much as it can
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) == -1) {
+                        ended = true;
+                        break;
+                    }
+                }
+                buffer.flip();
+                remaining -= buffer.remaining();
+                if (buffer.hasRemaining()) {
+                    filled.add(buffer);
+                } else {
+                    empty.add(buffer);
+                }
+            }
+        } finally {
+            filled.add(END_OF_INPUT);
+        }
+    }
+
+    /**
+     * Waits for the reader to stop, so that no buffer is still being filled when the buffers are released.
+     */
+    private static void awaitReader(Future<Void> reader) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                reader.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException | CancellationException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes the first buffer, waiting for the pool if need be, and then as many of the rest as the pool has room for without
+     * waiting, so that reads holding some of their buffers never wait on each other for more.
+     */
+    private List<ByteBuffer> acquireBuffers(int bufferSize, int count, Cancellation cancellation) throws DigestCancelledException {
+        List<ByteBuffer> buffers = new ArrayList<>(count);
+        buffers.add(bufferPool == null ? ByteBuffer.allocate(bufferSize) : bufferPool.acquire(bufferSize, cancellation));
+        while (buffers.size() < count) {
+            ByteBuffer buffer = bufferPool == null ? ByteBuffer.allocate(bufferSize) : bufferPool.tryAcquire(bufferSize);
+            if (buffer == null) {
+                break;
+            }
+            buffers.add(buffer);
+        }
+        return buffers;
+    }
+
+    private static String[] checkAlgorithms(String[] algorithms) {
+        if (algorithms.length == 0) {
+            throw new IllegalArgumentException("At least one algorithm is required.");
+        }
+        for (String algorithm : algorithms) {
+            try {
+                Utils.getJcaAlgorithm(algorithm);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("The " + algorithm + " digest algorithm is not supported.", e);
+            }
+        }
+        return algorithms.clone();
+    }
+
+    /**
+     * Names a path in errors. Paths on the default file system are given in full, as {@link java.io.File} paths are.
+     */
+    private static String describe(Path path) {
+        return path.getFileSystem() == FileSystems.getDefault() ? path.toAbsolutePath().toString() : path.toUri().toString();
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (closed) {
+            throw new IllegalStateException("The digest engine is closed.");
+        }
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "intoto4j-digest-" + engineId + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        }
+        return executor;
+    }
+
+    /**
+     * The threads that read ahead of the hashing threads in overlapped reads. A read only waits on its own buffers, so there is
+     * no limit on the number of threads, and the parallelism already limits how many reads are in progress.
+     */
+    private synchronized ExecutorService getIoExecutor() {
+        if (closed) {
+            throw new IllegalStateException("The digest engine is closed.");
+        }
+        if (ioExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "intoto4j-digest-io-" + engineId + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            ioExecutor = Executors.newCachedThreadPool(threadFactory);
+        }
+        return ioExecutor;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * The engine used where files are digested without an engine being given, such as by
+     * {@link Utils#calculateDigestsForFile(java.io.File, String...)}, so that those reads share one set of threads, store
+     * limits and buffers. An engine with default settings is created when first needed, and again if the default is closed.
+     */
+    public static synchronized DigestEngine getDefault() {
+        if (defaultEngine == null || defaultEngine.isClosed()) {
+            defaultEngine = new Builder().build();
+        }
+        return defaultEngine;
+    }
+
+    /**
+     * Makes the engine the default, for example to give every read an {@link IoScheduler}, a {@link BufferPool} or a progress
+     * listener. The previous default is not closed.
+     */
+    public static synchronized void setDefault(DigestEngine engine) {
+        defaultEngine = engine;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (executor != null) {
+            for (Runnable queued : executor.shutdownNow()) {
+                ((DigestTask) queued).discard();
+            }
+        }
+        if (ioExecutor != null) {
+            ioExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * The name of a file under a directory, as used for the keys of {@link #digestTree(Path)}: the relative path with '/' as
+     * the separator on every platform.
+     */
+    public static String relativeName(Path directory, Path file) {
+        StringBuilder name = new StringBuilder();
+        for (Path segment : directory.relativize(file)) {
+            if (name.length() > 0) {
+                name.append('/');
+            }
+            name.append(segment.toString());
+        }
+        return name.toString();
+    }
+
+    /**
+     * A whole file, or a range of it, and the algorithms to digest it with.
+     */
+    private static final class Segment {
+
+        final Path file;
+        final long offset;
+        final long length;
+        final String[] algorithms;
+
+        Segment(Path file, String[] algorithms) {
+            this(file, 0, -1, algorithms);
+        }
+
+        Segment(Path file, long offset, long length, String[] algorithms) {
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+            this.algorithms = algorithms;
+        }
+    }
+
+    /**
+     * Gives back the store's permit and queues itself for the dispatching thread once it is done, including when it is
+     * cancelled before it starts.
+     */
+    private static final class DigestTask extends FutureTask<DigestSet> {
+
+        final String name;
+        private final IoScheduler.Lane lane;
+        private final BlockingQueue<DigestTask> completed;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        DigestTask(String name, Callable<DigestSet> digest, IoScheduler.Lane lane, BlockingQueue<DigestTask> completed) {
+            super(digest);
+            this.name = name;
+            this.lane = lane;
+            this.completed = completed;
+        }
+
+        /**
+         * Gives the lane permit back once the read has really finished. A task cancelled while it runs is done at once, but its
+         * read only stops at its next cancellation check, so the permit is released when the read returns or fails, or when a
+         * task cancelled before it started is run or discarded.
+         */
+        private void releaseLane() {
+            if (released.compareAndSet(false, true)) {
+                lane.release();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                releaseLane();
+            }
+        }
+
+        @Override
+        protected void set(DigestSet digests) {
+            // Released before the task is done, so the dispatcher can start the next read on the lane straight away
+            releaseLane();
+            super.set(digests);
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            releaseLane();
+            super.setException(t);
+        }
+
+        /**
+         * Called for a task that was dropped from the executor's queue without being run.
+         */
+        void discard() {
+            cancel(false);
+            releaseLane();
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+    }
+
+    /**
+     * Counts completed files and bytes for one operation, and reports them to the listener no more often than the progress
+     * interval. The hashing thread that finds the interval has passed claims the report, so the others do not wait.
+     */
+    private final class Tracker {
+
+        private final boolean open;
+        private final AtomicLong totalFiles;
+        private final AtomicLong totalBytes;
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong filesCompleted = new AtomicLong();
+        private final AtomicLong bytesCompleted = new AtomicLong();
+        private final AtomicLong lastReportNanos = new AtomicLong(startNanos);
+
+        Tracker(long totalFiles, long totalBytes) {
+            this.open = false;
+            this.totalFiles = new AtomicLong(totalFiles);
+            this.totalBytes = new AtomicLong(totalBytes);
+        }
+
+        /**
+         * A tracker whose totals are not known up front, and grow as each file is started.
+         */
+        Tracker() {
+            this.open = true;
+            this.totalFiles = new AtomicLong();
+            this.totalBytes = new AtomicLong();
+        }
+
+        void fileStarted(long bytes) {
+            if (open) {
+                totalFiles.incrementAndGet();
+                totalBytes.addAndGet(bytes);
+            }
+        }
+
+        void bytesHashed(long bytes) {
+            bytesCompleted.addAndGet(bytes);
+            report(false);
+        }
+
+        void fileHashed() {
+            filesCompleted.incrementAndGet();
+            report(false);
+        }
+
+        void report(boolean last) {
+            if (progressListener == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (!last) {
+                long previous = lastReportNanos.get();
+                if (now - previous < progressIntervalNanos || !lastReportNanos.compareAndSet(previous, now)) {
+                    return;
+                }
+            }
+            progressListener.onProgress(new DigestProgress(filesCompleted.get(), totalFiles.get(), bytesCompleted.get(), totalBytes.get(), now - startNanos));
+        }
+    }
+
+    /**
+     * Files digested one at a time as a single operation. Each file is read on the calling thread within the limits of its
+     * store and stops at the operation's cancellation, and progress is reported for the operation as a whole, against totals
+     * that grow as files are started.
+     */
+    public final class Operation {
+
+        private final Cancellation cancellation;
+        private final Tracker tracker = new Tracker();
+
+        private Operation(Cancellation cancellation) {
+            this.cancellation = cancellation;
+        }
+
+        public Cancellation getCancellation() {
+            return cancellation;
+        }
+
+        public DigestSet digest(Path file) throws DigestCalculationException, DigestCancelledException {
+            return DigestEngine.this.digest(file, cancellation, algorithms, tracker);
+        }
+
+        /**
+         * Sends the final progress report, once every file has been digested.
+         */
+        public void finish() {
+            tracker.report(true);
+        }
+    }
+
+    public static class Builder {
+
+        private String[] algorithms = { DigestSet.ALG_SHA256 };
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private ProgressListener progressListener;
+        private IoScheduler ioScheduler;
+        private BufferPool bufferPool;
+        private int overlappedBuffers = 1;
+        private long overlapThreshold = DEFAULT_OVERLAP_THRESHOLD;
+        private long progressIntervalNanos = TimeUnit.SECONDS.toNanos(1);
+
+        /**
+         * The {@link DigestSet} algorithms to calculate. Defaults to {@code sha256}.
+         */
+        public Builder algorithms(String... algorithms) {
+            this.algorithms = checkAlgorithms(algorithms);
+            return this;
+        }
+
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("The buffer size must be at least 1 but was " + bufferSize + ".");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("The parallelism must be at least 1 but was " + parallelism + ".");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Limits the concurrent reads and sets the read size per file store. Without a scheduler, files are read with the
+         * {@link #bufferSize(int) buffer size} and only the parallelism limits how many are read at once.
+         */
+        public Builder ioScheduler(IoScheduler ioScheduler) {
+            this.ioScheduler = ioScheduler;
+            return this;
+        }
+
+        /**
+         * Takes the read buffers from the pool, so that the memory used by all the files being read at once, across every
+         * engine sharing the pool, stays within the pool's budget. Without a pool, each file gets its own heap buffer.
+         */
+        public Builder bufferPool(BufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
+        /**
+         * The number of buffers each large read circulates between an I/O thread and the hashing thread: 2 for double
+         * buffering and 3 for triple buffering. While one buffer is hashed the others are being filled, so reading a large file
+         * takes close to the longer of the read and the hashing rather than both. Defaults to 1, which reads and hashes in turn
+         * on one thread; when many files are digested at once the parallelism already keeps the disks and processors busy.
+         */
+        public Builder overlappedBuffers(int overlappedBuffers) {
+            if (overlappedBuffers < 1 || overlappedBuffers > MAX_OVERLAPPED_BUFFERS) {
+                throw new IllegalArgumentException("The overlapped buffers must be between 1 and " + MAX_OVERLAPPED_BUFFERS + " but was " + overlappedBuffers + ".");
+            }
+            this.overlappedBuffers = overlappedBuffers;
+            return this;
+        }
+
+        /**
+         * The smallest read, in bytes, that is overlapped when there is more than one {@link #overlappedBuffers(int) overlapped
+         * buffer}. Smaller files are read on the hashing thread, as handing buffers between threads costs more than it saves
+         * for them. Defaults to {@value DigestEngine#DEFAULT_OVERLAP_THRESHOLD}.
+         */
+        public Builder overlapThreshold(long overlapThreshold) {
+            if (overlapThreshold < 0) {
+                throw new IllegalArgumentException("The overlap threshold must not be negative but was " + overlapThreshold + ".");
+            }
+            this.overlapThreshold = overlapThreshold;
+            return this;
+        }
+
+        public Builder progressListener(ProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * The minimum time between progress reports. Defaults to one second.
+         */
+        public Builder progressInterval(long interval, TimeUnit unit) {
+            if (interval < 0) {
+                throw new IllegalArgumentException("The progress interval must not be negative but was " + interval + ".");
+            }
+            this.progressIntervalNanos = unit.toNanos(interval);
+            return this;
+        }
+
+        public DigestEngine build() {
+            return new DigestEngine(this);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of how far a digest operation has got. Bytes count as completed as soon as they are hashed, so large files show
+ * progress before they are finished.
+ */
+public final class DigestProgress {
+
+    private final long filesCompleted;
+    private final long totalFiles;
+    private final long bytesCompleted;
+    private final long totalBytes;
+    private final long elapsedNanos;
+
+    DigestProgress(long filesCompleted, long totalFiles, long bytesCompleted, long totalBytes, long elapsedNanos) {
+        this.filesCompleted = filesCompleted;
+        this.totalFiles = totalFiles;
+        this.bytesCompleted = bytesCompleted;
+        this.totalBytes = totalBytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getFilesCompleted() {
+        return filesCompleted;
+    }
+
+    public long getTotalFiles() {
+        return totalFiles;
+    }
+
+    public long getBytesCompleted() {
+        return bytesCompleted;
+    }
+
+    /**
+     * The size of the files when the operation started.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isComplete() {
+        return filesCompleted == totalFiles;
+    }
+
+    @Override
+    public String toString() {
+        return filesCompleted + "/" + totalFiles + " files, " + bytesCompleted + "/" + totalBytes + " bytes";
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
+import com.ibm.intoto.attestation.jfr.JfrEvents;
+import com.ibm.intoto.attestation.metrics.Metrics;
+import com.ibm.intoto.attestation.utils.BoundedCache;
+import com.ibm.intoto.attestation.utils.Utils;
+
+/**
+ * A thread-safe cache of file digests, keyed by the file's path, size, modification time and file key, so that a file shared
+ * by many consumers, such as a dependency jar used by every module of a build, is read once.
+ * <p>
+ * When several threads ask for the same uncached file at once, one of them hashes it and the others wait for the result.
+ * Files that are {@linkplain FileStat#isRacy(long) racy} at the lookup are hashed but not cached, because a further change
+ * within the file system's timestamp granularity would not be noticed.
+ */
+public class FileDigestCache {
+
+    private final BoundedCache<Key, CompletableFuture<DigestSet>> entries;
+    private final String[] algorithms;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param maxEntries the number of files to remember, evicting the least recently used
+     * @param algorithms the {@link DigestSet} algorithms to calculate, {@code sha256} if none are given
+     */
+    public FileDigestCache(int maxEntries, String... algorithms) {
+        this.entries = new BoundedCache<>(maxEntries);
+        this.algorithms = algorithms.length == 0 ? new String[] { DigestSet.ALG_SHA256 } : algorithms.clone();
+    }
+
+    /**
+     * Returns the digests of the file, calculating them if the file is not cached or has changed since it was cached.
+     */
+    public DigestSet getDigests(File file) throws DigestCalculationException {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new DigestCalculationException(file, e);
+        }
+        FileStat stat = FileStat.of(attributes);
+        if (stat.isRacy(System.currentTimeMillis())) {
+            missCount.incrementAndGet();
+            Metrics.cacheMiss(Metrics.CACHE_FILE_DIGEST);
+            return Utils.calculateDigestsForFile(file, algorithms);
+        }
+
+        Key key = new Key(path, stat);
+        CompletableFuture<DigestSet> calculation = new CompletableFuture<>();
+        CompletableFuture<DigestSet> existing = entries.putIfAbsent(key, calculation);
+        if (existing != null) {
+            hitCount.incrementAndGet();
+            Metrics.cacheHit(Metrics.CACHE_FILE_DIGEST);
+            Object event = JfrEvents.beginFileDigest();
+            DigestSet digests = await(existing, file);
+            JfrEvents.commitFileDigest(event, file.getPath(), attributes.size(), algorithms, true);
+            return copy(digests);
+        }
+        missCount.incrementAndGet();
+        Metrics.cacheMiss(Metrics.CACHE_FILE_DIGEST);
+        try {
+            DigestSet digests = Utils.calculateDigestsForFile(file, algorithms);
+            calculation.complete(digests);
+            return copy(digests);
+        } catch (DigestCalculationException | RuntimeException e) {
+            entries.remove(key, calculation);
+            calculation.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public String[] getAlgorithms() {
+        return algorithms.clone();
+    }
+
+    private static DigestSet await(CompletableFuture<DigestSet> calculation, File file) throws DigestCalculationException {
+        try {
+            return calculation.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DigestCalculationException) {
+                throw (DigestCalculationException) e.getCause();
+            }
+            throw new DigestCalculationException(file, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DigestCalculationException(file, e);
+        }
+    }
+
+    /**
+     * Callers get their own copy because a DigestSet is mutable.
+     */
+    private static DigestSet copy(DigestSet digests) {
+        DigestSet copy = new DigestSet();
+        for (Map.Entry<String, String> digest : digests.asMap().entrySet()) {
+            copy.put(digest.getKey(), digest.getValue());
+        }
+        return copy;
+    }
+
+    private static final class Key {
+
+        private final Path path;
+        private final FileStat stat;
+
+        Key(Path path, FileStat stat) {
+            this.path = path;
+            this.stat = stat;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return path.equals(other.path) &&
+                   stat.equals(other.stat);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, stat);
+        }
+
+        @Override
+        public String toString() {
+            return path + " (" + stat + ")";
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+import jakarta.json.Json;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * The stat data of a file, compared to tell whether the file may have changed since it was hashed without reading it again.
+ * This is what {@link FileDigestCache}, {@link com.ibm.intoto.attestation.custom.predicates.link.LinkRecorder} and
+ * {@link com.ibm.intoto.attestation.incremental.IncrementalAttestor} use to decide whether an earlier digest can be reused.
+ * <p>
+ * A file modified within {@link #RACY_MODIFICATION_WINDOW_MILLIS} of when its stat data was taken is "racy": a further change
+ * within the file system's timestamp granularity would leave the stat data unchanged, so its digest must not be reused.
+ * <p>
+ * The size and modification time can be recorded in the annotations of a subject, as an object under
+ * {@value #ANNOTATION_KEY}, for example:
+ *
+ * <pre>
+ * "fileStat": {
+ *   "size": 52134,
+ *   "lastModified": "2026-10-19T02:14:07.123456789Z"
+ * }
+ * </pre>
+ */
+public final class FileStat {
+
+    public static final String ANNOTATION_KEY = "fileStat";
+    public static final String KEY_SIZE = "size";
+    public static final String KEY_LAST_MODIFIED = "lastModified";
+
+    public static final long RACY_MODIFICATION_WINDOW_MILLIS = 2000;
+
+    private final long size;
+    private final Instant lastModified;
+    private final Object fileKey;
+
+    public FileStat(long size, Instant lastModified) {
+        this(size, lastModified, null);
+    }
+
+    private FileStat(long size, Instant lastModified, Object fileKey) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.fileKey = fileKey;
+    }
+
+    /**
+     * The stat data of a file, including its file key, such as the device and inode, where the file system has one.
+     */
+    public static FileStat of(BasicFileAttributes attributes) {
+        return new FileStat(attributes.size(), attributes.lastModifiedTime().toInstant(), attributes.fileKey());
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Whether the file was modified so shortly before its stat data was taken that a further change might not show in it.
+     *
+     * @param statTakenAt when the stat data was taken, in milliseconds since the epoch
+     */
+    public boolean isRacy(long statTakenAt) {
+        return lastModified.toEpochMilli() >= statTakenAt - RACY_MODIFICATION_WINDOW_MILLIS;
+    }
+
+    /**
+     * Whether a digest calculated when the earlier stat data was taken still describes the file: the size and modification
+     * time are unchanged, so is the file key when both have one, and the file was not racy at the time.
+     *
+     * @param earlier the stat data the digest was calculated with, or {@code null} if there is none
+     * @param earlierTakenAt when the earlier stat data was taken, in milliseconds since the epoch
+     */
+    public boolean isUnchangedSince(FileStat earlier, long earlierTakenAt) {
+        return matches(earlier) && !earlier.isRacy(earlierTakenAt);
+    }
+
+    /**
+     * Compares the size and modification time, and the file keys when both have one. Stat data read from annotations has no
+     * file key.
+     */
+    public boolean matches(FileStat other) {
+        return other != null &&
+               size == other.size &&
+               Objects.equals(lastModified, other.lastModified) &&
+               (fileKey == null || other.fileKey == null || fileKey.equals(other.fileKey));
+    }
+
+    /**
+     * The size and modification time. The file key is not recorded.
+     */
+    public JsonObject toJson() {
+        return Json.createObjectBuilder().add(KEY_SIZE, size).add(KEY_LAST_MODIFIED, lastModified.toString()).build();
+    }
+
+    /**
+     * Reads the {@value #ANNOTATION_KEY} annotation of a descriptor, returning {@code null} if there isn't one or it is not
+     * well formed, in which case the file is simply treated as changed.
+     */
+    public static FileStat fromAnnotations(JsonObject annotations) {
+        if (annotations == null || !(annotations.get(ANNOTATION_KEY) instanceof JsonObject)) {
+            return null;
+        }
+        JsonObject json = annotations.getJsonObject(ANNOTATION_KEY);
+        JsonValue size = json.get(KEY_SIZE);
+        JsonValue lastModified = json.get(KEY_LAST_MODIFIED);
+        if (!(size instanceof JsonNumber) || !(lastModified instanceof JsonString)) {
+            return null;
+        }
+        try {
+            return new FileStat(((JsonNumber) size).longValueExact(), Instant.parse(((JsonString) lastModified).getString()));
+        } catch (ArithmeticException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, lastModified, fileKey);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof FileStat)) return false;
+        FileStat other = (FileStat) obj;
+        return size == other.size &&
+               Objects.equals(lastModified, other.lastModified) &&
+               Objects.equals(fileKey, other.fileKey);
+    }
+
+    @Override
+    public String toString() {
+        return size + " bytes, modified " + lastModified;
+    }
+
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.io.IOException;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.intoto.attestation.utils.BoundedCache;
+
+/**
+ * Decides how many files a {@link DigestEngine} reads at once from each {@link FileStore}, and how much it reads at a time.
+ * <p>
+ * Files are grouped by the store they are on, and each store gets its own concurrency limit and read-ahead size, so a slow
+ * network share or spinning disk is not flooded with parallel reads while a fast local SSD or tmpfs is kept busy. The initial
+ * settings can be given per store type, such as {@code nfs} or {@code tmpfs}. When adaptive tuning is on, each store's settings
+ * are then adjusted by {@link ThroughputTuner} from the throughput measured over every {@link Builder#tuningWindow(long)
+ * tuning window}.
+ * <p>
+ * A scheduler can be shared by several engines, which then share the limits of each store.
+ */
+public class IoScheduler {
+
+    /**
+     * The store name used for files whose store cannot be determined, and for every file when stores are not told apart.
+     */
+    public static final String UNKNOWN_STORE = "unknown";
+
+    private static final int DIRECTORY_CACHE_SIZE = 4096;
+
+    private final boolean perStore;
+    private final boolean adaptive;
+    private final Settings defaultSettings;
+    private final Map<String, Settings> typeSettings;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final int minReadAhead;
+    private final int maxReadAhead;
+    private final long tuningWindowBytes;
+    private final long minTuningWindowNanos;
+
+    private final Map<Object, Lane> lanes = new ConcurrentHashMap<>();
+    // Looking up a file's store can read the mount table, so it is done once per directory
+    private final BoundedCache<Path, Lane> directoryLanes = new BoundedCache<>(DIRECTORY_CACHE_SIZE);
+
+    private IoScheduler(Builder builder) {
+        this.perStore = true;
+        this.adaptive = builder.adaptive;
+        this.defaultSettings = new Settings(builder.concurrency, builder.readAhead);
+        this.typeSettings = new HashMap<>(builder.typeSettings);
+        this.minConcurrency = builder.minConcurrency;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.minReadAhead = builder.minReadAhead;
+        this.maxReadAhead = builder.maxReadAhead;
+        this.tuningWindowBytes = builder.tuningWindowBytes;
+        this.minTuningWindowNanos = builder.minTuningWindowNanos;
+    }
+
+    /**
+     * A scheduler that puts every file in one lane with no concurrency limit of its own and a fixed read size, which is how
+     * an engine behaves without a scheduler.
+     */
+    static IoScheduler unscheduled(int readAhead) {
+        return new IoScheduler(readAhead);
+    }
+
+    private IoScheduler(int readAhead) {
+        this.perStore = false;
+        this.adaptive = false;
+        this.defaultSettings = new Settings(Integer.MAX_VALUE, readAhead);
+        this.typeSettings = new HashMap<>();
+        this.minConcurrency = 1;
+        this.maxConcurrency = Integer.MAX_VALUE;
+        this.minReadAhead = 1;
+        this.maxReadAhead = Integer.MAX_VALUE;
+        this.tuningWindowBytes = Long.MAX_VALUE;
+        this.minTuningWindowNanos = Long.MAX_VALUE;
+    }
+
+    /**
+     * The current state of each store that files have been read from.
+     */
+    public List<StoreStatus> getStoreStatus() {
+        List<StoreStatus> statuses = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes.values()) {
+            statuses.add(lane.getStatus());
+        }
+        return statuses;
+    }
+
+    /**
+     * The lane for reads that are not from a known store, such as streams.
+     */
+    Lane getUnknownLane() {
+        return lanes.computeIfAbsent(UNKNOWN_STORE, key -> newLane(UNKNOWN_STORE, UNKNOWN_STORE));
+    }
+
+    Lane getLane(Path file) {
+        if (!perStore) {
+            return getUnknownLane();
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Lane lane = directory == null ? null : directoryLanes.get(directory);
+        if (lane == null) {
+            lane = resolveLane(file);
+            if (directory != null) {
+                directoryLanes.put(directory, lane);
+            }
+        }
+        return lane;
+    }
+
+    private Lane resolveLane(Path file) {
+        FileStore store;
+        try {
+            store = Files.getFileStore(file);
+        } catch (IOException | SecurityException e) {
+            // The digest reports the problem with the file itself, if there is one
+            return getUnknownLane();
+        }
+        return lanes.computeIfAbsent(store, key -> newLane(store.name(), store.type()));
+    }
+
+    private Lane newLane(String name, String type) {
+        Settings settings = typeSettings.getOrDefault(type, defaultSettings);
+        if (!adaptive) {
+            return new Lane(name, type, settings.concurrency, settings.readAhead, null);
+        }
+        ThroughputTuner tuner = new ThroughputTuner(settings.concurrency, minConcurrency, maxConcurrency, settings.readAhead, minReadAhead, maxReadAhead);
+        return new Lane(name, type, tuner.getConcurrency(), tuner.getReadAhead(), tuner);
+    }
+
+    /**
+     * The files of one store. Permits are usually taken without blocking, so the dispatching thread can move on to another
+     * store when one is busy, and waited for only when there is nothing else to do.
+     */
+    final class Lane {
+
+        private final String name;
+        private final String type;
+        private final ThroughputTuner tuner;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger waiters = new AtomicInteger();
+        private final AtomicLong bytesRead = new AtomicLong();
+        private volatile int concurrency;
+        private volatile int readAhead;
+        private volatile double bytesPerSecond;
+
+        // Guarded by this
+        private long windowBytes;
+        private long windowStartNanos = System.nanoTime();
+
+        Lane(String name, String type, int concurrency, int readAhead, ThroughputTuner tuner) {
+            this.name = name;
+            this.type = type;
+            this.concurrency = concurrency;
+            this.readAhead = readAhead;
+            this.tuner = tuner;
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                int current = active.get();
+                if (current >= concurrency) {
+                    return false;
+                }
+                if (active.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Takes a permit, waiting up to the timeout for a read to finish or for the tuner to raise the concurrency limit.
+         */
+        boolean acquire(long timeout, TimeUnit unit) throws InterruptedException {
+            if (tryAcquire()) {
+                return true;
+            }
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (this) {
+                // Counted before the permits are checked, so a release that the check misses sees the waiter and signals it
+                waiters.incrementAndGet();
+                try {
+                    while (!tryAcquire()) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return false;
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    }
+                    return true;
+                } finally {
+                    waiters.decrementAndGet();
+                }
+            }
+        }
+
+        void release() {
+            active.decrementAndGet();
+            if (waiters.get() > 0) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        int getReadAhead() {
+            return readAhead;
+        }
+
+        /**
+         * Records a completed read, closing the tuning window once it has covered enough bytes and time.
+         */
+        void completed(long bytes) {
+            bytesRead.addAndGet(bytes);
+            if (tuner == null) {
+                return;
+            }
+            synchronized (this) {
+                windowBytes += bytes;
+                long elapsed = System.nanoTime() - windowStartNanos;
+                if (windowBytes < tuningWindowBytes || elapsed < minTuningWindowNanos) {
+                    return;
+                }
+                bytesPerSecond = windowBytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+                tuner.windowCompleted(bytesPerSecond);
+                concurrency = tuner.getConcurrency();
+                readAhead = tuner.getReadAhead();
+                windowBytes = 0;
+                windowStartNanos = System.nanoTime();
+                // A raised limit has room for the reads that are waiting
+                notifyAll();
+            }
+        }
+
+        StoreStatus getStatus() {
+            return new StoreStatus(name, type, concurrency, readAhead, active.get(), bytesRead.get(), bytesPerSecond);
+        }
+    }
+
+    /**
+     * A snapshot of the settings and activity of one store.
+     */
+    public static final class StoreStatus {
+
+        private final String name;
+        private final String type;
+        private final int concurrency;
+        private final int readAhead;
+        private final int activeReads;
+        private final long bytesRead;
+        private final double bytesPerSecond;
+
+        StoreStatus(String name, String type, int concurrency, int readAhead, int activeReads, long bytesRead, double bytesPerSecond) {
+            this.name = name;
+            this.type = type;
+            this.concurrency = concurrency;
+            this.readAhead = readAhead;
+            this.activeReads = activeReads;
+            this.bytesRead = bytesRead;
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public int getReadAhead() {
+            return readAhead;
+        }
+
+        public int getActiveReads() {
+            return activeReads;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        /**
+         * The throughput measured over the last tuning window, or zero before the first window has completed.
+         */
+        public double getBytesPerSecond() {
+            return bytesPerSecond;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + type + "): " + activeReads + "/" + concurrency + " reads of " + readAhead + " bytes, " + bytesRead + " bytes read";
+        }
+    }
+
+    private static final class Settings {
+
+        final int concurrency;
+        final int readAhead;
+
+        Settings(int concurrency, int readAhead) {
+            this.concurrency = concurrency;
+            this.readAhead = readAhead;
+        }
+    }
+
+    public static class Builder {
+
+        private int concurrency = 4;
+        private int readAhead = DigestEngine.DEFAULT_BUFFER_SIZE;
+        private Map<String, Settings> typeSettings = new HashMap<>();
+        private boolean adaptive = true;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 32;
+        private int minReadAhead = 16 * 1024;
+        private int maxReadAhead = 8 * 1024 * 1024;
+        private long tuningWindowBytes = 64L * 1024 * 1024;
+        private long minTuningWindowNanos = TimeUnit.MILLISECONDS.toNanos(250);
+
+        /**
+         * The initial number of files read at once from a store. Defaults to 4.
+         */
+        public Builder concurrency(int concurrency) {
+            this.concurrency = checkConcurrency(concurrency);
+            return this;
+        }
+
+        /**
+         * The initial number of bytes read from a file at a time. Defaults to 64KB.
+         */
+        public Builder readAhead(int readAhead) {
+            this.readAhead = checkReadAhead(readAhead);
+            return this;
+        }
+
+        /**
+         * The initial settings for stores of the given {@link FileStore#type() type}, for example a low concurrency and a large
+         * read-ahead for {@code nfs}.
+         */
+        public Builder storeType(String type, int concurrency, int readAhead) {
+            typeSettings.put(type, new Settings(checkConcurrency(concurrency), checkReadAhead(readAhead)));
+            return this;
+        }
+
+        /**
+         * Whether the settings of each store are tuned from the measured throughput. Defaults to {@code true}.
+         */
+        public Builder adaptive(boolean adaptive) {
+            this.adaptive = adaptive;
+            return this;
+        }
+
+        /**
+         * The range that adaptive tuning keeps the concurrency of a store within. Defaults to 1 to 32.
+         */
+        public Builder concurrencyRange(int min, int max) {
+            if (checkConcurrency(min) > checkConcurrency(max)) {
+                throw new IllegalArgumentException("The minimum concurrency " + min + " is greater than the maximum " + max + ".");
+            }
+            this.minConcurrency = min;
+            this.maxConcurrency = max;
+            return this;
+        }
+
+        /**
+         * The range that adaptive tuning keeps the read-ahead of a store within. Defaults to 16KB to 8MB.
+         */
+        public Builder readAheadRange(int min, int max) {
+            if (checkReadAhead(min) > checkReadAhead(max)) {
+                throw new IllegalArgumentException("The minimum read-ahead " + min + " is greater than the maximum " + max + ".");
+            }
+            this.minReadAhead = min;
+            this.maxReadAhead = max;
+            return this;
+        }
+
+        /**
+         * How many bytes, and for at least how long, throughput is measured before each adjustment. Defaults to 64MB and
+         * 250 milliseconds.
+         */
+        public Builder tuningWindow(long bytes) {
+            return tuningWindow(bytes, 250, TimeUnit.MILLISECONDS);
+        }
+
+        public Builder tuningWindow(long bytes, long minDuration, TimeUnit unit) {
+            if (bytes < 1 || minDuration < 0) {
+                throw new IllegalArgumentException("The tuning window must cover at least one byte and not have a negative duration.");
+            }
+            this.tuningWindowBytes = bytes;
+            this.minTuningWindowNanos = unit.toNanos(minDuration);
+            return this;
+        }
+
+        public IoScheduler build() {
+            return new IoScheduler(this);
+        }
+
+        private static int checkConcurrency(int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("The concurrency must be at least 1 but was " + concurrency + ".");
+            }
+            return concurrency;
+        }
+
+        private static int checkReadAhead(int readAhead) {
+            // Kept well below the largest array so that doubling it cannot overflow
+            if (readAhead < 1 || readAhead > 256 * 1024 * 1024) {
+                throw new IllegalArgumentException("The read-ahead must be between 1 byte and 256MB but was " + readAhead + ".");
+            }
+            return readAhead;
+        }
+    }
+
+}
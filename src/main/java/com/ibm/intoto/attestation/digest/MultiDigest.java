@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.metrics.AttestationMetrics;
+import com.ibm.intoto.attestation.metrics.Metrics;
+import com.ibm.intoto.attestation.utils.Utils;
+
+/**
+ * Calculates several {@link DigestSet} algorithms over the same bytes, as they are read or written. When metrics are enabled,
+ * the time spent in each algorithm is measured and reported with the byte count once the digests are finished.
+ * <p>
+ * Not thread-safe.
+ */
+public final class MultiDigest {
+
+    private final String[] algorithms;
+    private final MessageDigest[] messageDigests;
+    private final AttestationMetrics metrics = Metrics.get();
+    private final long[] hashNanos;
+    private long byteCount;
+    private DigestSet digests;
+
+    /**
+     * @param algorithms the {@link DigestSet} algorithms, {@code sha256} if none are given
+     */
+    public MultiDigest(String... algorithms) throws NoSuchAlgorithmException {
+        this.algorithms = algorithms.length == 0 ? new String[] { DigestSet.ALG_SHA256 } : algorithms.clone();
+        this.messageDigests = new MessageDigest[this.algorithms.length];
+        for (int i = 0; i < this.algorithms.length; i++) {
+            messageDigests[i] = MessageDigest.getInstance(Utils.getJcaAlgorithm(this.algorithms[i]));
+        }
+        this.hashNanos = metrics == null ? null : new long[this.algorithms.length];
+    }
+
+    public String[] getAlgorithms() {
+        return algorithms.clone();
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    public void update(byte[] bytes, int offset, int length) {
+        checkNotFinished();
+        for (int i = 0; i < messageDigests.length; i++) {
+            if (hashNanos == null) {
+                messageDigests[i].update(bytes, offset, length);
+            } else {
+                long start = System.nanoTime();
+                messageDigests[i].update(bytes, offset, length);
+                hashNanos[i] += System.nanoTime() - start;
+            }
+        }
+        byteCount += length;
+    }
+
+    public void update(byte b) {
+        checkNotFinished();
+        for (int i = 0; i < messageDigests.length; i++) {
+            if (hashNanos == null) {
+                messageDigests[i].update(b);
+            } else {
+                long start = System.nanoTime();
+                messageDigests[i].update(b);
+                hashNanos[i] += System.nanoTime() - start;
+            }
+        }
+        byteCount++;
+    }
+
+    /**
+     * Updates every digest with the buffer's remaining bytes, leaving its position at its limit.
+     */
+    public void update(ByteBuffer buffer) {
+        checkNotFinished();
+        int start = buffer.position();
+        for (int i = 0; i < messageDigests.length; i++) {
+            buffer.position(start);
+            if (hashNanos == null) {
+                messageDigests[i].update(buffer);
+            } else {
+                long startNanos = System.nanoTime();
+                messageDigests[i].update(buffer);
+                hashNanos[i] += System.nanoTime() - startNanos;
+            }
+        }
+        byteCount += buffer.position() - start;
+    }
+
+    /**
+     * Completes the digests. Further calls return the same digests, and further updates are not allowed.
+     */
+    public DigestSet finish() {
+        if (digests == null) {
+            digests = new DigestSet();
+            for (int i = 0; i < algorithms.length; i++) {
+                digests.put(algorithms[i], Utils.toHex(messageDigests[i].digest()));
+                if (metrics != null) {
+                    metrics.bytesHashed(algorithms[i], byteCount, hashNanos[i]);
+                }
+            }
+        }
+        return digests;
+    }
+
+    public boolean isFinished() {
+        return digests != null;
+    }
+
+    private void checkNotFinished() {
+        if (digests != null) {
+            throw new IllegalStateException("The digests have already been finished.");
+        }
+    }
+
+}
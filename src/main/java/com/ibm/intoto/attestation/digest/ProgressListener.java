@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+/**
+ * Receives progress reports from a {@link DigestEngine}. Reports come from the hashing threads, at most once per the engine's
+ * progress interval, and a final report comes from the calling thread when the operation completes. A listener must be
+ * thread-safe and should return quickly.
+ */
+public interface ProgressListener {
+
+    void onProgress(DigestProgress progress);
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+/**
+ * Hill climbing over the concurrency and read-ahead of one store. After each measurement window one of the two settings is
+ * moved a step, alternating between them. A step that lowers the throughput is undone and the next step of that setting goes
+ * the other way, so the settings settle where the store is fastest and keep probing around it as the load changes.
+ * <p>
+ * Not thread-safe; the owning {@link IoScheduler} lane serializes the calls.
+ */
+final class ThroughputTuner {
+
+    /**
+     * Changes in throughput smaller than this fraction are treated as noise.
+     */
+    static final double TOLERANCE = 0.05;
+
+    private enum Setting {
+        NONE, CONCURRENCY, READ_AHEAD
+    }
+
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final int minReadAhead;
+    private final int maxReadAhead;
+
+    private int concurrency;
+    private int readAhead;
+    private boolean growConcurrency = true;
+    private boolean growReadAhead = true;
+    private boolean tuneConcurrencyNext = true;
+
+    private Setting lastChange = Setting.NONE;
+    private double baselineThroughput;
+    private int baselineConcurrency;
+    private int baselineReadAhead;
+
+    ThroughputTuner(int concurrency, int minConcurrency, int maxConcurrency, int readAhead, int minReadAhead, int maxReadAhead) {
+        this.minConcurrency = minConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.minReadAhead = minReadAhead;
+        this.maxReadAhead = maxReadAhead;
+        this.concurrency = Math.max(minConcurrency, Math.min(maxConcurrency, concurrency));
+        this.readAhead = Math.max(minReadAhead, Math.min(maxReadAhead, readAhead));
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    int getReadAhead() {
+        return readAhead;
+    }
+
+    /**
+     * Takes the throughput measured with the current settings and moves to the next settings to try.
+     */
+    void windowCompleted(double bytesPerSecond) {
+        if (lastChange != Setting.NONE && bytesPerSecond < baselineThroughput * (1 - TOLERANCE)) {
+            concurrency = baselineConcurrency;
+            readAhead = baselineReadAhead;
+            if (lastChange == Setting.CONCURRENCY) {
+                growConcurrency = !growConcurrency;
+            } else {
+                growReadAhead = !growReadAhead;
+            }
+            // The restored settings are measured again before anything else changes
+            lastChange = Setting.NONE;
+            return;
+        }
+        baselineThroughput = bytesPerSecond;
+        baselineConcurrency = concurrency;
+        baselineReadAhead = readAhead;
+        if (tuneConcurrencyNext) {
+            stepConcurrency();
+        } else {
+            stepReadAhead();
+        }
+        tuneConcurrencyNext = !tuneConcurrencyNext;
+    }
+
+    private void stepConcurrency() {
+        if (growConcurrency ? concurrency >= maxConcurrency : concurrency <= minConcurrency) {
+            growConcurrency = !growConcurrency;
+        }
+        int next = Math.max(minConcurrency, Math.min(maxConcurrency, growConcurrency ? concurrency + 1 : concurrency - 1));
+        lastChange = next == concurrency ? Setting.NONE : Setting.CONCURRENCY;
+        concurrency = next;
+    }
+
+    private void stepReadAhead() {
+        if (growReadAhead ? readAhead >= maxReadAhead : readAhead <= minReadAhead) {
+            growReadAhead = !growReadAhead;
+        }
+        int next = Math.max(minReadAhead, Math.min(maxReadAhead, growReadAhead ? readAhead * 2 : readAhead / 2));
+        lastChange = next == readAhead ? Setting.NONE : Setting.READ_AHEAD;
+        readAhead = next;
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.dsse.exceptions.DsseSigningException;
+
+/**
+ * Signs many Statements in parallel, producing one DSSE envelope per Statement.
+ * <p>
+ * Each worker thread keeps its own {@link Signature} initialized with the signer's key and reuses it for every Statement it
+ * signs, instead of calling {@link Signature#getInstance(String)} and {@code initSign} per envelope. At most
+ * {@code parallelism + queueCapacity} Statements from a single {@link #signAll} call are pending at once; the calling thread waits
+ * for a slot before pulling the next Statement from the stream, so statements are never buffered without limit.
+ */
+public class DsseBatchSigner implements AutoCloseable {
+
+    /**
+     * Receives each signed envelope. It is called concurrently from the worker threads, in no particular order.
+     */
+    public interface EnvelopeHandler {
+        void handle(Statement statement, byte[] envelope) throws IOException;
+    }
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final DsseSigner signer;
+    private final int parallelism;
+    private final int queueCapacity;
+    private final ExecutorService executor;
+    private final ThreadLocal<Signature> signatures = new ThreadLocal<>();
+    private final AtomicInteger signatureInstances = new AtomicInteger();
+
+    private DsseBatchSigner(Builder builder) {
+        this.signer = builder.signer;
+        this.parallelism = builder.parallelism;
+        this.queueCapacity = builder.queueCapacity;
+        this.executor = Executors.newFixedThreadPool(parallelism, new SignerThreadFactory());
+    }
+
+    /**
+     * Signs every Statement in the stream and passes the envelopes to the handler, returning once all of them have been handled.
+     * If a Statement can't be signed or the handler fails, no further Statements are taken from the stream and the first
+     * failure is thrown.
+     *
+     * @return the number of envelopes handled
+     * @throws IllegalStateException if the signer has been closed
+     */
+    public long signAll(Stream<Statement> statements, EnvelopeHandler handler) throws DsseSigningException, IOException, InterruptedException {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The batch signer is closed.");
+        }
+        int capacity = parallelism + queueCapacity;
+        Semaphore slots = new Semaphore(capacity);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicInteger handled = new AtomicInteger();
+        try {
+            Iterator<Statement> iterator = statements.iterator();
+            while (failure.get() == null && iterator.hasNext()) {
+                Statement statement = iterator.next();
+                slots.acquire();
+                Runnable task = () -> {
+                    try {
+                        if (failure.get() == null) {
+                            handler.handle(statement, sign(statement));
+                            handled.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        slots.release();
+                    }
+                };
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    // The signer was closed while the stream was being signed, so the task will never give its slot back
+                    slots.release();
+                    throw e;
+                }
+            }
+        } finally {
+            // Wait for everything that was submitted, even when the stream itself failed
+            slots.acquire(capacity);
+        }
+        Exception e = failure.get();
+        if (e instanceof DsseSigningException) {
+            throw (DsseSigningException) e;
+        }
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        }
+        if (e != null) {
+            throw new IllegalStateException(e);
+        }
+        return handled.get();
+    }
+
+    /**
+     * The number of Signature objects created so far, which is at most one per worker thread.
+     */
+    public int getSignatureInstanceCount() {
+        return signatureInstances.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private byte[] sign(Statement statement) throws IOException, DsseSigningException {
+        ByteArrayOutputStream envelope = new ByteArrayOutputStream();
+        try {
+            signer.sign(statement, getSignature(), envelope);
+        } catch (IOException | DsseSigningException e) {
+            // The Signature may have been left part way through an update, so this thread starts over with a new one
+            signatures.remove();
+            throw e;
+        }
+        return envelope.toByteArray();
+    }
+
+    private Signature getSignature() throws DsseSigningException {
+        Signature signature = signatures.get();
+        if (signature == null) {
+            try {
+                signature = Signature.getInstance(signer.getAlgorithm());
+                signature.initSign(signer.getPrivateKey());
+            } catch (GeneralSecurityException e) {
+                throw new DsseSigningException(signer.getKeyId(), e);
+            }
+            signatures.set(signature);
+            signatureInstances.incrementAndGet();
+        }
+        return signature;
+    }
+
+    private static class SignerThreadFactory implements ThreadFactory {
+
+        private final int pool = POOL_COUNT.incrementAndGet();
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "intoto4j-dsse-signer-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    public static class Builder {
+
+        private DsseSigner signer;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 2 * Runtime.getRuntime().availableProcessors();
+
+        public Builder(DsseSigner signer) {
+            this.signer = signer;
+        }
+
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("The parallelism must be at least 1 but was " + parallelism + ".");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity < 0) {
+                throw new IllegalArgumentException("The queue capacity must not be negative but was " + queueCapacity + ".");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public DsseBatchSigner build() {
+            return new DsseBatchSigner(this);
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import com.ibm.intoto.attestation.dsse.exceptions.InvalidDsseEnvelopeException;
+import com.ibm.intoto.attestation.utils.JsonStreamUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * A Dead Simple Signing Envelope, carrying a payload together with the signatures over its pre-authentication encoding (PAE).
+ * <p>
+ * See https://github.com/secure-systems-lab/dsse/blob/master/envelope.md and
+ * https://github.com/secure-systems-lab/dsse/blob/master/protocol.md.
+ */
+public class DsseEnvelope {
+
+    public static final String KEY_PAYLOAD = "payload";
+    public static final String KEY_PAYLOAD_TYPE = "payloadType";
+    public static final String KEY_SIGNATURES = "signatures";
+
+    public static final String PAYLOAD_TYPE_IN_TOTO = "application/vnd.in-toto+json";
+
+    private static final String PAE_VERSION = "DSSEv1";
+
+    /**
+     * Opaque string that identifies how to interpret the payload.
+     */
+    private final String payloadType;
+
+    /**
+     * The serialized payload.
+     */
+    private final byte[] payload;
+
+    private final List<DsseSignature> signatures;
+
+    public DsseEnvelope(String payloadType, byte[] payload, List<DsseSignature> signatures) {
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.signatures = Collections.unmodifiableList(new ArrayList<>(signatures));
+    }
+
+    public String getPayloadType() {
+        return payloadType;
+    }
+
+    /**
+     * The decoded payload. The array is not copied, so it must not be modified.
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public List<DsseSignature> getSignatures() {
+        return signatures;
+    }
+
+    public JsonObject toJson() {
+        JsonArrayBuilder signaturesBuilder = Json.createArrayBuilder();
+        for (DsseSignature signature : signatures) {
+            signaturesBuilder.add(signature.toJson());
+        }
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        builder.add(KEY_PAYLOAD, Base64.getEncoder().encodeToString(payload));
+        builder.add(KEY_PAYLOAD_TYPE, payloadType);
+        builder.add(KEY_SIGNATURES, signaturesBuilder);
+        return builder.build();
+    }
+
+    /**
+     * Writes the same JSON as {@link #toJson()}, Base64 encoding the payload straight to the stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        write(out, payloadType, payload, payload.length, signatures);
+    }
+
+    public static DsseEnvelope fromJson(JsonObject json) throws InvalidDsseEnvelopeException {
+        if (!(json.get(KEY_SIGNATURES) instanceof JsonArray)) {
+            throw new InvalidDsseEnvelopeException("the " + KEY_SIGNATURES + " entry is missing or not an array");
+        }
+        List<DsseSignature> signatures = new ArrayList<>();
+        for (JsonValue signature : json.getJsonArray(KEY_SIGNATURES)) {
+            if (!(signature instanceof JsonObject)) {
+                throw new InvalidDsseEnvelopeException("a signature is not an object");
+            }
+            signatures.add(DsseSignature.fromJson(signature.asJsonObject()));
+        }
+        byte[] payload = decodeBase64(json, KEY_PAYLOAD);
+        return new DsseEnvelope(getString(json, KEY_PAYLOAD_TYPE, true), payload, signatures);
+    }
+
+    /**
+     * Returns the string entry, or null if an optional entry is missing.
+     */
+    static String getString(JsonObject json, String key, boolean required) throws InvalidDsseEnvelopeException {
+        JsonValue value = json.get(key);
+        if (value instanceof JsonString) {
+            return ((JsonString) value).getString();
+        }
+        if (value == null && !required) {
+            return null;
+        }
+        throw new InvalidDsseEnvelopeException("the " + key + " entry is missing or not a string");
+    }
+
+    static byte[] decodeBase64(JsonObject json, String key) throws InvalidDsseEnvelopeException {
+        String value = getString(json, key, true);
+        try {
+            return Base64.getDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDsseEnvelopeException("the " + key + " entry is not Base64 encoded", e);
+        }
+    }
+
+    /**
+     * Returns the start of the pre-authentication encoding, {@code "DSSEv1" SP LEN(type) SP type SP LEN(body) SP}, which is
+     * followed by the payload itself.
+     */
+    public static byte[] preAuthenticationEncodingHeader(String payloadType, long payloadLength) {
+        byte[] type = payloadType.getBytes(StandardCharsets.UTF_8);
+        String header = PAE_VERSION + " " + type.length + " " + payloadType + " " + payloadLength + " ";
+        return header.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Feeds the pre-authentication encoding of the payload into a signature that has been initialized for signing or
+     * verification.
+     */
+    public static void updatePreAuthenticationEncoding(Signature signature, String payloadType, byte[] payload, int length) throws SignatureException {
+        signature.update(preAuthenticationEncodingHeader(payloadType, length));
+        signature.update(payload, 0, length);
+    }
+
+    static void write(OutputStream out, String payloadType, byte[] payload, int length, List<DsseSignature> signatures) throws IOException {
+        Writer writer = JsonStreamUtils.createWriter(out);
+        writer.write('{');
+        JsonStreamUtils.writeKey(writer, KEY_PAYLOAD);
+        writer.write('"');
+        writer.flush();
+        // Base64 output never needs escaping, and closing the encoder only adds the final padding
+        try (OutputStream encoder = Base64.getEncoder().wrap(JsonStreamUtils.uncloseable(out))) {
+            encoder.write(payload, 0, length);
+        }
+        writer.write("\",");
+        JsonStreamUtils.writeKey(writer, KEY_PAYLOAD_TYPE);
+        JsonStreamUtils.writeValue(writer, Json.createValue(payloadType));
+        writer.write(',');
+        JsonStreamUtils.writeKey(writer, KEY_SIGNATURES);
+        JsonArrayBuilder signaturesBuilder = Json.createArrayBuilder();
+        for (DsseSignature signature : signatures) {
+            signaturesBuilder.add(signature.toJson());
+        }
+        JsonStreamUtils.writeValue(writer, signaturesBuilder.build());
+        writer.write('}');
+        writer.flush();
+    }
+
+}
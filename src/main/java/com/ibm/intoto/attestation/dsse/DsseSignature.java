@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+import com.ibm.intoto.attestation.dsse.exceptions.InvalidDsseEnvelopeException;
+import com.ibm.intoto.attestation.utils.Utils;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * A single signature in a DSSE envelope.
+ */
+public class DsseSignature {
+
+    public static final String KEY_KEYID = "keyid";
+    public static final String KEY_SIG = "sig";
+
+    /**
+     * Optional, unauthenticated hint indicating what key and algorithm was used to sign the message.
+     */
+    private final String keyId;
+
+    /**
+     * The raw signature bytes.
+     */
+    private final byte[] sig;
+
+    public DsseSignature(String keyId, byte[] sig) {
+        this.keyId = keyId;
+        this.sig = sig.clone();
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public byte[] getSig() {
+        return sig.clone();
+    }
+
+    public JsonObject toJson() {
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        Utils.addIfNonNullAndNotEmpty(keyId, KEY_KEYID, builder);
+        builder.add(KEY_SIG, Base64.getEncoder().encodeToString(sig));
+        return builder.build();
+    }
+
+    public static DsseSignature fromJson(JsonObject json) throws InvalidDsseEnvelopeException {
+        return new DsseSignature(DsseEnvelope.getString(json, KEY_KEYID, false), DsseEnvelope.decodeBase64(json, KEY_SIG));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keyId, Arrays.hashCode(sig));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof DsseSignature)) return false;
+        DsseSignature other = (DsseSignature) obj;
+        return Objects.equals(keyId, other.keyId) && Arrays.equals(sig, other.sig);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Collections;
+
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.dsse.exceptions.DsseSigningException;
+import com.ibm.intoto.attestation.jfr.JfrEvents;
+import com.ibm.intoto.attestation.metrics.AttestationMetrics;
+import com.ibm.intoto.attestation.metrics.Metrics;
+
+/**
+ * Wraps Statements in signed DSSE envelopes.
+ * <p>
+ * The Statement is serialized once, into a single buffer. The pre-authentication encoding is fed into the {@link Signature}
+ * from that buffer and the payload is Base64 encoded from it directly into the envelope output, so only one copy of the payload
+ * is ever held in memory.
+ */
+public class DsseSigner {
+
+    private final PrivateKey privateKey;
+    private final String keyId;
+    private final String algorithm;
+
+    /**
+     * @param algorithm the {@link Signature} algorithm name, for example {@code SHA256withECDSA}
+     */
+    public DsseSigner(PrivateKey privateKey, String keyId, String algorithm) {
+        this.privateKey = privateKey;
+        this.keyId = keyId;
+        this.algorithm = algorithm;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Writes a DSSE envelope containing the signed Statement to the stream. The stream is flushed but not closed.
+     */
+    public void sign(Statement statement, OutputStream out) throws IOException, DsseSigningException {
+        Signature signature;
+        try {
+            signature = Signature.getInstance(algorithm);
+            signature.initSign(privateKey);
+        } catch (GeneralSecurityException e) {
+            throw new DsseSigningException(keyId, e);
+        }
+        sign(statement, signature, out);
+    }
+
+    /**
+     * Signs with a Signature that has already been initialized with this signer's key, so callers can reuse Signature objects.
+     */
+    void sign(Statement statement, Signature signature, OutputStream out) throws IOException, DsseSigningException {
+        PayloadBuffer payload = new PayloadBuffer();
+        statement.writeTo(payload);
+        byte[] sig;
+        AttestationMetrics metrics = Metrics.get();
+        long start = metrics == null ? 0 : System.nanoTime();
+        Object event = JfrEvents.beginEnvelopeSigning();
+        try {
+            DsseEnvelope.updatePreAuthenticationEncoding(signature, DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, payload.array(), payload.size());
+            sig = signature.sign();
+            if (metrics != null) {
+                metrics.envelopeSigned(algorithm, System.nanoTime() - start);
+            }
+            JfrEvents.commitEnvelopeSigning(event, keyId, algorithm, payload.size());
+        } catch (GeneralSecurityException e) {
+            throw new DsseSigningException(keyId, e);
+        }
+        DsseEnvelope.write(out, DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, payload.array(), payload.size(), Collections.singletonList(new DsseSignature(keyId, sig)));
+    }
+
+    PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+}
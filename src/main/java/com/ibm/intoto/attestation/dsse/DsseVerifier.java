@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import java.io.ByteArrayInputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.dsse.exceptions.DsseVerificationException;
+import com.ibm.intoto.attestation.dsse.exceptions.InvalidDsseEnvelopeException;
+import com.ibm.intoto.attestation.metrics.Metrics;
+import com.ibm.intoto.attestation.utils.BoundedCache;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonReader;
+
+/**
+ * Verifies DSSE envelopes that wrap in-toto Statements and returns the parsed Statements.
+ * <p>
+ * An envelope is accepted when at least one of its signatures verifies against a trusted key. Public keys are parsed once per
+ * key ID and cached. Each thread keeps one {@link Signature} per key. The digest of every verified pre-authentication encoding is
+ * kept in a bounded cache, so an envelope whose payload has already been verified with a trusted key is accepted without any
+ * signature checks. This is sound because the trusted keys never change for the life of the verifier. The payload is still
+ * parsed for every call, because a Statement is mutable and each caller must get its own.
+ */
+public class DsseVerifier implements AutoCloseable {
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final Map<String, TrustedKey> trustedKeys;
+    private final Map<String, PublicKey> publicKeys = new ConcurrentHashMap<>();
+    private final BoundedCache<String, Boolean> verifiedPayloads;
+    private final ExecutorService executor;
+    private final ThreadLocal<Map<String, Signature>> signatures = ThreadLocal.withInitial(HashMap::new);
+    private final ThreadLocal<MessageDigest> payloadDigests = ThreadLocal.withInitial(DsseVerifier::newPayloadDigest);
+
+    private DsseVerifier(Builder builder) {
+        this.trustedKeys = Collections.unmodifiableMap(new LinkedHashMap<>(builder.trustedKeys));
+        this.verifiedPayloads = new BoundedCache<>(builder.verifiedCacheSize);
+        int pool = POOL_COUNT.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(builder.parallelism, r -> {
+            Thread thread = new Thread(r, "intoto4j-dsse-verifier-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Statement verify(byte[] envelopeJson) throws DsseVerificationException {
+        DsseEnvelope envelope;
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(envelopeJson))) {
+            envelope = DsseEnvelope.fromJson(reader.readObject());
+        } catch (JsonException | InvalidDsseEnvelopeException e) {
+            throw new DsseVerificationException("the envelope is not valid DSSE JSON", e);
+        }
+        return verify(envelope);
+    }
+
+    public Statement verify(DsseEnvelope envelope) throws DsseVerificationException {
+        if (!DsseEnvelope.PAYLOAD_TYPE_IN_TOTO.equals(envelope.getPayloadType())) {
+            throw new DsseVerificationException("the payload type " + envelope.getPayloadType() + " is not " + DsseEnvelope.PAYLOAD_TYPE_IN_TOTO);
+        }
+        byte[] payload = envelope.getPayload();
+        String payloadDigest = digestPreAuthenticationEncoding(envelope.getPayloadType(), payload);
+        boolean verified = verifiedPayloads.get(payloadDigest) != null;
+        if (verified) {
+            Metrics.cacheHit(Metrics.CACHE_VERIFIED_PAYLOAD);
+        } else {
+            Metrics.cacheMiss(Metrics.CACHE_VERIFIED_PAYLOAD);
+            if (!hasTrustedSignature(envelope)) {
+                throw new DsseVerificationException("none of the signatures were made by a trusted key");
+            }
+        }
+        Statement statement;
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(payload))) {
+            statement = Statement.fromJson(reader.readObject());
+        } catch (Exception e) {
+            throw new DsseVerificationException("the payload is not a valid in-toto Statement", e);
+        }
+        if (!verified) {
+            verifiedPayloads.put(payloadDigest, Boolean.TRUE);
+        }
+        return statement;
+    }
+
+    /**
+     * Verifies the envelopes in parallel, returning their Statements in the same order. If any envelope fails verification, the
+     * first failure in list order is thrown.
+     */
+    public List<Statement> verifyAll(List<byte[]> envelopes) throws DsseVerificationException, InterruptedException {
+        List<Future<Statement>> futures = new ArrayList<>(envelopes.size());
+        for (byte[] envelope : envelopes) {
+            Callable<Statement> task = () -> verify(envelope);
+            futures.add(executor.submit(task));
+        }
+        List<Statement> statements = new ArrayList<>(envelopes.size());
+        try {
+            for (Future<Statement> future : futures) {
+                statements.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DsseVerificationException) {
+                throw (DsseVerificationException) e.getCause();
+            }
+            throw new DsseVerificationException(String.valueOf(e.getCause()), e.getCause());
+        } finally {
+            for (Future<Statement> future : futures) {
+                future.cancel(false);
+            }
+        }
+        return statements;
+    }
+
+    public int getVerifiedCacheSize() {
+        return verifiedPayloads.size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private boolean hasTrustedSignature(DsseEnvelope envelope) throws DsseVerificationException {
+        for (DsseSignature signature : envelope.getSignatures()) {
+            // The key ID is only a hint, so an envelope without one is checked against every trusted key
+            if (signature.getKeyId() == null) {
+                for (TrustedKey trustedKey : trustedKeys.values()) {
+                    if (verifySignature(trustedKey, envelope, signature)) {
+                        return true;
+                    }
+                }
+            } else {
+                TrustedKey trustedKey = trustedKeys.get(signature.getKeyId());
+                if (trustedKey != null && verifySignature(trustedKey, envelope, signature)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean verifySignature(TrustedKey trustedKey, DsseEnvelope envelope, DsseSignature signature) throws DsseVerificationException {
+        Map<String, Signature> threadSignatures = signatures.get();
+        try {
+            Signature verifier = threadSignatures.get(trustedKey.keyId);
+            if (verifier == null) {
+                verifier = Signature.getInstance(trustedKey.signatureAlgorithm);
+                threadSignatures.put(trustedKey.keyId, verifier);
+            }
+            // initVerify resets any state left over from a previous verification that failed part way through
+            verifier.initVerify(getPublicKey(trustedKey));
+            byte[] payload = envelope.getPayload();
+            DsseEnvelope.updatePreAuthenticationEncoding(verifier, envelope.getPayloadType(), payload, payload.length);
+            return verifier.verify(signature.getSig());
+        } catch (SignatureException e) {
+            // A malformed signature value is simply not a valid signature
+            return false;
+        } catch (GeneralSecurityException e) {
+            throw new DsseVerificationException("the " + trustedKey.keyId + " trusted key could not be used: " + e.getMessage(), e);
+        }
+    }
+
+    private PublicKey getPublicKey(TrustedKey trustedKey) throws GeneralSecurityException {
+        PublicKey publicKey = publicKeys.get(trustedKey.keyId);
+        if (publicKey == null) {
+            publicKey = trustedKey.publicKey != null ? trustedKey.publicKey : KeyFactory.getInstance(trustedKey.keyAlgorithm).generatePublic(new X509EncodedKeySpec(trustedKey.encodedKey));
+            publicKeys.put(trustedKey.keyId, publicKey);
+        }
+        return publicKey;
+    }
+
+    private String digestPreAuthenticationEncoding(String payloadType, byte[] payload) {
+        MessageDigest digest = payloadDigests.get();
+        digest.update(DsseEnvelope.preAuthenticationEncodingHeader(payloadType, payload.length));
+        digest.update(payload);
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static MessageDigest newPayloadDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class TrustedKey {
+
+        final String keyId;
+        final byte[] encodedKey;
+        final PublicKey publicKey;
+        final String keyAlgorithm;
+        final String signatureAlgorithm;
+
+        TrustedKey(String keyId, byte[] encodedKey, PublicKey publicKey, String keyAlgorithm, String signatureAlgorithm) {
+            this.keyId = keyId;
+            this.encodedKey = encodedKey;
+            this.publicKey = publicKey;
+            this.keyAlgorithm = keyAlgorithm;
+            this.signatureAlgorithm = signatureAlgorithm;
+        }
+    }
+
+    public static class Builder {
+
+        private Map<String, TrustedKey> trustedKeys = new LinkedHashMap<>();
+        private int verifiedCacheSize = 10_000;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Trusts a public key given in X.509 SubjectPublicKeyInfo (DER) form. The key is only parsed the first time it is needed.
+         *
+         * @param keyAlgorithm the {@link KeyFactory} algorithm, for example {@code EC}
+         * @param signatureAlgorithm the {@link Signature} algorithm, for example {@code SHA256withECDSA}
+         */
+        public Builder trustedKey(String keyId, byte[] encodedKey, String keyAlgorithm, String signatureAlgorithm) {
+            trustedKeys.put(keyId, new TrustedKey(keyId, encodedKey.clone(), null, keyAlgorithm, signatureAlgorithm));
+            return this;
+        }
+
+        public Builder trustedKey(String keyId, PublicKey publicKey, String signatureAlgorithm) {
+            trustedKeys.put(keyId, new TrustedKey(keyId, null, publicKey, publicKey.getAlgorithm(), signatureAlgorithm));
+            return this;
+        }
+
+        /**
+         * The maximum number of verified payloads to remember. Zero disables the cache.
+         */
+        public Builder verifiedCacheSize(int verifiedCacheSize) {
+            if (verifiedCacheSize < 0) {
+                throw new IllegalArgumentException("The verified cache size must not be negative but was " + verifiedCacheSize + ".");
+            }
+            this.verifiedCacheSize = verifiedCacheSize;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("The parallelism must be at least 1 but was " + parallelism + ".");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public DsseVerifier build() {
+            return new DsseVerifier(this);
+        }
+    }
+
+}
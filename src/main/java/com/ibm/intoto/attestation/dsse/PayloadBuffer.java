@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Holds a serialized payload and exposes its backing array, so signing and encoding can read the payload without the copy that
+ * {@link ByteArrayOutputStream#toByteArray()} would make.
+ */
+class PayloadBuffer extends ByteArrayOutputStream {
+
+    PayloadBuffer() {
+        super(8192);
+    }
+
+    byte[] array() {
+        return buf;
+    }
+
+}
@@ -22,16 +22,31 @@ public class DigestCalculationException extends Exception {
 
     private static final String ERROR_MSG = "An error occurred while calculating the digest for the %s file: %s";
 
-    private File file;
+    private String source;
 
     public DigestCalculationException(File file, Throwable t) {
+        this(file.getAbsolutePath(), t);
+    }
+
+    /**
+     * @param source names what was being digested, such as a path on a non-default file system or a stream
+     */
+    public DigestCalculationException(String source, Throwable t) {
         super(t);
-        this.file = file;
+        this.source = source;
+    }
+
+    /**
+     * Names what was being digested: the absolute path of a file on the default file system, the URI of a path on another file
+     * system, or the name given for a stream.
+     */
+    public String getSource() {
+        return source;
     }
 
     @Override
     public String getMessage() {
-        return String.format(ERROR_MSG, file.getAbsolutePath(), this.getCause());
+        return String.format(ERROR_MSG, source, this.getCause());
     }
 
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.incremental;
+
+import java.util.Collections;
+import java.util.SortedSet;
+
+import com.ibm.intoto.attestation.Statement;
+
+/**
+ * The result of an {@link IncrementalAttestor}: the new Statement, how its subjects differ from the previous ones, and which
+ * files had to be read to find out.
+ */
+public class IncrementalAttestation {
+
+    private final Statement statement;
+    private final SubjectDiff diff;
+    private final SortedSet<String> rehashed;
+    private final int reusedCount;
+
+    IncrementalAttestation(Statement statement, SubjectDiff diff, SortedSet<String> rehashed, int reusedCount) {
+        this.statement = statement;
+        this.diff = diff;
+        this.rehashed = Collections.unmodifiableSortedSet(rehashed);
+        this.reusedCount = reusedCount;
+    }
+
+    public Statement getStatement() {
+        return statement;
+    }
+
+    public SubjectDiff getDiff() {
+        return diff;
+    }
+
+    /**
+     * The names of the files that were hashed because they were new, their size or modification time had changed, or the
+     * previous attestation had no usable digests or stat data for them.
+     */
+    public SortedSet<String> getRehashed() {
+        return rehashed;
+    }
+
+    /**
+     * The number of files whose digests were taken from the previous attestation without reading them.
+     */
+    public int getReusedCount() {
+        return reusedCount;
+    }
+
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.incremental;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.FileResourceDescriptor;
+import com.ibm.intoto.attestation.digest.Cancellation;
+import com.ibm.intoto.attestation.digest.DigestEngine;
+import com.ibm.intoto.attestation.digest.FileStat;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.attestation.dsse.DsseEnvelope;
+import com.ibm.intoto.attestation.dsse.DsseVerifier;
+import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
+import com.ibm.intoto.attestation.incremental.exceptions.IncrementalAttestationException;
+import com.ibm.intoto.attestation.pipeline.StatementFactory;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+/**
+ * Attests a directory again after an earlier attestation of it, reading only the files that may have changed.
+ * <p>
+ * Every subject is annotated with the {@link FileStat} of its file. On the next attestation, a file whose size and
+ * modification time match the stat recorded for the subject of the same name keeps the digests of that subject, and only new
+ * and changed files, and files the previous attestation has no stat data or digests for, are hashed. A reused subject keeps
+ * its other annotations, while a rehashed one is given only its new stat data. Files that are
+ * {@linkplain FileStat#isRacy(long) racy} at the attestation are not given stat data, because a further change within the file
+ * system's timestamp granularity would not be noticed, so they are always hashed the next time.
+ * <p>
+ * The result holds a single Statement for the directory, with its subjects ordered by name, and a {@link SubjectDiff} against
+ * the previous subjects.
+ */
+public class IncrementalAttestor implements AutoCloseable {
+
+    private final StatementFactory statementFactory;
+    private final DigestEngine digestEngine;
+    private final boolean ownsDigestEngine;
+
+    private IncrementalAttestor(Builder builder) {
+        this.statementFactory = builder.statementFactory;
+        this.ownsDigestEngine = builder.digestEngine == null;
+        this.digestEngine = ownsDigestEngine ? new DigestEngine.Builder().build() : builder.digestEngine;
+    }
+
+    public IncrementalAttestation attest(Path directory, Statement previous) throws IncrementalAttestationException, DigestCalculationException, DigestCancelledException {
+        return attest(directory, previous == null ? Collections.<Statement> emptyList() : Collections.singletonList(previous), Cancellation.NONE);
+    }
+
+    /**
+     * Attests the directory against the Statements in a JSON Lines bundle, such as one written by
+     * {@link com.ibm.intoto.attestation.bundle.BundleWriter}.
+     *
+     * @param verifier verifies the lines, which must then all hold DSSE envelopes; if {@code null}, only unsigned Statements
+     *            are accepted
+     */
+    public IncrementalAttestation attest(Path directory, Path previousBundle, DsseVerifier verifier) throws IncrementalAttestationException, DigestCalculationException, DigestCancelledException {
+        return attest(directory, readBundle(previousBundle, verifier), Cancellation.NONE);
+    }
+
+    /**
+     * Attests the regular files under the directory, naming each subject by its path relative to the directory. When a name
+     * appears in more than one of the previous Statements, the last one is used.
+     */
+    public IncrementalAttestation attest(Path directory, List<Statement> previous, Cancellation cancellation) throws IncrementalAttestationException, DigestCalculationException, DigestCancelledException {
+        long startedAt = System.currentTimeMillis();
+        Map<String, ResourceDescriptor> previousSubjects = new HashMap<>();
+        for (Statement statement : previous) {
+            for (ResourceDescriptor descriptor : statement.getSubject().getResourceDescriptors()) {
+                if (descriptor.getName() != null) {
+                    previousSubjects.put(descriptor.getName(), descriptor);
+                }
+            }
+        }
+
+        SortedMap<String, Path> files = new TreeMap<>();
+        Map<String, FileStat> stats = new HashMap<>();
+        walk(directory, files, stats, cancellation);
+        cancellation.throwIfCancelled();
+
+        SortedMap<String, DigestSet> digests = new TreeMap<>();
+        SortedMap<String, Path> changed = new TreeMap<>();
+        for (Map.Entry<String, Path> file : files.entrySet()) {
+            ResourceDescriptor prior = previousSubjects.get(file.getKey());
+            if (prior != null && stats.get(file.getKey()).matches(FileStat.fromAnnotations(prior.getAnnotations())) && hasAlgorithms(prior.getDigest())) {
+                digests.put(file.getKey(), prior.getDigest());
+            } else {
+                changed.put(file.getKey(), file.getValue());
+            }
+        }
+        digests.putAll(digestEngine.digestFiles(changed, cancellation));
+
+        Subject.Builder subject = new Subject.Builder();
+        SortedMap<String, DigestSet> added = new TreeMap<>();
+        SortedMap<String, SubjectDiff.Change> modified = new TreeMap<>();
+        int unchangedCount = 0;
+        for (Map.Entry<String, DigestSet> digest : digests.entrySet()) {
+            String name = digest.getKey();
+            ResourceDescriptor prior = previousSubjects.remove(name);
+            FileStat stat = stats.get(name);
+            boolean racy = stat.isRacy(startedAt);
+            // Annotations such as chunked digests describe the content, so only a reused digest keeps them
+            ResourceDescriptor reused = changed.containsKey(name) ? null : prior;
+            subject.resourceDescriptor(new FileResourceDescriptor(name, digest.getValue(), annotate(reused, racy ? null : stat)));
+            if (prior == null) {
+                added.put(name, digest.getValue());
+            } else if (sameContent(prior.getDigest(), digest.getValue())) {
+                unchangedCount++;
+            } else {
+                modified.put(name, new SubjectDiff.Change(prior.getDigest(), digest.getValue()));
+            }
+        }
+        // What is left of the previous subjects no longer exists
+        SortedMap<String, DigestSet> removed = new TreeMap<>();
+        for (ResourceDescriptor descriptor : previousSubjects.values()) {
+            removed.put(descriptor.getName(), descriptor.getDigest());
+        }
+
+        Statement statement;
+        try {
+            statement = statementFactory.create(subject.build());
+        } catch (Exception e) {
+            throw new IncrementalAttestationException(directory.toString(), e);
+        }
+        SortedSet<String> rehashed = new TreeSet<>(changed.keySet());
+        return new IncrementalAttestation(statement, new SubjectDiff(added, removed, modified, unchangedCount), rehashed, files.size() - rehashed.size());
+    }
+
+    /**
+     * Closes the digest engine if the attestor created it. An engine given to the {@link Builder} is left open.
+     */
+    @Override
+    public void close() {
+        if (ownsDigestEngine) {
+            digestEngine.close();
+        }
+    }
+
+    /**
+     * Reads the Statements in a JSON Lines bundle, in bundle order, skipping blank lines. With a verifier, every line must hold
+     * a DSSE envelope that it accepts, so that an unsigned Statement added to a signed bundle can't supply digests that are
+     * then reused without reading the files. Without one, every line must hold an unsigned Statement.
+     *
+     * @param verifier verifies the lines, which must then all hold DSSE envelopes; if {@code null}, only unsigned Statements
+     *            are accepted
+     */
+    public static List<Statement> readBundle(Path bundle, DsseVerifier verifier) throws IncrementalAttestationException {
+        List<Statement> statements = new ArrayList<>();
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(bundle, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                JsonObject json;
+                try (JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+                    json = jsonReader.readObject();
+                }
+                if (json.containsKey(DsseEnvelope.KEY_PAYLOAD) && json.containsKey(DsseEnvelope.KEY_SIGNATURES)) {
+                    if (verifier == null) {
+                        throw new IncrementalAttestationException(bundle.toString(), "line " + lineNumber + " holds a DSSE envelope but no verifier was given");
+                    }
+                    statements.add(verifier.verify(line.getBytes(StandardCharsets.UTF_8)));
+                } else if (verifier != null) {
+                    throw new IncrementalAttestationException(bundle.toString(), "line " + lineNumber + " holds an unsigned Statement but a verifier was given");
+                } else {
+                    statements.add(Statement.fromJson(json));
+                }
+            }
+        } catch (IncrementalAttestationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IncrementalAttestationException(bundle + (lineNumber == 0 ? "" : " at line " + lineNumber), e);
+        }
+        return statements;
+    }
+
+    private static void walk(Path directory, SortedMap<String, Path> files, Map<String, FileStat> stats, Cancellation cancellation) throws IncrementalAttestationException {
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (cancellation.isCancelled()) {
+                        return FileVisitResult.TERMINATE;
+                    }
+                    if (attributes.isRegularFile()) {
+                        String name = DigestEngine.relativeName(directory, file);
+                        files.put(name, file);
+                        stats.put(name, FileStat.of(attributes));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new IncrementalAttestationException(directory.toString(), e);
+        }
+    }
+
+    /**
+     * Keeps the previous annotations of a reused subject, other than its stat data, which is replaced.
+     *
+     * @param prior the previous subject when its digests are reused, otherwise {@code null}
+     */
+    private static JsonObject annotate(ResourceDescriptor prior, FileStat stat) {
+        JsonObjectBuilder annotations = Json.createObjectBuilder();
+        if (prior != null && prior.getAnnotations() != null) {
+            for (Map.Entry<String, JsonValue> annotation : prior.getAnnotations().entrySet()) {
+                if (!FileStat.ANNOTATION_KEY.equals(annotation.getKey())) {
+                    annotations.add(annotation.getKey(), annotation.getValue());
+                }
+            }
+        }
+        if (stat != null) {
+            annotations.add(FileStat.ANNOTATION_KEY, stat.toJson());
+        }
+        JsonObject built = annotations.build();
+        return built.isEmpty() ? null : built;
+    }
+
+    /**
+     * Whether the previous digests include every algorithm the engine calculates, so that they can stand in for a new hash.
+     */
+    private boolean hasAlgorithms(DigestSet digest) {
+        for (String algorithm : digestEngine.getAlgorithms()) {
+            if (digest.get(algorithm) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the digests on the algorithms both sets have. Sets with no algorithm in common are treated as different.
+     */
+    private static boolean sameContent(DigestSet previous, DigestSet current) {
+        boolean compared = false;
+        for (Map.Entry<String, String> digest : current.asMap().entrySet()) {
+            String previousValue = previous.get(digest.getKey());
+            if (previousValue != null) {
+                if (!previousValue.equals(digest.getValue())) {
+                    return false;
+                }
+                compared = true;
+            }
+        }
+        return compared;
+    }
+
+    public static class Builder {
+
+        private StatementFactory statementFactory;
+        private DigestEngine digestEngine;
+
+        /**
+         * @param statementFactory creates the Statement, with its predicate, for the subjects
+         */
+        public Builder(StatementFactory statementFactory) {
+            this.statementFactory = statementFactory;
+        }
+
+        /**
+         * The engine used to hash new and changed files, and whose algorithms the reused digests must include. Defaults to an
+         * engine calculating {@code sha256}, which is closed with the attestor; an engine given here is left open.
+         */
+        public Builder digestEngine(DigestEngine digestEngine) {
+            this.digestEngine = digestEngine;
+            return this;
+        }
+
+        public IncrementalAttestor build() {
+            return new IncrementalAttestor(this);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.incremental;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+
+/**
+ * How the subjects of an attestation differ from those of the previous one, by subject name: the subjects that were added,
+ * those that were removed, and those whose digests changed.
+ * <p>
+ * The JSON form lists each group by name with the digests, for example:
+ *
+ * <pre>
+ * {
+ *   "added": [{"name": "lib/new.jar", "digest": {...}}],
+ *   "removed": [{"name": "lib/old.jar", "digest": {...}}],
+ *   "changed": [{"name": "app.jar", "previousDigest": {...}, "digest": {...}}],
+ *   "unchangedCount": 4812
+ * }
+ * </pre>
+ */
+public class SubjectDiff {
+
+    public static final String KEY_ADDED = "added";
+    public static final String KEY_REMOVED = "removed";
+    public static final String KEY_CHANGED = "changed";
+    public static final String KEY_UNCHANGED_COUNT = "unchangedCount";
+    public static final String KEY_PREVIOUS_DIGEST = "previousDigest";
+
+    private final SortedMap<String, DigestSet> added;
+    private final SortedMap<String, DigestSet> removed;
+    private final SortedMap<String, Change> changed;
+    private final int unchangedCount;
+
+    SubjectDiff(SortedMap<String, DigestSet> added, SortedMap<String, DigestSet> removed, SortedMap<String, Change> changed, int unchangedCount) {
+        this.added = Collections.unmodifiableSortedMap(added);
+        this.removed = Collections.unmodifiableSortedMap(removed);
+        this.changed = Collections.unmodifiableSortedMap(changed);
+        this.unchangedCount = unchangedCount;
+    }
+
+    /**
+     * The digests of the subjects that the previous attestation did not have, by name.
+     */
+    public SortedMap<String, DigestSet> getAdded() {
+        return added;
+    }
+
+    /**
+     * The previous digests of the subjects that no longer exist, by name.
+     */
+    public SortedMap<String, DigestSet> getRemoved() {
+        return removed;
+    }
+
+    public SortedMap<String, Change> getChanged() {
+        return changed;
+    }
+
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    public JsonObject toJson() {
+        JsonArrayBuilder addedJson = Json.createArrayBuilder();
+        for (Map.Entry<String, DigestSet> entry : added.entrySet()) {
+            addedJson.add(Json.createObjectBuilder().add(ResourceDescriptor.KEY_NAME, entry.getKey()).add(ResourceDescriptor.KEY_DIGEST, entry.getValue().build()));
+        }
+        JsonArrayBuilder removedJson = Json.createArrayBuilder();
+        for (Map.Entry<String, DigestSet> entry : removed.entrySet()) {
+            removedJson.add(Json.createObjectBuilder().add(ResourceDescriptor.KEY_NAME, entry.getKey()).add(ResourceDescriptor.KEY_DIGEST, entry.getValue().build()));
+        }
+        JsonArrayBuilder changedJson = Json.createArrayBuilder();
+        for (Map.Entry<String, Change> entry : changed.entrySet()) {
+            changedJson.add(Json.createObjectBuilder()
+                .add(ResourceDescriptor.KEY_NAME, entry.getKey())
+                .add(KEY_PREVIOUS_DIGEST, entry.getValue().getPrevious().build())
+                .add(ResourceDescriptor.KEY_DIGEST, entry.getValue().getCurrent().build()));
+        }
+        return Json.createObjectBuilder()
+            .add(KEY_ADDED, addedJson)
+            .add(KEY_REMOVED, removedJson)
+            .add(KEY_CHANGED, changedJson)
+            .add(KEY_UNCHANGED_COUNT, unchangedCount)
+            .build();
+    }
+
+    @Override
+    public String toString() {
+        return added.size() + " added, " + removed.size() + " removed, " + changed.size() + " changed, " + unchangedCount + " unchanged";
+    }
+
+    /**
+     * The digests a subject had in the previous attestation and has now.
+     */
+    public static final class Change {
+
+        private final DigestSet previous;
+        private final DigestSet current;
+
+        Change(DigestSet previous, DigestSet current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        public DigestSet getPrevious() {
+            return previous;
+        }
+
+        public DigestSet getCurrent() {
+            return current;
+        }
+    }
+
+}
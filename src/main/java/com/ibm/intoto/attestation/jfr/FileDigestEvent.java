@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(FileDigestEvent.NAME)
+@Label("File Digest")
+@Description("The digests of a file were calculated or found in a cache")
+@Category({ "intoto4j", "Digest" })
+@StackTrace(false)
+class FileDigestEvent extends Event {
+
+    static final String NAME = "com.ibm.intoto.FileDigest";
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    @Label("Algorithms")
+    String algorithms;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+}
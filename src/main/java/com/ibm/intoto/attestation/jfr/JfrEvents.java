@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.jfr;
+
+/**
+ * Emits JDK Flight Recorder events for file digests, Statement serialization and DSSE signing:
+ * <ul>
+ * <li>{@code com.ibm.intoto.FileDigest}, with the path, size, algorithms and whether the digests came from a cache</li>
+ * <li>{@code com.ibm.intoto.StatementSerialization}, with the predicate type, number of subjects and size</li>
+ * <li>{@code com.ibm.intoto.EnvelopeSigning}, with the key ID, algorithm and payload size</li>
+ * </ul>
+ * Each {@code begin} method returns {@code null} when the event is not enabled in any recording, and the matching
+ * {@code commit} method ignores {@code null}, so instrumented code does almost nothing unless a recording asks for the events.
+ * <p>
+ * Events are handed around as {@code Object} so that callers never refer to JFR types, and the library still runs on Java 8
+ * builds without the {@code jdk.jfr} module.
+ */
+public final class JfrEvents {
+
+    private static final boolean AVAILABLE = isJfrAvailable();
+
+    private JfrEvents() {
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static Object beginFileDigest() {
+        return AVAILABLE ? JfrRecorder.beginFileDigest() : null;
+    }
+
+    public static void commitFileDigest(Object event, String path, long size, String[] algorithms, boolean cacheHit) {
+        if (event != null) {
+            JfrRecorder.commitFileDigest(event, path, size, String.join(",", algorithms), cacheHit);
+        }
+    }
+
+    public static Object beginStatementSerialization() {
+        return AVAILABLE ? JfrRecorder.beginStatementSerialization() : null;
+    }
+
+    public static void commitStatementSerialization(Object event, String predicateType, int subjectCount, long size) {
+        if (event != null) {
+            JfrRecorder.commitStatementSerialization(event, predicateType, subjectCount, size);
+        }
+    }
+
+    public static Object beginEnvelopeSigning() {
+        return AVAILABLE ? JfrRecorder.beginEnvelopeSigning() : null;
+    }
+
+    public static void commitEnvelopeSigning(Object event, String keyId, String algorithm, long payloadSize) {
+        if (event != null) {
+            JfrRecorder.commitEnvelopeSigning(event, keyId, algorithm, payloadSize);
+        }
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.jfr;
+
+/**
+ * The only class outside the events themselves that refers to JFR types. It is only loaded once {@link JfrEvents} has checked
+ * that JFR is available.
+ */
+final class JfrRecorder {
+
+    private JfrRecorder() {
+    }
+
+    static Object beginFileDigest() {
+        return begin(new FileDigestEvent());
+    }
+
+    static void commitFileDigest(Object started, String path, long size, String algorithms, boolean cacheHit) {
+        FileDigestEvent event = (FileDigestEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.size = size;
+            event.algorithms = algorithms;
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+    }
+
+    static Object beginStatementSerialization() {
+        return begin(new StatementSerializationEvent());
+    }
+
+    static void commitStatementSerialization(Object started, String predicateType, int subjectCount, long size) {
+        StatementSerializationEvent event = (StatementSerializationEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.predicateType = predicateType;
+            event.subjectCount = subjectCount;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    static Object beginEnvelopeSigning() {
+        return begin(new EnvelopeSigningEvent());
+    }
+
+    static void commitEnvelopeSigning(Object started, String keyId, String algorithm, long payloadSize) {
+        EnvelopeSigningEvent event = (EnvelopeSigningEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.keyId = keyId;
+            event.algorithm = algorithm;
+            event.payloadSize = payloadSize;
+            event.commit();
+        }
+    }
+
+    private static Object begin(jdk.jfr.Event event) {
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+}
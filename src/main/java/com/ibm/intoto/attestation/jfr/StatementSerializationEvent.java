@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(StatementSerializationEvent.NAME)
+@Label("Statement Serialization")
+@Description("An in-toto Statement was written as JSON")
+@Category({ "intoto4j", "Statement" })
+@StackTrace(false)
+class StatementSerializationEvent extends Event {
+
+    static final String NAME = "com.ibm.intoto.StatementSerialization";
+
+    @Label("Predicate Type")
+    String predicateType;
+
+    @Label("Subjects")
+    int subjectCount;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.metrics;
+
+/**
+ * Receives measurements from the library's hot paths. Implementations must be thread-safe and should return quickly, since
+ * they are called on the threads doing the work.
+ * <p>
+ * Nothing is measured until an implementation is installed with {@link Metrics#install(AttestationMetrics)}. Until then the
+ * library does not even read the clock, so the measurements cost nothing. {@link JmxMetrics} is an implementation that
+ * publishes the totals through JMX.
+ */
+public interface AttestationMetrics {
+
+    /**
+     * Bytes were passed through a message digest.
+     *
+     * @param algorithm the {@link com.ibm.intoto.attestation.DigestSet} algorithm, such as {@code sha256}
+     * @param nanos the time spent in the digest itself, excluding reading the bytes
+     */
+    void bytesHashed(String algorithm, long bytes, long nanos);
+
+    /**
+     * A cache lookup, such as in {@link com.ibm.intoto.attestation.digest.FileDigestCache}, found an entry.
+     *
+     * @param cache a short name for the cache
+     */
+    void cacheHit(String cache);
+
+    void cacheMiss(String cache);
+
+    /**
+     * A {@link com.ibm.intoto.attestation.ResourceDescriptor} was created to describe an artifact. Descriptors parsed from
+     * existing Statements are not counted.
+     */
+    void descriptorCreated();
+
+    /**
+     * A Statement was written as JSON.
+     */
+    void statementSerialized(long bytes, long nanos);
+
+    /**
+     * A DSSE signature was computed, excluding the time to serialize the payload.
+     *
+     * @param algorithm the JCA signature algorithm, such as {@code SHA256withECDSA}
+     */
+    void envelopeSigned(String algorithm, long nanos);
+
+}
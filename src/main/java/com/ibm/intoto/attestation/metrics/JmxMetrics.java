@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * An {@link AttestationMetrics} that keeps running totals and publishes them as an MXBean, by default under
+ * {@value #DEFAULT_OBJECT_NAME}.
+ * <p>
+ * The totals are kept in {@link LongAdder}s so that many hashing and signing threads can report without contending.
+ */
+public class JmxMetrics implements AttestationMetrics, JmxMetricsMXBean {
+
+    public static final String DEFAULT_OBJECT_NAME = "com.ibm.intoto:type=AttestationMetrics";
+
+    private final ConcurrentMap<String, LongAdder> bytesHashed = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> hashNanos = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> cacheHits = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> cacheMisses = new ConcurrentHashMap<>();
+    private final LongAdder descriptors = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder serializedBytes = new LongAdder();
+    private final LongAdder serializationNanos = new LongAdder();
+    private final LongAdder envelopes = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> envelopesByAlgorithm = new ConcurrentHashMap<>();
+    private final LongAdder signingNanos = new LongAdder();
+    private final LongAccumulator maxSigningNanos = new LongAccumulator(Math::max, 0);
+
+    private MBeanServer server;
+    private ObjectName objectName;
+
+    /**
+     * Creates the metrics, registers them with the platform MBean server under {@value #DEFAULT_OBJECT_NAME}, and installs
+     * them with {@link Metrics#install(AttestationMetrics)}.
+     */
+    public static JmxMetrics register() throws JMException {
+        return register(ManagementFactory.getPlatformMBeanServer(), new ObjectName(DEFAULT_OBJECT_NAME));
+    }
+
+    public static JmxMetrics register(MBeanServer server, ObjectName objectName) throws JMException {
+        JmxMetrics metrics = new JmxMetrics();
+        server.registerMBean(metrics, objectName);
+        metrics.server = server;
+        metrics.objectName = objectName;
+        Metrics.install(metrics);
+        return metrics;
+    }
+
+    /**
+     * Uninstalls the metrics, if they are still the installed ones, and unregisters them from the MBean server they were
+     * registered with.
+     */
+    public void unregister() throws JMException {
+        if (Metrics.get() == this) {
+            Metrics.install(null);
+        }
+        if (objectName != null) {
+            server.unregisterMBean(objectName);
+            server = null;
+            objectName = null;
+        }
+    }
+
+    @Override
+    public void bytesHashed(String algorithm, long bytes, long nanos) {
+        counter(bytesHashed, algorithm).add(bytes);
+        counter(hashNanos, algorithm).add(nanos);
+    }
+
+    @Override
+    public void cacheHit(String cache) {
+        counter(cacheHits, cache).increment();
+    }
+
+    @Override
+    public void cacheMiss(String cache) {
+        counter(cacheMisses, cache).increment();
+    }
+
+    @Override
+    public void descriptorCreated() {
+        descriptors.increment();
+    }
+
+    @Override
+    public void statementSerialized(long bytes, long nanos) {
+        statements.increment();
+        serializedBytes.add(bytes);
+        serializationNanos.add(nanos);
+    }
+
+    @Override
+    public void envelopeSigned(String algorithm, long nanos) {
+        envelopes.increment();
+        counter(envelopesByAlgorithm, algorithm).increment();
+        signingNanos.add(nanos);
+        maxSigningNanos.accumulate(nanos);
+    }
+
+    @Override
+    public Map<String, Long> getBytesHashed() {
+        return snapshot(bytesHashed, false);
+    }
+
+    @Override
+    public Map<String, Long> getHashTimeMillis() {
+        return snapshot(hashNanos, true);
+    }
+
+    @Override
+    public Map<String, Long> getCacheHits() {
+        return snapshot(cacheHits, false);
+    }
+
+    @Override
+    public Map<String, Long> getCacheMisses() {
+        return snapshot(cacheMisses, false);
+    }
+
+    @Override
+    public long getDescriptorCount() {
+        return descriptors.sum();
+    }
+
+    @Override
+    public long getStatementsSerialized() {
+        return statements.sum();
+    }
+
+    @Override
+    public long getSerializedBytes() {
+        return serializedBytes.sum();
+    }
+
+    @Override
+    public long getSerializationTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(serializationNanos.sum());
+    }
+
+    @Override
+    public long getEnvelopesSigned() {
+        return envelopes.sum();
+    }
+
+    @Override
+    public Map<String, Long> getEnvelopesSignedByAlgorithm() {
+        return snapshot(envelopesByAlgorithm, false);
+    }
+
+    @Override
+    public long getSigningTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(signingNanos.sum());
+    }
+
+    @Override
+    public long getMaxSigningTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxSigningNanos.get());
+    }
+
+    @Override
+    public void reset() {
+        bytesHashed.clear();
+        hashNanos.clear();
+        cacheHits.clear();
+        cacheMisses.clear();
+        descriptors.reset();
+        statements.reset();
+        serializedBytes.reset();
+        serializationNanos.reset();
+        envelopes.reset();
+        envelopesByAlgorithm.clear();
+        signingNanos.reset();
+        maxSigningNanos.reset();
+    }
+
+    private static LongAdder counter(ConcurrentMap<String, LongAdder> counters, String key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        return counter;
+    }
+
+    private static Map<String, Long> snapshot(ConcurrentMap<String, LongAdder> counters, boolean nanosToMillis) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : counters.entrySet()) {
+            long value = counter.getValue().sum();
+            snapshot.put(counter.getKey(), nanosToMillis ? TimeUnit.NANOSECONDS.toMillis(value) : value);
+        }
+        return snapshot;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of {@link JmxMetrics}. Times are reported in milliseconds, and the maps are keyed by digest algorithm, cache
+ * name or signature algorithm.
+ */
+public interface JmxMetricsMXBean {
+
+    Map<String, Long> getBytesHashed();
+
+    Map<String, Long> getHashTimeMillis();
+
+    Map<String, Long> getCacheHits();
+
+    Map<String, Long> getCacheMisses();
+
+    long getDescriptorCount();
+
+    long getStatementsSerialized();
+
+    long getSerializedBytes();
+
+    long getSerializationTimeMillis();
+
+    long getEnvelopesSigned();
+
+    /**
+     * The envelopes signed with each JCA signature algorithm, such as {@code SHA256withECDSA}.
+     */
+    Map<String, Long> getEnvelopesSignedByAlgorithm();
+
+    long getSigningTimeMillis();
+
+    /**
+     * The slowest signature since the last reset.
+     */
+    long getMaxSigningTimeMillis();
+
+    void reset();
+
+}
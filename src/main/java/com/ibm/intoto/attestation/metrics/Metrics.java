@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.metrics;
+
+/**
+ * Holds the {@link AttestationMetrics} the library reports to. The instrumented code checks {@link #isEnabled()} before
+ * taking any measurement, which is a single volatile read when no metrics are installed.
+ */
+public final class Metrics {
+
+    public static final String CACHE_FILE_DIGEST = "fileDigest";
+    public static final String CACHE_VERIFIED_PAYLOAD = "verifiedPayload";
+
+    private static volatile AttestationMetrics current;
+
+    private Metrics() {
+    }
+
+    /**
+     * Reports to the given metrics from now on, replacing any that were installed. Pass {@code null} to stop measuring.
+     */
+    public static void install(AttestationMetrics metrics) {
+        current = metrics;
+    }
+
+    public static boolean isEnabled() {
+        return current != null;
+    }
+
+    /**
+     * The installed metrics, or {@code null} if there are none.
+     */
+    public static AttestationMetrics get() {
+        return current;
+    }
+
+    public static void cacheHit(String cache) {
+        AttestationMetrics metrics = current;
+        if (metrics != null) {
+            metrics.cacheHit(cache);
+        }
+    }
+
+    public static void cacheMiss(String cache) {
+        AttestationMetrics metrics = current;
+        if (metrics != null) {
+            metrics.cacheMiss(cache);
+        }
+    }
+
+    public static void descriptorCreated() {
+        AttestationMetrics metrics = current;
+        if (metrics != null) {
+            metrics.descriptorCreated();
+        }
+    }
+
+}
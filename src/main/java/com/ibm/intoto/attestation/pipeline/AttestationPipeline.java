@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.bundle.BundleWriter;
+import com.ibm.intoto.attestation.digest.Cancellation;
+import com.ibm.intoto.attestation.digest.DigestEngine;
+import com.ibm.intoto.attestation.dsse.DsseSigner;
+
+/**
+ * Attests files as a stream: the files are found, digested, described, gathered into Statements, optionally signed and
+ * written out by a chain of {@link Flow} stages.
+ * <p>
+ * Every stage holds a bounded number of items and only asks the stage before it for more as it passes items on, so the
+ * memory used is set by the buffer size and the subjects per Statement, not by the number of files. Digesting, describing,
+ * assembling and signing run on a shared pool of daemon threads, kept until the pipeline is closed.
+ * <p>
+ * The files of each attestation are digested as one {@link DigestEngine.Operation}, so the reads keep to the engine's
+ * per-store limits, are reported to its progress listener, and stop when the attestation's {@link Cancellation} is
+ * cancelled, which fails the attestation.
+ */
+public class AttestationPipeline implements AutoCloseable {
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final StatementFactory statementFactory;
+    private final DigestEngine digestEngine;
+    private final boolean ownsDigestEngine;
+    private final StageFunction<DigestedFile, ResourceDescriptor> descriptorFactory;
+    private final DsseSigner signer;
+    private final int subjectsPerStatement;
+    private final int bufferSize;
+    private final ExecutorService executor;
+
+    private AttestationPipeline(Builder builder) {
+        this.statementFactory = builder.statementFactory;
+        this.ownsDigestEngine = builder.digestEngine == null;
+        this.digestEngine = ownsDigestEngine ? new DigestEngine.Builder().build() : builder.digestEngine;
+        this.descriptorFactory = builder.descriptorFactory;
+        this.signer = builder.signer;
+        this.subjectsPerStatement = builder.subjectsPerStatement;
+        this.bufferSize = builder.bufferSize;
+        int pool = POOL_COUNT.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(builder.parallelism, r -> {
+            Thread thread = new Thread(r, "intoto4j-pipeline-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Attests the regular files under the directory, naming each subject by its path relative to the directory.
+     */
+    public Flow.Publisher<byte[]> attest(Path directory) {
+        return attest(directory, Cancellation.NONE);
+    }
+
+    public Flow.Publisher<byte[]> attest(Path directory, Cancellation cancellation) {
+        return attest(new PathPublisher(directory), directory, cancellation);
+    }
+
+    public Flow.Publisher<byte[]> attest(Flow.Publisher<Path> files, Path root) {
+        return attest(files, root, Cancellation.NONE);
+    }
+
+    /**
+     * Attests the published files, returning a publisher of the serialized Statements, or of DSSE envelopes if a signer was
+     * given. Nothing is read until the returned publisher is subscribed to and items are requested from it.
+     *
+     * @param root the directory that subject names are relative to, or {@code null} to name subjects by their full path
+     * @param cancellation stops the reads in progress and fails the attestation when cancelled
+     */
+    public Flow.Publisher<byte[]> attest(Flow.Publisher<Path> files, Path root, Cancellation cancellation) {
+        DigestEngine.Operation operation = digestEngine.startOperation(cancellation);
+        Stage<Path, DigestedFile> digests = new Stage<>(file -> new DigestedFile(root == null ? file.toString() : DigestEngine.relativeName(root, file), file, operation.digest(file)), executor, bufferSize);
+        Stage<DigestedFile, ResourceDescriptor> descriptors = new Stage<DigestedFile, ResourceDescriptor>(descriptorFactory, executor, bufferSize) {
+            @Override
+            void onUpstreamComplete() {
+                // The digest stage only completes once every file it was given has been digested
+                operation.finish();
+            }
+        };
+        Batcher<ResourceDescriptor> batches = new Batcher<>(subjectsPerStatement, 1);
+        Stage<List<ResourceDescriptor>, Statement> statements = new Stage<>(this::createStatement, executor, 1);
+        Stage<Statement, byte[]> documents = new Stage<>(this::serialize, executor, 1);
+
+        files.subscribe(digests);
+        digests.subscribe(descriptors);
+        descriptors.subscribe(batches);
+        batches.subscribe(statements);
+        statements.subscribe(documents);
+        return documents;
+    }
+
+    public CompletableFuture<Long> attest(Path directory, BundleWriter writer) {
+        return attest(directory, writer, Cancellation.NONE);
+    }
+
+    /**
+     * Attests the regular files under the directory and appends the results to the bundle. The returned future completes
+     * with the number of documents appended once they are all durable.
+     */
+    public CompletableFuture<Long> attest(Path directory, BundleWriter writer, Cancellation cancellation) {
+        BundleSink sink = new BundleSink(writer);
+        attest(directory, cancellation).subscribe(sink);
+        return sink.getResult();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        if (ownsDigestEngine) {
+            digestEngine.close();
+        }
+    }
+
+    private Statement createStatement(List<ResourceDescriptor> descriptors) throws Exception {
+        Subject.Builder subject = new Subject.Builder();
+        for (ResourceDescriptor descriptor : descriptors) {
+            subject.resourceDescriptor(descriptor);
+        }
+        return statementFactory.create(subject.build());
+    }
+
+    private byte[] serialize(Statement statement) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (signer == null) {
+            statement.writeTo(out);
+        } else {
+            signer.sign(statement, out);
+        }
+        return out.toByteArray();
+    }
+
+    private static ResourceDescriptor describe(DigestedFile file) throws Exception {
+        return new ResourceDescriptor.Builder().name(file.getName()).digest(file.getDigests()).build();
+    }
+
+    public static class Builder {
+
+        private StatementFactory statementFactory;
+        private DigestEngine digestEngine;
+        private StageFunction<DigestedFile, ResourceDescriptor> descriptorFactory = AttestationPipeline::describe;
+        private DsseSigner signer;
+        private int subjectsPerStatement = 1000;
+        private int bufferSize = 256;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * @param statementFactory creates a Statement for each batch of subjects
+         */
+        public Builder(StatementFactory statementFactory) {
+            this.statementFactory = statementFactory;
+        }
+
+        /**
+         * The engine that digests each file on a pipeline thread, within the engine's store limits. Defaults to an engine
+         * calculating {@code sha256}, which is closed with the pipeline; an engine given here is left open.
+         */
+        public Builder digestEngine(DigestEngine digestEngine) {
+            this.digestEngine = digestEngine;
+            return this;
+        }
+
+        /**
+         * Creates the descriptor of each digested file. Defaults to a descriptor with only the name and digest.
+         */
+        public Builder descriptorFactory(StageFunction<DigestedFile, ResourceDescriptor> descriptorFactory) {
+            this.descriptorFactory = descriptorFactory;
+            return this;
+        }
+
+        /**
+         * Wraps each Statement in a signed DSSE envelope. Without a signer, the Statements themselves are output.
+         */
+        public Builder signer(DsseSigner signer) {
+            this.signer = signer;
+            return this;
+        }
+
+        public Builder subjectsPerStatement(int subjectsPerStatement) {
+            if (subjectsPerStatement < 1) {
+                throw new IllegalArgumentException("The subjects per Statement must be at least 1 but was " + subjectsPerStatement + ".");
+            }
+            this.subjectsPerStatement = subjectsPerStatement;
+            return this;
+        }
+
+        /**
+         * The number of files each of the digest and descriptor stages holds at once, which also bounds how many are digested
+         * at once. Defaults to 256.
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("The buffer size must be at least 1 but was " + bufferSize + ".");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("The parallelism must be at least 1 but was " + parallelism + ".");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public AttestationPipeline build() {
+            return new AttestationPipeline(this);
+        }
+    }
+
+}
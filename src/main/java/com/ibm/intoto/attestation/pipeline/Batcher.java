@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Groups consecutive items into lists of up to the batch size. The last list holds whatever is left when the upstream
+ * completes.
+ */
+public class Batcher<T> extends BoundedProcessor<T, List<T>> {
+
+    private final int batchSize;
+
+    // Only used by the upstream's signals, which are never concurrent
+    private List<T> batch;
+
+    /**
+     * @param bufferedBatches how many full batches may be held waiting for the subscriber
+     */
+    public Batcher(int batchSize, int bufferedBatches) {
+        super(Math.multiplyExact(checkBatchSize(batchSize), Math.max(1, bufferedBatches)));
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    void onItem(T item) {
+        if (batch == null) {
+            batch = new ArrayList<>(batchSize);
+        }
+        batch.add(item);
+        if (batch.size() == batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    void onUpstreamComplete() {
+        if (batch != null) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        List<T> full = batch;
+        batch = null;
+        enqueue(CompletableFuture.completedFuture(full), full.size());
+    }
+
+    private static int checkBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1 but was " + batchSize + ".");
+        }
+        return batchSize;
+    }
+
+}
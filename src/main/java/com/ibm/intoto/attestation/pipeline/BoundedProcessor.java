@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The buffering and signalling shared by the pipeline processors.
+ * <p>
+ * Results are held in arrival order and emitted in that order, each once it is complete and the subscriber has asked for it.
+ * At most {@code capacity} upstream items are ever requested but not yet emitted, counting those still being processed, so the
+ * memory held by a processor is bounded whatever the speed of its neighbours. Only one thread at a time signals the
+ * subscriber: whichever thread finds work to do drains, and a thread that arrives while another is draining just records
+ * that the drain must run again.
+ */
+abstract class BoundedProcessor<T, R> implements Flow.Processor<T, R> {
+
+    private final int capacity;
+    private final Queue<Pending<R>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger drains = new AtomicInteger();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super R> downstream;
+    private volatile boolean upstreamDone;
+    private volatile Throwable upstreamError;
+    private volatile Throwable requestError;
+    private volatile boolean cancelled;
+
+    // Only used by the draining thread
+    private boolean started;
+    private boolean terminated;
+
+    BoundedProcessor(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The buffer size must be at least 1 but was " + capacity + ".");
+        }
+        this.capacity = capacity;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Handles one upstream item, eventually calling {@link #enqueue(CompletableFuture, int)} for it.
+     */
+    abstract void onItem(T item);
+
+    /**
+     * Called once the upstream has completed normally, before the completion is passed on.
+     */
+    void onUpstreamComplete() {
+    }
+
+    /**
+     * Queues a result for emission.
+     *
+     * @param weight the number of upstream items the result accounts for, which are requested again once it is emitted
+     */
+    final void enqueue(CompletableFuture<R> result, int weight) {
+        pending.add(new Pending<>(result, weight));
+        result.whenComplete((value, error) -> drain());
+    }
+
+    @Override
+    public final void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public final void onNext(T item) {
+        if (!cancelled) {
+            onItem(item);
+        }
+    }
+
+    @Override
+    public final void onError(Throwable error) {
+        upstreamError = error;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public final void onComplete() {
+        onUpstreamComplete();
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public final synchronized void subscribe(Flow.Subscriber<? super R> subscriber) {
+        if (downstream != null) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("A pipeline stage can only have one subscriber."));
+            return;
+        }
+        downstream = subscriber;
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    requestError = new IllegalArgumentException("The requested number of items must be positive but was " + n + ".");
+                } else {
+                    demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+        });
+        drain();
+    }
+
+    private void drain() {
+        if (drains.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super R> subscriber = downstream;
+            Flow.Subscription subscription = upstream;
+            if (subscriber != null && subscription != null && !terminated) {
+                if (!started) {
+                    // Nothing is requested until there is somewhere to send it
+                    started = true;
+                    subscription.request(capacity);
+                }
+                emit(subscriber, subscription);
+            }
+            missed = drains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(Flow.Subscriber<? super R> subscriber, Flow.Subscription subscription) {
+        if (cancelled || requestError != null) {
+            terminated = true;
+            pending.clear();
+            subscription.cancel();
+            if (requestError != null) {
+                subscriber.onError(requestError);
+            }
+            return;
+        }
+        long freed = 0;
+        while (true) {
+            Pending<R> head = pending.peek();
+            if (head == null) {
+                if (upstreamDone) {
+                    terminated = true;
+                    if (upstreamError != null) {
+                        subscriber.onError(upstreamError);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                }
+                break;
+            }
+            if (!head.result.isDone()) {
+                break;
+            }
+            R value;
+            try {
+                value = head.result.join();
+            } catch (CompletionException e) {
+                terminated = true;
+                pending.clear();
+                subscription.cancel();
+                subscriber.onError(e.getCause() == null ? e : e.getCause());
+                return;
+            }
+            if (demand.get() == 0) {
+                break;
+            }
+            pending.poll();
+            if (demand.get() != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            subscriber.onNext(value);
+            freed += head.weight;
+        }
+        if (freed > 0 && !terminated) {
+            subscription.request(freed);
+        }
+    }
+
+    private static final class Pending<R> {
+
+        final CompletableFuture<R> result;
+        final int weight;
+
+        Pending(CompletableFuture<R> result, int weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import com.ibm.intoto.attestation.bundle.BundleWriter;
+
+/**
+ * Appends each serialized document it receives to a bundle, as the last step of a pipeline.
+ * <p>
+ * Documents are requested one at a time. Appending blocks while the writer's queue is full, so a slow disk holds back the
+ * whole pipeline rather than filling memory.
+ */
+public class BundleSink implements Flow.Subscriber<byte[]> {
+
+    private final BundleWriter writer;
+    private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+    // Only used by the upstream's signals, which are never concurrent
+    private Flow.Subscription subscription;
+    private CompletableFuture<Long> lastAppend = CompletableFuture.completedFuture(0L);
+    private long count;
+
+    public BundleSink(BundleWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Completes with the number of documents appended once the last one is durable, or exceptionally if the pipeline or an
+     * append failed.
+     */
+    public CompletableFuture<Long> getResult() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(byte[] document) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            // The writer completes appends in order, so waiting for the last one covers them all
+            lastAppend = writer.append(document);
+            lastAppend.whenComplete((offset, error) -> {
+                if (error != null) {
+                    fail(error);
+                }
+            });
+            count++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+            return;
+        } catch (Exception e) {
+            fail(e);
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        result.completeExceptionally(error);
+    }
+
+    @Override
+    public void onComplete() {
+        long total = count;
+        lastAppend.whenComplete((offset, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(total);
+            }
+        });
+    }
+
+    private void fail(Throwable error) {
+        if (result.completeExceptionally(error)) {
+            subscription.cancel();
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import java.nio.file.Path;
+
+import com.ibm.intoto.attestation.DigestSet;
+
+/**
+ * A file and its digests, as passed from the digest stage of an {@link AttestationPipeline} to the descriptor stage.
+ */
+public final class DigestedFile {
+
+    private final String name;
+    private final Path path;
+    private final DigestSet digests;
+
+    public DigestedFile(String name, Path path, DigestSet digests) {
+        this.name = name;
+        this.path = path;
+        this.digests = digests;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public DigestSet getDigests() {
+        return digests;
+    }
+
+}
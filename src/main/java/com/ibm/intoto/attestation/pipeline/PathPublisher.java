@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Publishes the regular files under a directory. The directory is walked lazily, only as far as the subscriber has asked
+ * for, so even a tree of millions of files is never listed in memory. Each subscriber gets its own walk.
+ */
+public class PathPublisher implements Flow.Publisher<Path> {
+
+    private final Path directory;
+
+    public PathPublisher(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Path> subscriber) {
+        subscriber.onSubscribe(new Walk(subscriber));
+    }
+
+    private final class Walk implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Path> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drains = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile long invalidRequest;
+
+        // Only used by the draining thread
+        private Stream<Path> files;
+        private Iterator<Path> iterator;
+        private boolean terminated;
+
+        Walk(Flow.Subscriber<? super Path> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = n;
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (drains.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    emit();
+                }
+                missed = drains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (cancelled || invalidRequest != 0) {
+                terminate();
+                if (!cancelled) {
+                    subscriber.onError(new IllegalArgumentException("The requested number of items must be positive but was " + invalidRequest + "."));
+                }
+                return;
+            }
+            try {
+                if (iterator == null) {
+                    files = Files.find(directory, Integer.MAX_VALUE, (path, attributes) -> attributes.isRegularFile());
+                    iterator = files.iterator();
+                }
+                while (demand.get() > 0 && !cancelled) {
+                    if (!iterator.hasNext()) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    Path file = iterator.next();
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    subscriber.onNext(file);
+                }
+            } catch (IOException | UncheckedIOException e) {
+                terminate();
+                subscriber.onError(e instanceof UncheckedIOException ? e.getCause() : e);
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            if (files != null) {
+                files.close();
+            }
+        }
+    }
+
+}
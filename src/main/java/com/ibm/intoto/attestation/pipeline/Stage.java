@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A pipeline step that applies a function to each item on an executor, so that several items are worked on at once, and
+ * emits the results in the order the items arrived.
+ * <p>
+ * No more than the buffer size of items are requested from upstream and not yet emitted downstream, so a slow subscriber
+ * slows the stage, and through it every stage before it, instead of letting results pile up.
+ */
+public class Stage<T, R> extends BoundedProcessor<T, R> {
+
+    private final StageFunction<? super T, ? extends R> function;
+    private final Executor executor;
+
+    /**
+     * @param bufferSize the maximum number of items held by the stage, which also bounds how many are processed at once
+     */
+    public Stage(StageFunction<? super T, ? extends R> function, Executor executor, int bufferSize) {
+        super(bufferSize);
+        this.function = function;
+        this.executor = executor;
+    }
+
+    @Override
+    void onItem(T item) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(function.apply(item));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        enqueue(result, 1);
+    }
+
+}
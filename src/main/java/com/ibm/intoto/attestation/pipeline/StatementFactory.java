@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+
+/**
+ * Creates the Statement, with its predicate, for each batch of subjects assembled by an {@link AttestationPipeline}.
+ */
+@FunctionalInterface
+public interface StatementFactory {
+
+    Statement create(Subject subject) throws Exception;
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe map that holds at most a fixed number of entries, evicting the least recently used entry when it is full.
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, V> entries;
+
+    public BoundedCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The cache size must not be negative but was " + maxSize + ".");
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > BoundedCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        if (maxSize > 0) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * Adds the entry unless the key is already present, returning the existing value or {@code null} if it was added.
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        V existing = entries.get(key);
+        if (existing == null && maxSize > 0) {
+            entries.put(key, value);
+        }
+        return existing;
+    }
+
+    /**
+     * Removes the entry only if the key is still mapped to the given value.
+     */
+    public synchronized boolean remove(K key, V value) {
+        return entries.remove(key, value);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+}
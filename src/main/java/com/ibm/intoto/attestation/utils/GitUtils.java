@@ -41,28 +41,36 @@ public class GitUtils {
 
     public static final String GITHUB_REPO_URL_FORMAT = "https://github.com/%s/%s";
 
+    private static final String GITHUB_REPO_URL_PREFIX = "https://github.com/";
+    private static final List<String> GITHUB_HOSTS = List.of("github.com", "github.ibm.com");
+
+    /**
+     * Returns the HTTPS URL of the repository's web page for a remote URL in any of the forms described by
+     * {@link GitRemoteUrl}. Repositories on github.com and github.ibm.com are always given a {@code https://github.com/}
+     * URL, and repositories on other hosts keep their host.
+     */
     public static String buildGitHubRepoUrl(String gitRemoteOriginUrl) throws GitRepoUrlException {
-        String owner = getRepoOwner(gitRemoteOriginUrl);
-        String repoName = getRepoName(gitRemoteOriginUrl);
-        return String.format(GITHUB_REPO_URL_FORMAT, owner, repoName);
+        GitRemoteUrl remote = GitRemoteUrl.parse(gitRemoteOriginUrl);
+        if (GITHUB_HOSTS.contains(remote.getHost())) {
+            return GITHUB_REPO_URL_PREFIX + remote.getOwner() + "/" + remote.getRepoName();
+        }
+        return remote.getWebUrl();
     }
 
     public static String getRepoOwner(String gitRemoteOriginUrl) throws GitRepoUrlException {
-        if (gitRemoteOriginUrl == null || gitRemoteOriginUrl.isEmpty()) {
-            throw new GitRepoUrlNullOrEmptyException();
-        }
-        Matcher matcher = getRepoOwnerAndNameMatcher(gitRemoteOriginUrl);
-        return matcher.group(REGEX_GROUP_NAME_OWNER);
+        return GitRemoteUrl.parse(gitRemoteOriginUrl).getOwner();
     }
 
     public static String getRepoName(String gitRemoteOriginUrl) throws GitRepoUrlException {
-        if (gitRemoteOriginUrl == null || gitRemoteOriginUrl.isEmpty()) {
-            throw new GitRepoUrlNullOrEmptyException();
-        }
-        Matcher matcher = getRepoOwnerAndNameMatcher(gitRemoteOriginUrl);
-        return matcher.group(REGEX_GROUP_NAME_REPO_NAME);
+        return GitRemoteUrl.parse(gitRemoteOriginUrl).getRepoName();
     }
 
+    /**
+     * Matches the URL against the original GitHub patterns.
+     *
+     * @deprecated Only understands GitHub URLs in two forms. Use {@link GitRemoteUrl#parse(String)} instead.
+     */
+    @Deprecated
     public static Matcher getRepoOwnerAndNameMatcher(String gitRemoteOriginUrl) throws GitRepoUrlException {
         if (gitRemoteOriginUrl == null || gitRemoteOriginUrl.isEmpty()) {
             throw new GitRepoUrlNullOrEmptyException();
@@ -78,7 +86,7 @@ public class GitUtils {
     }
 
     public static List<String> getExpectedUrlPatterns() {
-        return List.of(GIT_REPO_OWNER_AND_NAME_PATTERN.toString(), GIT_REPO_OWNER_AND_NAME_PATTERN_HTTP.toString());
+        return List.of(GitRemoteUrl.getSupportedForms());
     }
 
 }
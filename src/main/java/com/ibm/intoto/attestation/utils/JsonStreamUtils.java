@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.utils;
+
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+/**
+ * Helpers for writing JSON documents piece by piece to a stream, mixing hand-written structure, JSON generators and raw bytes.
+ */
+public class JsonStreamUtils {
+
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(null);
+
+    /**
+     * Creates a UTF-8 writer over the stream. Closing the writer only flushes it, leaving the stream open.
+     */
+    public static Writer createWriter(OutputStream out) {
+        return new UncloseableWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Wraps the stream so that closing it, for example by closing a Base64 encoding stream around it, only flushes it.
+     */
+    public static OutputStream uncloseable(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.flush();
+            }
+        };
+    }
+
+    /**
+     * Creates a generator for a single JSON value. The generator must be closed once the value is written, which returns its
+     * buffer to the pool; when the writer came from {@link #createWriter(OutputStream)}, the close doesn't reach the stream.
+     */
+    public static JsonGenerator createGenerator(Writer writer) {
+        return GENERATOR_FACTORY.createGenerator(writer);
+    }
+
+    /**
+     * Writes an object key and its colon. The key is written as is, so it must not need escaping.
+     */
+    public static void writeKey(Writer writer, String key) throws IOException {
+        writer.write('"');
+        writer.write(key);
+        writer.write("\":");
+    }
+
+    public static void writeValue(Writer writer, JsonValue value) {
+        JsonGenerator generator = createGenerator(writer);
+        generator.write(value);
+        generator.close();
+    }
+
+    private static class UncloseableWriter extends FilterWriter {
+
+        UncloseableWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+}
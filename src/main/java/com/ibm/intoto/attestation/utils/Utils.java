@@ -17,11 +17,14 @@
 package com.ibm.intoto.attestation.utils;
 
 import java.io.File;
-import java.math.BigInteger;
-import java.nio.file.Files;
-import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
 import java.util.Map;
 
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.Cancellation;
+import com.ibm.intoto.attestation.digest.DigestEngine;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
 import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -30,6 +33,16 @@ import jakarta.json.JsonObjectBuilder;
 
 public class Utils {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final Map<String, String> JCA_ALGORITHMS = new HashMap<>();
+
+    static {
+        JCA_ALGORITHMS.put(DigestSet.ALG_SHA1, "SHA-1");
+        JCA_ALGORITHMS.put(DigestSet.ALG_SHA256, "SHA-256");
+        JCA_ALGORITHMS.put(DigestSet.ALG_SHA384, "SHA-384");
+        JCA_ALGORITHMS.put(DigestSet.ALG_SHA512, "SHA-512");
+    }
+
     public static void addIfNonNullAndNotEmpty(String entry, String key, JsonObjectBuilder builder) {
         if (entry != null && !entry.isEmpty()) {
             builder.add(key, entry);
@@ -56,13 +69,43 @@ public class Utils {
     }
 
     public static String calculateSha256ForFile(File file) throws DigestCalculationException {
+        return calculateDigestsForFile(file, DigestSet.ALG_SHA256).get(DigestSet.ALG_SHA256);
+    }
+
+    /**
+     * Calculates every requested digest in a single pass over the file, through {@link DigestEngine#getDefault()}. The
+     * algorithms are named as in a {@link DigestSet}.
+     */
+    public static DigestSet calculateDigestsForFile(File file, String... algorithms) throws DigestCalculationException {
         try {
-            byte[] fileBytes = Files.readAllBytes(file.toPath());
-            byte[] fileHashBytes = MessageDigest.getInstance("SHA-256").digest(fileBytes);
-            return new BigInteger(1, fileHashBytes).toString(16);
-        } catch (Exception e) {
+            return DigestEngine.getDefault().digest(file.toPath(), Cancellation.NONE, algorithms);
+        } catch (DigestCancelledException | IllegalArgumentException e) {
+            // Without a Cancellation this can only be an unsupported algorithm
             throw new DigestCalculationException(file, e);
         }
     }
 
+    /**
+     * The Java Cryptography Architecture name of a {@link DigestSet} algorithm, such as {@code SHA-256} for {@code sha256}.
+     */
+    public static String getJcaAlgorithm(String algorithm) throws NoSuchAlgorithmException {
+        String jcaAlgorithm = JCA_ALGORITHMS.get(algorithm);
+        if (jcaAlgorithm == null) {
+            throw new NoSuchAlgorithmException(algorithm);
+        }
+        return jcaAlgorithm;
+    }
+
+    /**
+     * Lower case hex encoding that keeps leading zeros, so that digests always have the full length for their algorithm.
+     */
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
 }
@@ -122,4 +122,15 @@ public class DigestSetTest {
         assertEquals(set1, set2);
     }
 
+    @Test
+    public void test_fromJson() {
+        set.put(DigestSet.ALG_SHA256, "1234567890");
+        set.put(DigestSet.GITCOMMIT, "abcdef");
+
+        DigestSet parsed = DigestSet.fromJson(set.build());
+
+        assertEquals(set, parsed, "Parsed digest set did not match.");
+        assertEquals("1234567890", parsed.get(DigestSet.ALG_SHA256), "Digest did not match.");
+    }
+
 }
@@ -17,12 +17,16 @@
 package com.ibm.intoto.attestation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
 
 public class PredicateTest {
 
@@ -48,4 +52,32 @@ public class PredicateTest {
         assertEquals(predicateParameters, predicate.getPredicateParameters(), "Predicate parameters did not match.");
     }
 
+    @Test
+    public void test_writeParameters_default() throws Exception {
+        JsonObject predicateParameters = Json.createObjectBuilder().add("special-key", "special value").add("count", 2).build();
+        TestPredicate predicate = new TestPredicate(predicateParameters);
+        assertFalse(predicate.isStreamable(), "Predicate should not have been streamable by default.");
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(writer)) {
+            generator.writeStartObject();
+            predicate.writeParameters(generator);
+            generator.writeEnd();
+        }
+        assertEquals(predicateParameters.toString(), writer.toString(), "Written parameters did not match.");
+    }
+
+    @Test
+    public void test_writeParameters_defaultNullParameters() throws Exception {
+        TestPredicate predicate = new TestPredicate(null);
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(writer)) {
+            generator.writeStartObject();
+            predicate.writeParameters(generator);
+            generator.writeEnd();
+        }
+        assertEquals("{}", writer.toString(), "Written parameters did not match.");
+    }
+
 }
@@ -16,14 +16,21 @@
 */
 package com.ibm.intoto.attestation;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 
+import com.ibm.intoto.attestation.custom.predicates.json.RawJsonPredicate;
 import com.ibm.intoto.attestation.exceptions.StatementValueNullException;
 import com.ibm.intoto.test.CommonTestUtils;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
 
 public class StatementTest {
 
@@ -135,6 +142,108 @@ public class StatementTest {
         }
     }
 
+    @Test
+    public void test_writeTo_matchesToJson() throws Exception {
+        Subject subject = getBasicSubject();
+        JsonObject predicateParameters = Json.createObjectBuilder().add("special-key", "special \"quoted\" value").build();
+        Statement statement = new Statement.Builder(type, subject, TestPredicate.PREDICATE_TYPE).predicate(new TestPredicate(predicateParameters)).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+
+        assertEquals(statement.toJson().toString(), new String(out.toByteArray(), StandardCharsets.UTF_8), "Streamed statement did not match the JSON tree.");
+    }
+
+    @Test
+    public void test_writeTo_emptyPredicateOmitted() throws Exception {
+        Subject subject = getBasicSubject();
+        Statement statement = new Statement.Builder(type, subject, predicateType).predicate(new TestPredicate(JsonObject.EMPTY_JSON_OBJECT)).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+
+        assertEquals(statement.toJson().toString(), new String(out.toByteArray(), StandardCharsets.UTF_8), "Streamed statement did not match the JSON tree.");
+    }
+
+    @Test
+    public void test_writeTo_rawPredicateCopiedVerbatim() throws Exception {
+        Subject subject = getBasicSubject();
+        String rawJson = "{ \"special-key\" : [1, 2.50, \"three\"] }";
+        RawJsonPredicate predicate = new RawJsonPredicate(predicateType, rawJson.getBytes(StandardCharsets.UTF_8), true);
+        Statement statement = new Statement.Builder(type, subject, predicateType).predicate(predicate).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+
+        String expected = "{\"_type\":\"" + type + "\",\"subject\":" + subject.toJson() + ",\"predicateType\":\"" + predicateType + "\",\"predicate\":" + rawJson + "}";
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8), "Raw predicate was not copied verbatim.");
+    }
+
+    @Test
+    public void test_writeTo_emptyRawPredicateOmitted() throws Exception {
+        Subject subject = getBasicSubject();
+        RawJsonPredicate predicate = new RawJsonPredicate(predicateType, " { }\n".getBytes(StandardCharsets.UTF_8), true);
+        Statement statement = new Statement.Builder(type, subject, predicateType).predicate(predicate).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+
+        assertEquals(statement.toJson().toString(), new String(out.toByteArray(), StandardCharsets.UTF_8), "Streamed statement did not match the JSON tree.");
+    }
+
+    @Test
+    public void test_writeTo_streamablePredicatePreferred() throws Exception {
+        Subject subject = getBasicSubject();
+        Predicate predicate = new TestPredicate(null) {
+            @Override
+            public boolean isStreamable() {
+                return true;
+            }
+
+            @Override
+            public void writeParameters(JsonGenerator generator) {
+                generator.writeStartArray("results");
+                for (int i = 0; i < 3; i++) {
+                    generator.write("test-" + i);
+                }
+                generator.writeEnd();
+            }
+        };
+        Statement statement = new Statement.Builder(type, subject, TestPredicate.PREDICATE_TYPE).predicate(predicate).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+
+        JsonObject statementJson = Json.createReader(new ByteArrayInputStream(out.toByteArray())).readObject();
+        JsonObject expectedPredicate = Json.createObjectBuilder().add("results", Json.createArrayBuilder().add("test-0").add("test-1").add("test-2")).build();
+        testUtils.assertJsonEntryMatches("Statement", statementJson, Statement.KEY_SUBJECT, subject.toJson());
+        testUtils.assertJsonEntryMatches("Statement", statementJson, Statement.KEY_PREDICATE, expectedPredicate);
+    }
+
+    @Test
+    public void test_fromJson() throws Exception {
+        Subject subject = getBasicSubject();
+        JsonObject predicateParameters = Json.createObjectBuilder().add("special-key", "special value").build();
+        Statement statement = new Statement.Builder(type, subject, TestPredicate.PREDICATE_TYPE).predicate(new TestPredicate(predicateParameters)).build();
+
+        Statement parsed = Statement.fromJson(statement.toJson());
+
+        assertEquals(statement.toJson(), parsed.toJson(), "Parsed statement did not match.");
+        assertEquals("file.war", parsed.getSubject().getResourceDescriptors().get(0).getName(), "Subject name did not match.");
+        assertEquals(predicateParameters, parsed.getPredicate().getPredicateParameters(), "Predicate parameters did not match.");
+    }
+
+    @Test
+    public void test_fromJson_missingSubject() throws Exception {
+        JsonObject statementJson = Json.createObjectBuilder().add(Statement.KEY_TYPE, type).add(Statement.KEY_PREDICATE_TYPE, predicateType).build();
+        try {
+            Statement.fromJson(statementJson);
+            fail("Should have thrown an exception, but didn't.");
+        } catch (StatementValueNullException e) {
+            testUtils.assertExceptionMatchesPattern(e, Statement.KEY_SUBJECT);
+        }
+    }
+
     private Subject getBasicSubject() throws Exception {
         Subject.Builder subjectBuilder = new Subject.Builder();
         ResourceDescriptor resourceDescriptor = new ResourceDescriptor.Builder().name("file.war").build();
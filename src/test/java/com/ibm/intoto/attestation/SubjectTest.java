@@ -66,6 +66,7 @@ public class SubjectTest {
         JsonArray subjectJson = subject.toJson();
         assertFalse(subjectJson.isEmpty(), "Subject should not have been empty but was.");
         assertEquals(3, subjectJson.size(), "Subject size did not match expected value. Subject was: " + subjectJson);
+        assertEquals(3, subject.size(), "Subject size did not match expected value. Subject was: " + subjectJson);
         assertEquals(resourceDescriptor1.toJson(), subjectJson.get(0), "Resource descriptor in subject did not match expected value.");
         assertEquals(resourceDescriptor2.toJson(), subjectJson.get(1), "Resource descriptor in subject did not match expected value.");
         assertEquals(resourceDescriptor3.toJson(), subjectJson.get(2), "Resource descriptor in subject did not match expected value.");
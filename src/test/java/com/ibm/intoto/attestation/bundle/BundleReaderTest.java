@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.bundle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.dsse.DsseSigner;
+import com.ibm.intoto.attestation.dsse.DsseVerifier;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+public class BundleReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_findByDigestAndName() throws Exception {
+        Path bundle = writeBundle(100);
+        try (BundleReader reader = BundleReader.open(bundle)) {
+            assertEquals(100, reader.getLineCount(), "Unexpected number of lines.");
+
+            List<byte[]> lines = reader.findByDigest(DigestSet.ALG_SHA256, "digest-42");
+            assertEquals(1, lines.size(), "Unexpected number of matches.");
+            assertEquals("file-42.jar", subjectName(lines.get(0)), "The wrong line was returned.");
+
+            lines = reader.findByName("file-7.jar");
+            assertEquals(1, lines.size(), "Unexpected number of matches.");
+            assertEquals("file-7.jar", subjectName(lines.get(0)), "The wrong line was returned.");
+
+            assertTrue(reader.findByDigest(DigestSet.ALG_SHA256, "missing").isEmpty(), "No line should have matched.");
+        }
+        assertTrue(Files.exists(bundle.resolveSibling(bundle.getFileName() + BundleReader.INDEX_EXTENSION)), "The index sidecar should have been saved.");
+    }
+
+    @Test
+    public void test_sidecarReusedAndExtended() throws Exception {
+        Path bundle = writeBundle(10);
+        try (BundleReader reader = BundleReader.open(bundle)) {
+            assertEquals(10, reader.getLineCount(), "Unexpected number of lines.");
+        }
+
+        // Lines appended after the index was saved are indexed without rescanning the start of the bundle
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            writer.append(getStatement("file-new.jar", "digest-new")).get();
+        }
+        try (BundleReader reader = BundleReader.open(bundle)) {
+            assertEquals(11, reader.getLineCount(), "Unexpected number of lines.");
+            assertEquals(1, reader.findByDigest(DigestSet.ALG_SHA256, "digest-new").size(), "The appended line should have been indexed.");
+            assertEquals(1, reader.findByDigest(DigestSet.ALG_SHA256, "digest-3").size(), "The previously indexed line should still be found.");
+        }
+    }
+
+    @Test
+    public void test_sidecarOfReplacedBundleRebuilt() throws Exception {
+        Path bundle = writeBundle(10);
+        try (BundleReader reader = BundleReader.open(bundle)) {
+            assertEquals(10, reader.getLineCount(), "Unexpected number of lines.");
+        }
+
+        // A different bundle at least as large as the indexed one must not be read through the old index
+        Files.delete(bundle);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            for (int i = 0; i < 12; i++) {
+                writer.append(getStatement("other-" + i + ".jar", "other-digest-" + i));
+            }
+        }
+        try (BundleReader reader = BundleReader.open(bundle)) {
+            assertEquals(12, reader.getLineCount(), "The index should have been rebuilt.");
+            assertTrue(reader.findByDigest(DigestSet.ALG_SHA256, "digest-3").isEmpty(), "A line of the replaced bundle was found.");
+            List<byte[]> lines = reader.findByName("other-11.jar");
+            assertEquals(1, lines.size(), "Unexpected number of matches.");
+            assertEquals("other-11.jar", subjectName(lines.get(0)), "The wrong line was returned.");
+        }
+    }
+
+    @Test
+    public void test_longNameSavedInSidecar() throws Exception {
+        char[] chars = new char[70_000];
+        Arrays.fill(chars, 'n');
+        String name = new String(chars) + ".jar";
+        Path bundle = tempDir.resolve("long" + BundleWriter.FILE_EXTENSION);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            writer.append(getStatement(name, "digest-long")).get();
+        }
+
+        try (BundleReader reader = BundleReader.open(bundle)) {
+            assertEquals(1, reader.findByName(name).size(), "Unexpected number of matches.");
+        }
+        // Now loaded from the sidecar
+        try (BundleReader reader = BundleReader.open(bundle)) {
+            assertEquals(1, reader.findByName(name).size(), "The name was not loaded from the sidecar.");
+        }
+    }
+
+    @Test
+    public void test_damagedSidecarRebuilt() throws Exception {
+        Path bundle = writeBundle(5);
+        Path sidecar = bundle.resolveSibling(bundle.getFileName() + BundleReader.INDEX_EXTENSION);
+        try (BundleReader reader = BundleReader.open(bundle)) {
+            assertEquals(5, reader.getLineCount(), "Unexpected number of lines.");
+        }
+
+        // The key count follows the header, the fingerprint and the line count, and the location count of the first key
+        // follows that key
+        ByteBuffer saved = ByteBuffer.wrap(Files.readAllBytes(sidecar));
+        int keyCountOffset = 28 + saved.getInt(24) + 4;
+        int keyStart = keyCountOffset + 4;
+        int locationCountOffset = keyStart + 4 + saved.getInt(keyStart);
+        for (int[] damage : new int[][] { { keyCountOffset, -1 }, { keyCountOffset, Integer.MAX_VALUE }, { locationCountOffset, -1 }, { locationCountOffset, Integer.MAX_VALUE } }) {
+            byte[] damaged = saved.array().clone();
+            ByteBuffer.wrap(damaged).putInt(damage[0], damage[1]);
+            Files.write(sidecar, damaged);
+            try (BundleReader reader = BundleReader.open(bundle)) {
+                assertEquals(5, reader.getLineCount(), "The damaged sidecar should have been rebuilt.");
+                assertEquals(1, reader.findByName("file-4.jar").size(), "Unexpected number of matches.");
+            }
+        }
+    }
+
+    @Test
+    public void test_partialLastLineIgnored() throws Exception {
+        Path bundle = writeBundle(3);
+        Files.write(bundle, "{\"_type\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        try (BundleReader reader = new BundleReader.Builder(bundle).saveIndex(false).build()) {
+            assertEquals(3, reader.getLineCount(), "The partial line should not have been counted.");
+            assertEquals(1, reader.findByName("file-2.jar").size(), "Unexpected number of matches.");
+        }
+    }
+
+    @Test
+    public void test_foreignLinesSkipped() throws Exception {
+        Path bundle = tempDir.resolve("mixed" + BundleWriter.FILE_EXTENSION);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            for (String foreign : Arrays.asList("[1, 2]", "not json", "{\"payload\":1,\"signatures\":[]}", "{\"payload\":\"not base64!\",\"signatures\":[]}")) {
+                writer.append(foreign.getBytes(StandardCharsets.UTF_8));
+            }
+            writer.append(getStatement("file-0.jar", "digest-0")).get();
+        }
+        try (BundleReader reader = new BundleReader.Builder(bundle).saveIndex(false).build()) {
+            assertEquals(5, reader.getLineCount(), "Unexpected number of lines.");
+            assertEquals(1, reader.findByDigest(DigestSet.ALG_SHA256, "digest-0").size(), "The Statement after the foreign lines should have been indexed.");
+        }
+    }
+
+    @Test
+    public void test_envelopeLines() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        KeyPair keyPair = generator.generateKeyPair();
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", "SHA256withECDSA");
+
+        Path bundle = tempDir.resolve("signed" + BundleWriter.FILE_EXTENSION);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            for (int i = 0; i < 5; i++) {
+                writer.append(getStatement("file-" + i + ".jar", "digest-" + i), signer).get();
+            }
+        }
+
+        try (BundleReader reader = BundleReader.open(bundle); DsseVerifier verifier = new DsseVerifier.Builder().trustedKey("key-1", keyPair.getPublic(), "SHA256withECDSA").build()) {
+            List<byte[]> lines = reader.findByDigest(DigestSet.ALG_SHA256, "digest-3");
+            assertEquals(1, lines.size(), "Unexpected number of matches.");
+            Statement statement = verifier.verify(lines.get(0));
+            assertEquals("file-3.jar", statement.getSubject().getResourceDescriptors().get(0).getName(), "The wrong envelope was returned.");
+        }
+    }
+
+    private Path writeBundle(int count) throws Exception {
+        Path bundle = tempDir.resolve("attestations" + BundleWriter.FILE_EXTENSION);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            for (int i = 0; i < count; i++) {
+                writer.append(getStatement("file-" + i + ".jar", "digest-" + i));
+            }
+        }
+        return bundle;
+    }
+
+    private String subjectName(byte[] line) {
+        JsonObject statement = Json.createReader(new ByteArrayInputStream(line)).readObject();
+        return statement.getJsonArray(Statement.KEY_SUBJECT).getJsonObject(0).getString(ResourceDescriptor.KEY_NAME);
+    }
+
+    private Statement getStatement(String name, String sha256) throws Exception {
+        DigestSet digest = new DigestSet();
+        digest.put(DigestSet.ALG_SHA256, sha256);
+        Subject subject = new Subject.Builder().resourceDescriptor(new ResourceDescriptor.Builder().name(name).digest(digest).build()).build();
+        return new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, "https://localhost/predicate/v1").build();
+    }
+
+}
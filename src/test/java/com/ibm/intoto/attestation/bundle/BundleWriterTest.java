@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.bundle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.bundle.exceptions.BundleWriterClosedException;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+public class BundleWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_append_manyProducers() throws Exception {
+        Path bundle = tempDir.resolve("attestations" + BundleWriter.FILE_EXTENSION);
+        List<Long> offsets = new ArrayList<>();
+        ExecutorService producers = Executors.newFixedThreadPool(8);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).queueCapacity(16).maxBatchSize(32).build()) {
+            List<Future<CompletableFuture<Long>>> appends = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                Statement statement = getStatement("file-" + i + ".war");
+                appends.add(producers.submit(() -> writer.append(statement)));
+            }
+            for (Future<CompletableFuture<Long>> append : appends) {
+                offsets.add(append.get().get());
+            }
+        } finally {
+            producers.shutdown();
+        }
+
+        byte[] content = Files.readAllBytes(bundle);
+        List<String> lines = Files.readAllLines(bundle, StandardCharsets.UTF_8);
+        assertEquals(500, lines.size(), "Unexpected number of lines.");
+        Set<String> names = new HashSet<>();
+        for (String line : lines) {
+            JsonObject statement = Json.createReader(new StringReader(line)).readObject();
+            names.add(statement.getJsonArray(Statement.KEY_SUBJECT).getJsonObject(0).getString(ResourceDescriptor.KEY_NAME));
+        }
+        assertEquals(500, names.size(), "Every statement should have been written exactly once.");
+        for (long offset : offsets) {
+            assertTrue(offset == 0 || content[(int) offset - 1] == '\n', "Offset " + offset + " is not the start of a line.");
+            assertEquals('{', content[(int) offset], "Offset " + offset + " is not the start of a statement.");
+        }
+    }
+
+    @Test
+    public void test_append_lineBreaksReplaced() throws Exception {
+        Path bundle = tempDir.resolve("attestations" + BundleWriter.FILE_EXTENSION);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            String json = "{\n  \"key\": \"value\"\r\n}";
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            writer.append(bytes).get();
+            assertEquals(json, new String(bytes, StandardCharsets.UTF_8), "The caller's array should not have been changed.");
+        }
+        List<String> lines = Files.readAllLines(bundle, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size(), "Unexpected number of lines.");
+        assertEquals("value", Json.createReader(new StringReader(lines.get(0))).readObject().getString("key"), "Line did not parse.");
+    }
+
+    @Test
+    public void test_append_existingBundle() throws Exception {
+        Path bundle = tempDir.resolve("attestations" + BundleWriter.FILE_EXTENSION);
+        Files.write(bundle, "{}\n".getBytes(StandardCharsets.UTF_8));
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).sync(false).build()) {
+            assertEquals(3L, writer.append(getStatement("file.war")).get(), "The line should have been appended after the existing content.");
+        }
+        assertEquals(2, Files.readAllLines(bundle, StandardCharsets.UTF_8).size(), "Unexpected number of lines.");
+    }
+
+    @Test
+    public void test_append_afterClose() throws Exception {
+        BundleWriter writer = new BundleWriter.Builder(tempDir.resolve("attestations" + BundleWriter.FILE_EXTENSION)).build();
+        writer.close();
+        assertThrows(BundleWriterClosedException.class, () -> writer.append(getStatement("file.war")));
+    }
+
+    private Statement getStatement(String name) throws Exception {
+        Subject subject = new Subject.Builder().resourceDescriptor(new ResourceDescriptor.Builder().name(name).build()).build();
+        return new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, "https://localhost/predicate/v1").build();
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.custom.predicates.json.exceptions.InvalidJsonPredicateException;
+import com.ibm.intoto.test.CommonTestUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+public class RawJsonPredicateTest {
+
+    private static final String PREDICATE_TYPE = "https://localhost/predicate/v1";
+    private static final String RAW_JSON = "{\"special-key\": {\"nested\": [true, null, 1e3]}}\n";
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_writeTo_bytes() throws Exception {
+        RawJsonPredicate predicate = new RawJsonPredicate(PREDICATE_TYPE, RAW_JSON.getBytes(StandardCharsets.UTF_8), false);
+        assertEquals(RAW_JSON, write(predicate), "Raw JSON was not copied verbatim.");
+    }
+
+    @Test
+    public void test_writeTo_fileValidated() throws Exception {
+        File file = tempDir.resolve("predicate.json").toFile();
+        Files.write(file.toPath(), RAW_JSON.getBytes(StandardCharsets.UTF_8));
+        RawJsonPredicate predicate = new RawJsonPredicate(PREDICATE_TYPE, file, true);
+        assertEquals(RAW_JSON, write(predicate), "Raw JSON was not copied verbatim.");
+        // A file backed predicate can be written more than once
+        assertEquals(RAW_JSON, write(predicate), "Raw JSON was not copied verbatim on the second write.");
+    }
+
+    @Test
+    public void test_writeTo_channelOnlyOnce() throws Exception {
+        ByteArrayInputStream in = new ByteArrayInputStream(RAW_JSON.getBytes(StandardCharsets.UTF_8));
+        RawJsonPredicate predicate = new RawJsonPredicate(PREDICATE_TYPE, Channels.newChannel(in), true);
+        assertEquals(RAW_JSON, write(predicate), "Raw JSON was not copied verbatim.");
+        assertThrows(IllegalStateException.class, () -> write(predicate));
+    }
+
+    @Test
+    public void test_writeTo_validationRejectsNonObject() throws Exception {
+        RawJsonPredicate predicate = new RawJsonPredicate(PREDICATE_TYPE, "[1, 2]".getBytes(StandardCharsets.UTF_8), true);
+        try {
+            write(predicate);
+            fail("Should have thrown an exception but didn't.");
+        } catch (InvalidJsonPredicateException e) {
+            testUtils.assertExceptionMatchesPattern(e, "not an object");
+        }
+    }
+
+    @Test
+    public void test_writeTo_validationRejectsMalformedJson() throws Exception {
+        RawJsonPredicate predicate = new RawJsonPredicate(PREDICATE_TYPE, "{\"key\": }".getBytes(StandardCharsets.UTF_8), true);
+        assertThrows(InvalidJsonPredicateException.class, () -> write(predicate));
+    }
+
+    @Test
+    public void test_writeTo_malformedJsonCopiedWithoutValidation() throws Exception {
+        String malformed = "{\"key\": }";
+        RawJsonPredicate predicate = new RawJsonPredicate(PREDICATE_TYPE, malformed.getBytes(StandardCharsets.UTF_8), false);
+        assertEquals(malformed, write(predicate), "Raw JSON was not copied verbatim.");
+    }
+
+    @Test
+    public void test_writeIfNotEmpty() throws Exception {
+        byte[] prefix = "prefix:".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RawJsonPredicate empty = new RawJsonPredicate(PREDICATE_TYPE, "\t{ }\r\n".getBytes(StandardCharsets.UTF_8), true);
+        assertFalse(empty.writeIfNotEmpty(out, prefix), "An empty object should not have been written.");
+        assertEquals(0, out.size());
+
+        ByteArrayInputStream in = new ByteArrayInputStream(RAW_JSON.getBytes(StandardCharsets.UTF_8));
+        RawJsonPredicate predicate = new RawJsonPredicate(PREDICATE_TYPE, Channels.newChannel(in), true);
+        assertTrue(predicate.writeIfNotEmpty(out, prefix));
+        assertEquals("prefix:" + RAW_JSON, new String(out.toByteArray(), StandardCharsets.UTF_8), "Raw JSON was not copied verbatim.");
+
+        // An object followed by more than whitespace is not empty, and is still validated
+        RawJsonPredicate trailing = new RawJsonPredicate(PREDICATE_TYPE, "{} []".getBytes(StandardCharsets.UTF_8), true);
+        assertThrows(InvalidJsonPredicateException.class, () -> trailing.writeIfNotEmpty(new ByteArrayOutputStream(), prefix));
+    }
+
+    @Test
+    public void test_getPredicateParameters() throws Exception {
+        RawJsonPredicate predicate = new RawJsonPredicate(PREDICATE_TYPE, RAW_JSON.getBytes(StandardCharsets.UTF_8), false);
+        JsonObject expected = Json.createReader(new ByteArrayInputStream(RAW_JSON.getBytes(StandardCharsets.UTF_8))).readObject();
+        assertEquals(PREDICATE_TYPE, predicate.getPredicateType(), "Predicate type did not match.");
+        assertEquals(expected, predicate.getPredicateParameters(), "Predicate parameters did not match.");
+    }
+
+    private String write(RawJsonPredicate predicate) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        predicate.writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
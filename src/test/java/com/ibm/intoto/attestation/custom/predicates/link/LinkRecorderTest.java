@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.FileResourceDescriptor;
+import com.ibm.intoto.test.CommonTestUtils;
+import com.ibm.intoto.test.Constants;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class LinkRecorderTest {
+
+    private static final FileTime PAST = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_recordMaterials() throws Exception {
+        writeFile(Constants.FILE_NAME_SIMPLE_TXT, new String(Files.readAllBytes(Paths.get(Constants.FILE_PATH_SIMPLE_TXT)), StandardCharsets.UTF_8));
+        writeFile("nested/dir/other.txt", "other");
+
+        LinkRecorder recorder = new LinkRecorder.Builder("package").build();
+        DirectorySnapshot materials = recorder.recordMaterials(tempDir);
+
+        assertEquals(2, materials.size(), "Unexpected number of materials.");
+        assertEquals(2, materials.getHashedCount(), "Every material should have been hashed.");
+        FileResourceDescriptor simple = materials.getDescriptor(Constants.FILE_NAME_SIMPLE_TXT);
+        assertEquals(Constants.FILE_NAME_SIMPLE_TXT, simple.getName(), "Material name did not match.");
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("DigestSet", simple.getDigest().build(), DigestSet.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT);
+        assertEquals("nested/dir/other.txt", materials.getDescriptors().get(0).getName(), "Materials should be ordered by relative path.");
+    }
+
+    @Test
+    public void test_recordProducts_onlyChangedFilesHashed() throws Exception {
+        writeFile("unchanged.txt", "unchanged");
+        writeFile("changed.txt", "before");
+        writeFile("removed.txt", "removed");
+
+        LinkRecorder recorder = new LinkRecorder.Builder("package").build();
+        DirectorySnapshot materials = recorder.recordMaterials(tempDir);
+
+        writeFile("changed.txt", "after the step");
+        Files.delete(tempDir.resolve("removed.txt"));
+        writeFile("added.txt", "added");
+        DirectorySnapshot products = recorder.recordProducts(tempDir, materials);
+
+        assertEquals(3, products.size(), "Unexpected number of products.");
+        assertEquals(2, products.getHashedCount(), "Only the changed and added files should have been hashed.");
+        assertSame(materials.getDescriptor("unchanged.txt"), products.getDescriptor("unchanged.txt"), "The unchanged material digest should have been reused.");
+        assertNotEquals(materials.getDescriptor("changed.txt").getDigest(), products.getDescriptor("changed.txt").getDigest(), "The changed file should have been rehashed.");
+        assertNull(products.getDescriptor("removed.txt"), "The removed file should not be a product.");
+    }
+
+    @Test
+    public void test_recordProducts_recentlyModifiedFileRehashed() throws Exception {
+        Path file = tempDir.resolve("recent.txt");
+        Files.write(file, "recent".getBytes(StandardCharsets.UTF_8));
+
+        LinkRecorder recorder = new LinkRecorder.Builder("package").build();
+        DirectorySnapshot materials = recorder.recordMaterials(tempDir);
+        DirectorySnapshot products = recorder.recordProducts(tempDir, materials);
+
+        assertEquals(1, products.getHashedCount(), "A file modified just before the materials were recorded should have been rehashed.");
+        assertEquals(materials.getDescriptor("recent.txt").getDigest(), products.getDescriptor("recent.txt").getDigest(), "Digest should not have changed.");
+    }
+
+    @Test
+    public void test_statement() throws Exception {
+        writeFile("source.txt", "source");
+        LinkRecorder recorder = new LinkRecorder.Builder("package").command(Arrays.asList("mvn", "package")).build();
+        DirectorySnapshot materials = recorder.recordMaterials(tempDir);
+        writeFile("output.jar", "jar");
+        DirectorySnapshot products = recorder.recordProducts(tempDir, materials);
+
+        LinkPredicate predicate = recorder.buildPredicate(materials);
+        Statement statement = new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, recorder.buildSubject(products), predicate.getPredicateType()).predicate(predicate).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+        JsonObject statementJson = Json.createReader(new ByteArrayInputStream(out.toByteArray())).readObject();
+
+        assertEquals(statement.toJson(), statementJson, "Streamed statement did not match the JSON tree.");
+        JsonArray subject = statementJson.getJsonArray(Statement.KEY_SUBJECT);
+        assertEquals(2, subject.size(), "Unexpected number of products.");
+        JsonObject predicateJson = statementJson.getJsonObject(Statement.KEY_PREDICATE);
+        testUtils.assertJsonOnlyContainsKeys("Predicate", predicateJson, LinkPredicate.KEY_NAME, LinkPredicate.KEY_COMMAND, LinkPredicate.KEY_MATERIALS);
+        assertEquals(Json.createArrayBuilder().add("mvn").add("package").build(), predicateJson.getJsonArray(LinkPredicate.KEY_COMMAND), "Command did not match.");
+        assertEquals(1, predicateJson.getJsonArray(LinkPredicate.KEY_MATERIALS).size(), "Unexpected number of materials.");
+    }
+
+    private void writeFile(String relativePath, String content) throws Exception {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        // Files modified well before a snapshot are eligible for digest reuse
+        Files.setLastModifiedTime(file, PAST);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.predicates.slsa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.custom.predicates.slsa.exceptions.ProvenanceValueNullException;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+import com.ibm.intoto.test.CommonTestUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class SlsaProvenancePredicateTest {
+
+    private static final String BUILD_TYPE = "https://localhost/build-type/v1";
+    private static final String BUILDER_ID = "https://localhost/builder";
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    private JsonObject externalParameters = Json.createObjectBuilder().add("goals", "package").build();
+
+    @Test
+    public void test_nullBuildType() {
+        try {
+            new SlsaProvenancePredicate.Builder(null, externalParameters, BUILDER_ID);
+            fail("Should have thrown an exception, but didn't.");
+        } catch (ProvenanceValueNullException e) {
+            testUtils.assertExceptionMatchesPattern(e, SlsaProvenancePredicate.KEY_BUILD_TYPE);
+        }
+    }
+
+    @Test
+    public void test_nullBuilderId() {
+        try {
+            new SlsaProvenancePredicate.Builder(BUILD_TYPE, externalParameters, null);
+            fail("Should have thrown an exception, but didn't.");
+        } catch (ProvenanceValueNullException e) {
+            testUtils.assertExceptionMatchesPattern(e, "builder.id");
+        }
+    }
+
+    @Test
+    public void test_minimalPredicate() throws Exception {
+        SlsaProvenancePredicate predicate = new SlsaProvenancePredicate.Builder(BUILD_TYPE, externalParameters, BUILDER_ID).build();
+
+        JsonObject parameters = predicate.getPredicateParameters();
+        testUtils.assertJsonOnlyContainsKeys("Predicate", parameters, SlsaProvenancePredicate.KEY_BUILD_DEFINITION, SlsaProvenancePredicate.KEY_RUN_DETAILS);
+        JsonObject buildDefinition = parameters.getJsonObject(SlsaProvenancePredicate.KEY_BUILD_DEFINITION);
+        testUtils.assertJsonOnlyContainsKeys("buildDefinition", buildDefinition, SlsaProvenancePredicate.KEY_BUILD_TYPE, SlsaProvenancePredicate.KEY_EXTERNAL_PARAMETERS);
+        testUtils.assertJsonStringEntryMatches("buildDefinition", buildDefinition, SlsaProvenancePredicate.KEY_BUILD_TYPE, BUILD_TYPE);
+        testUtils.assertJsonEntryMatches("buildDefinition", buildDefinition, SlsaProvenancePredicate.KEY_EXTERNAL_PARAMETERS, externalParameters);
+        JsonObject runDetails = parameters.getJsonObject(SlsaProvenancePredicate.KEY_RUN_DETAILS);
+        testUtils.assertJsonOnlyContainsKeys("runDetails", runDetails, SlsaProvenancePredicate.KEY_BUILDER);
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("builder", runDetails.getJsonObject(SlsaProvenancePredicate.KEY_BUILDER), SlsaProvenancePredicate.KEY_BUILDER_ID, BUILDER_ID);
+    }
+
+    @Test
+    public void test_streamedMatchesTree() throws Exception {
+        List<ResourceDescriptor> dependencies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            dependencies.add(new MavenArtifactResourceDescriptor(testUtils.createDependency("intoto", "artifact-" + i, "1.0." + i, "compile", "jar")));
+        }
+        SlsaProvenancePredicate predicate = new SlsaProvenancePredicate.Builder(BUILD_TYPE, externalParameters, BUILDER_ID)
+                        .internalParameters(Json.createObjectBuilder().add("jdk", "17").build())
+                        .resolvedDependencies(dependencies)
+                        .builderVersion("maven", "3.9.5")
+                        .invocationId("build-1")
+                        .startedOn(Instant.parse("2026-01-01T10:00:00Z"))
+                        .finishedOn(Instant.parse("2026-01-01T10:05:00Z"))
+                        .build();
+
+        JsonObject streamed = writeStatement(predicate).getJsonObject(Statement.KEY_PREDICATE);
+        assertEquals(predicate.getPredicateParameters(), streamed, "Streamed predicate did not match the JSON tree.");
+
+        JsonArray resolvedDependencies = streamed.getJsonObject(SlsaProvenancePredicate.KEY_BUILD_DEFINITION).getJsonArray(SlsaProvenancePredicate.KEY_RESOLVED_DEPENDENCIES);
+        assertEquals(dependencies.size(), resolvedDependencies.size(), "Unexpected number of resolved dependencies.");
+        testUtils.assertDependencyJsonMatchesValues(testUtils.createDependency("intoto", "artifact-0", "1.0.0", "compile", "jar"), resolvedDependencies.getJsonObject(0));
+        JsonObject metadata = streamed.getJsonObject(SlsaProvenancePredicate.KEY_RUN_DETAILS).getJsonObject(SlsaProvenancePredicate.KEY_METADATA);
+        testUtils.assertJsonStringEntryMatches("metadata", metadata, SlsaProvenancePredicate.KEY_STARTED_ON, "2026-01-01T10:00:00Z");
+    }
+
+    @Test
+    public void test_resolvedDependenciesStream() throws Exception {
+        SlsaProvenancePredicate predicate = new SlsaProvenancePredicate.Builder(BUILD_TYPE, externalParameters, BUILDER_ID)
+                        .resolvedDependencies(IntStream.range(0, 1000).mapToObj(i -> new MavenArtifactResourceDescriptor(testUtils.createDependency("intoto", "artifact-" + i, "1.0", "compile", "jar"))))
+                        .build();
+
+        JsonObject streamed = writeStatement(predicate).getJsonObject(Statement.KEY_PREDICATE);
+        JsonArray resolvedDependencies = streamed.getJsonObject(SlsaProvenancePredicate.KEY_BUILD_DEFINITION).getJsonArray(SlsaProvenancePredicate.KEY_RESOLVED_DEPENDENCIES);
+        assertEquals(1000, resolvedDependencies.size(), "Unexpected number of resolved dependencies.");
+
+        // The stream can only be serialized once
+        assertThrows(IllegalStateException.class, () -> predicate.getPredicateParameters());
+    }
+
+    @Test
+    public void test_emptyResolvedDependenciesOmitted() throws Exception {
+        SlsaProvenancePredicate predicate = new SlsaProvenancePredicate.Builder(BUILD_TYPE, externalParameters, BUILDER_ID).resolvedDependencies(new ArrayList<ResourceDescriptor>()).build();
+
+        JsonObject streamed = writeStatement(predicate).getJsonObject(Statement.KEY_PREDICATE);
+        testUtils.assertJsonDoesNotContainKey("buildDefinition", streamed.getJsonObject(SlsaProvenancePredicate.KEY_BUILD_DEFINITION), SlsaProvenancePredicate.KEY_RESOLVED_DEPENDENCIES);
+        assertEquals(predicate.getPredicateParameters(), streamed, "Streamed predicate did not match the JSON tree.");
+    }
+
+    private JsonObject writeStatement(SlsaProvenancePredicate predicate) throws Exception {
+        Subject subject = new Subject.Builder().resourceDescriptor(new ResourceDescriptor.Builder().name("file.war").build()).build();
+        Statement statement = new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, predicate.getPredicateType()).predicate(predicate).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+        return Json.createReader(new ByteArrayInputStream(out.toByteArray())).readObject();
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.file;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.utils.Utils;
+import com.ibm.intoto.test.Constants;
+
+public class DigestingOutputStreamTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_digestsWhileWriting() throws Exception {
+        byte[] content = Files.readAllBytes(Paths.get(Constants.FILE_PATH_SIMPLE_TXT));
+        Path target = tempDir.resolve("copy.txt");
+
+        DigestingOutputStream out = new DigestingOutputStream(Files.newOutputStream(target), "copy.txt", DigestSet.ALG_SHA256, DigestSet.ALG_SHA512);
+        try (OutputStream stream = out) {
+            stream.write(content[0]);
+            stream.write(content, 1, content.length - 1);
+        }
+
+        assertArrayEquals(content, Files.readAllBytes(target), "The content should have been written unchanged.");
+        assertEquals(content.length, out.getByteCount());
+        FileResourceDescriptor descriptor = out.getResourceDescriptor();
+        assertEquals("copy.txt", descriptor.getName());
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, descriptor.getDigest().get(DigestSet.ALG_SHA256));
+        assertEquals(Utils.calculateDigestsForFile(target.toFile(), DigestSet.ALG_SHA512).get(DigestSet.ALG_SHA512), descriptor.getDigest().get(DigestSet.ALG_SHA512));
+    }
+
+    @Test
+    public void test_digestsUnavailableUntilClosed() throws Exception {
+        DigestingOutputStream out = new DigestingOutputStream(Files.newOutputStream(tempDir.resolve("open.txt")), "open.txt");
+        out.write(1);
+
+        assertThrows(IllegalStateException.class, out::getResourceDescriptor);
+        out.close();
+        out.close();
+        assertEquals(1, out.getDigests().asMap().size(), "Only sha256 should have been calculated by default.");
+    }
+
+    @Test
+    public void test_failedCloseIsNotDescribed() throws Exception {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void close() throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        DigestingOutputStream out = new DigestingOutputStream(failing, "lost.txt");
+        out.write(new byte[] { 1, 2, 3 });
+
+        IOException e = assertThrows(IOException.class, out::close);
+        assertEquals("disk full", e.getMessage());
+        out.close();
+        assertThrows(IllegalStateException.class, out::getResourceDescriptor, "A stream that failed to close should not be described.");
+    }
+
+}
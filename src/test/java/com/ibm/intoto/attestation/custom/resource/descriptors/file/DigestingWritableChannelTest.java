@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.file;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.test.Constants;
+
+public class DigestingWritableChannelTest {
+
+    @Test
+    public void test_partialWrites() throws Exception {
+        byte[] content = Files.readAllBytes(Paths.get(Constants.FILE_PATH_SIMPLE_TXT));
+        TrickleChannel target = new TrickleChannel();
+
+        DigestingWritableChannel channel = new DigestingWritableChannel(target, "simple.txt");
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        assertThrows(IllegalStateException.class, channel::getDigests);
+        channel.close();
+
+        assertArrayEquals(content, target.written.toByteArray());
+        assertEquals(content.length, channel.getByteCount());
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, channel.getResourceDescriptor().getDigest().get(DigestSet.ALG_SHA256));
+    }
+
+    /**
+     * Accepts at most three bytes per write.
+     */
+    private static class TrickleChannel implements WritableByteChannel {
+
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private boolean open = true;
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            int count = Math.min(3, source.remaining());
+            for (int i = 0; i < count; i++) {
+                written.write(source.get());
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.exceptions.ResourceFileException;
+import com.ibm.intoto.test.CommonTestUtils;
+import com.ibm.intoto.test.Constants;
+
+public class FileResourceDescriptorFactoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    private FileResourceDescriptorFactory factory = new FileResourceDescriptorFactory.Builder().build();
+
+    @Test
+    public void test_pathInZipFileSystem() throws Exception {
+        Path zip = tempDir.resolve("archive.zip");
+        try (OutputStream out = Files.newOutputStream(zip); ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            zipOut.putNextEntry(new ZipEntry("nested/simple.txt"));
+            zipOut.write(Files.readAllBytes(Paths.get(Constants.FILE_PATH_SIMPLE_TXT)));
+            zipOut.closeEntry();
+        }
+
+        try (FileSystem zipFileSystem = FileSystems.newFileSystem(zip, (ClassLoader) null)) {
+            FileResourceDescriptor descriptor = factory.create(zipFileSystem.getPath("nested", "simple.txt"));
+
+            assertEquals("simple.txt", descriptor.getName());
+            assertEquals(Constants.SHA_FILE_SIMPLT_TXT, descriptor.getDigest().get(DigestSet.ALG_SHA256));
+
+            ResourceFileException e = assertThrows(ResourceFileException.class, () -> factory.create(zipFileSystem.getPath("nested")));
+            testUtils.assertExceptionMatchesPattern(e, "artifact is not a file");
+            e = assertThrows(ResourceFileException.class, () -> factory.create(zipFileSystem.getPath("missing.txt")));
+            testUtils.assertExceptionMatchesPattern(e, "file does not exist");
+        }
+    }
+
+    @Test
+    public void test_streamAndChannel() throws Exception {
+        byte[] content = Files.readAllBytes(Paths.get(Constants.FILE_PATH_SIMPLE_TXT));
+
+        FileResourceDescriptor descriptor = factory.create(new ByteArrayInputStream(content), "upload.txt");
+        assertEquals("upload.txt", descriptor.getName());
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, descriptor.getDigest().get(DigestSet.ALG_SHA256));
+
+        descriptor = factory.create(Channels.newChannel(new ByteArrayInputStream(content)), "piped.txt");
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, descriptor.getDigest().get(DigestSet.ALG_SHA256));
+    }
+
+    @Test
+    public void test_streamFailure() {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        ResourceFileException e = assertThrows(ResourceFileException.class, () -> factory.create(failing, "upload.bin"));
+        testUtils.assertExceptionMatchesPattern(e, "upload.bin.*connection reset");
+    }
+
+    @Test
+    public void test_nullPath() {
+        ResourceFileException e = assertThrows(ResourceFileException.class, () -> factory.create((Path) null));
+        testUtils.assertExceptionMatchesPattern(e, "file object is null");
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.exceptions.ChecksumMismatchException;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.exceptions.MavenArtifactHashingException;
+import com.ibm.intoto.test.CommonTestUtils;
+import com.ibm.intoto.test.Constants;
+
+public class MavenArtifactDescriptorFactoryTest {
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @TempDir
+    Path localRepository;
+
+    @Test
+    public void test_hashesLocalArtifacts() throws Exception {
+        installArtifact("com/example/code-api/1.0.0/code-api-1.0.0.jar");
+        installArtifact("com/example/code-impl/2.0.0/code-impl-2.0.0-tests.jar");
+
+        Dependency api = testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar");
+        Dependency tests = testUtils.createDependency("com.example", "code-impl", "2.0.0", "test", "test-jar");
+        Dependency missing = testUtils.createDependency("com.example", "code-missing", "3.0.0", "compile", "jar");
+
+        List<MavenArtifactResourceDescriptor> descriptors = createFactory().create(Arrays.asList(api, tests, missing));
+
+        assertEquals(3, descriptors.size(), "Unexpected number of descriptors.");
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, descriptors.get(0).getDigest().get(DigestSet.ALG_SHA256), "Digest did not match the expected value.");
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, descriptors.get(1).getDigest().get(DigestSet.ALG_SHA256), "Digest did not match the expected value.");
+        assertTrue(descriptors.get(2).getDigest().isEmpty(), "An artifact missing from the local repository should have no digest.");
+        assertEquals("com.example:code-missing:3.0.0", descriptors.get(2).getName(), "Name did not match the expected value.");
+    }
+
+    @Test
+    public void test_deduplicatesDependencies() throws Exception {
+        installArtifact("com/example/code-api/1.0.0/code-api-1.0.0.jar");
+
+        Dependency first = testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar");
+        Dependency second = testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar");
+        Dependency other = testUtils.createDependency("com.example", "code-other", "1.0.0", "compile", "jar");
+
+        Model model = new Model();
+        model.setDependencies(Arrays.asList(first, other, second));
+        List<MavenArtifactResourceDescriptor> descriptors = createFactory().create(new MavenProject(model));
+
+        assertEquals(2, descriptors.size(), "Duplicate dependencies should have been described once.");
+        assertEquals("com.example:code-api:1.0.0", descriptors.get(0).getName(), "Name did not match the expected value.");
+        assertEquals("com.example:code-other:1.0.0", descriptors.get(1).getName(), "Name did not match the expected value.");
+    }
+
+    @Test
+    public void test_resolvedArtifactsOfProject() throws Exception {
+        Path resolvedFile = installArtifact("elsewhere/transitive.jar");
+        Artifact direct = createArtifact("com.example", "code-api", "1.0.0", "compile");
+        direct.setFile(installArtifact("com/example/code-api/1.0.0/code-api-1.0.0.jar").toFile());
+        Artifact transitive = createArtifact("com.example", "code-transitive", "4.0.0", "runtime");
+        transitive.setFile(resolvedFile.toFile());
+
+        Model model = new Model();
+        model.setDependencies(Arrays.asList(testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar")));
+        MavenProject project = new MavenProject(model);
+        project.setArtifacts(new LinkedHashSet<>(Arrays.asList(direct, transitive)));
+        List<MavenArtifactResourceDescriptor> descriptors = createFactory().create(project);
+
+        assertEquals(2, descriptors.size(), "The transitive dependency should have been described.");
+        assertEquals("com.example:code-transitive:4.0.0", descriptors.get(1).getName(), "Name did not match the expected value.");
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, descriptors.get(1).getDigest().get(DigestSet.ALG_SHA256), "The resolved file should have been hashed.");
+    }
+
+    @Test
+    public void test_artifactFileLayout() {
+        MavenArtifactDescriptorFactory factory = createFactory();
+
+        Dependency classified = testUtils.createDependency("org.example.group", "lib", "1.2", "compile", "zip");
+        classified.setClassifier("dist");
+        assertEquals(localRepository.resolve(Paths.get("org", "example", "group", "lib", "1.2", "lib-1.2-dist.zip")).toFile(), factory.getArtifactFile(classified));
+
+        Dependency plugin = testUtils.createDependency("org.example", "plugin", "1.0", "compile", "maven-plugin");
+        assertEquals(localRepository.resolve(Paths.get("org", "example", "plugin", "1.0", "plugin-1.0.jar")).toFile(), factory.getArtifactFile(plugin));
+
+        Dependency system = testUtils.createDependency("org.example", "system", "1.0", "system", "jar");
+        system.setSystemPath("/opt/lib/system.jar");
+        assertEquals(new File("/opt/lib/system.jar"), factory.getArtifactFile(system));
+    }
+
+    @Test
+    public void test_trustChecksumFiles() throws Exception {
+        Path artifact = installArtifact("com/example/code-api/1.0.0/code-api-1.0.0.jar");
+        String recorded = repeat("ab", 20);
+        writeChecksum(artifact, DigestSet.ALG_SHA1, recorded + "  code-api-1.0.0.jar\n");
+        writeChecksum(artifact, DigestSet.ALG_SHA512, "not a checksum");
+
+        Dependency api = testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar");
+        MavenArtifactDescriptorFactory factory = new MavenArtifactDescriptorFactory.Builder().localRepository(localRepository.toFile()).checksumPolicy(ChecksumPolicy.TRUST).build();
+        DigestSet digest = factory.create(Arrays.asList(api)).get(0).getDigest();
+
+        assertEquals(recorded, digest.get(DigestSet.ALG_SHA1), "The checksum file should have been used.");
+        assertNull(digest.get(DigestSet.ALG_SHA256), "The artifact should not have been hashed.");
+        assertNull(digest.get(DigestSet.ALG_SHA512), "A malformed checksum file should have been ignored.");
+    }
+
+    @Test
+    public void test_verifyChecksumFiles() throws Exception {
+        Path artifact = installArtifact("com/example/code-api/1.0.0/code-api-1.0.0.jar");
+        writeChecksum(artifact, DigestSet.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT.toUpperCase());
+        Dependency api = testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar");
+
+        MavenArtifactDescriptorFactory factory = new MavenArtifactDescriptorFactory.Builder().localRepository(localRepository.toFile()).checksumPolicy(ChecksumPolicy.VERIFY).build();
+        DigestSet digest = factory.create(Arrays.asList(api)).get(0).getDigest();
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digest.get(DigestSet.ALG_SHA256), "Digest did not match the expected value.");
+
+        writeChecksum(artifact, DigestSet.ALG_SHA256, repeat("0", 64));
+        MavenArtifactHashingException e = assertThrows(MavenArtifactHashingException.class, () -> factory.create(Arrays.asList(api)));
+        assertTrue(e.getCause() instanceof ChecksumMismatchException, "Unexpected cause: " + e.getCause());
+        testUtils.assertExceptionMatchesPattern(e, "com.example:code-api:1.0.0:jar.*sha256 digest.*" + Constants.SHA_FILE_SIMPLT_TXT);
+    }
+
+    @Test
+    public void test_sampleChecksumFiles() throws Exception {
+        Path artifact = installArtifact("com/example/code-api/1.0.0/code-api-1.0.0.jar");
+        writeChecksum(artifact, DigestSet.ALG_SHA256, repeat("0", 64));
+        Dependency api = testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar");
+
+        MavenArtifactDescriptorFactory never = new MavenArtifactDescriptorFactory.Builder().localRepository(localRepository.toFile()).checksumPolicy(ChecksumPolicy.SAMPLE).sampleRate(0).build();
+        assertEquals(repeat("0", 64), never.create(Arrays.asList(api)).get(0).getDigest().get(DigestSet.ALG_SHA256), "The checksum file should have been trusted.");
+
+        MavenArtifactDescriptorFactory always = new MavenArtifactDescriptorFactory.Builder().localRepository(localRepository.toFile()).checksumPolicy(ChecksumPolicy.SAMPLE).sampleRate(1).build();
+        assertThrows(MavenArtifactHashingException.class, () -> always.create(Arrays.asList(api)));
+    }
+
+    private void writeChecksum(Path artifact, String algorithm, String content) throws Exception {
+        Files.write(artifact.resolveSibling(artifact.getFileName() + "." + algorithm), content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String repeat(String value, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    private MavenArtifactDescriptorFactory createFactory() {
+        return new MavenArtifactDescriptorFactory.Builder().localRepository(localRepository.toFile()).build();
+    }
+
+    private Artifact createArtifact(String groupId, String artifactId, String version, String scope) {
+        return new DefaultArtifact(groupId, artifactId, VersionRange.createFromVersion(version), scope, "jar", null, new DefaultArtifactHandler("jar"));
+    }
+
+    private Path installArtifact(String relativePath) throws Exception {
+        Path target = localRepository.resolve(relativePath);
+        Files.createDirectories(target.getParent());
+        Files.copy(Paths.get(Constants.FILE_PATH_SIMPLE_TXT), target);
+        return target;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.test.CommonTestUtils;
+
+public class MavenUriTemplateTest {
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_mavenCentral() {
+        String expected = String.format(MavenArtifactResourceDescriptor.URI_FORMAT, "org/example", "lib", "1.0");
+        assertEquals(expected, MavenUriTemplate.MAVEN_CENTRAL.getUri("org.example", "lib", "1.0", "jar", null));
+    }
+
+    @Test
+    public void test_repository() {
+        MavenUriTemplate layout = MavenUriTemplate.repository("https://artifactory.example.com/artifactory/libs-release/");
+        assertEquals("https://artifactory.example.com/artifactory/libs-release/org/example/lib/1.0/lib-1.0.jar", layout.getUri("org.example", "lib", "1.0", null, null));
+        assertEquals("https://artifactory.example.com/artifactory/libs-release/org/example/lib/1.0/lib-1.0-tests.jar", layout.getUri("org.example", "lib", "1.0", "test-jar", null));
+        assertEquals("https://artifactory.example.com/artifactory/libs-release/org/example/lib/1.0/lib-1.0-linux.tar.gz", layout.getUri("org.example", "lib", "1.0", "tar.gz", "linux"));
+    }
+
+    @Test
+    public void test_allPlaceholders() {
+        MavenUriTemplate layout = MavenUriTemplate.compile("x:{groupId}|{groupPath}|{artifactId}|{version}|{type}|{classifier}|{extension}|{fileName}");
+        assertEquals("x:a.b|a/b|lib|2|ejb-client|client|jar|lib-2-client.jar", layout.getUri("a.b", "lib", "2", "ejb-client", null));
+        assertEquals("x:a.b|a/b|lib|2|jar||jar|lib-2.jar", layout.getUri("a.b", "lib", "2", null, null));
+    }
+
+    @Test
+    public void test_missingCoordinates() {
+        assertNull(MavenUriTemplate.MAVEN_CENTRAL.getUri(null, "lib", "1.0", "jar", null));
+        assertNull(MavenUriTemplate.MAVEN_CENTRAL.getUri("org.example", "lib", null, "jar", null));
+    }
+
+    @Test
+    public void test_invalidTemplates() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> MavenUriTemplate.compile("https://host/{group}/{version}"));
+        testUtils.assertExceptionMatchesPattern(e, "unknown placeholder \\{group\\}");
+        e = assertThrows(IllegalArgumentException.class, () -> MavenUriTemplate.compile("https://host/{version"));
+        testUtils.assertExceptionMatchesPattern(e, "not terminated");
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.custom.resource.descriptors.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.maven.model.Dependency;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.test.CommonTestUtils;
+
+public class PackageUrlLayoutTest {
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_mavenCentral() {
+        assertEquals("pkg:maven/org.example/lib@1.0", PackageUrlLayout.MAVEN_CENTRAL.getUri("org.example", "lib", "1.0", "jar", null));
+        assertEquals("pkg:maven/org.example/lib@1.0?classifier=sources&type=zip", PackageUrlLayout.MAVEN_CENTRAL.getUri("org.example", "lib", "1.0", "zip", "sources"));
+        assertNull(PackageUrlLayout.MAVEN_CENTRAL.getUri("org.example", null, "1.0", "jar", null));
+    }
+
+    @Test
+    public void test_repositoryUrl() {
+        PackageUrlLayout layout = new PackageUrlLayout("https://repo.example.com/maven2");
+        assertEquals("pkg:maven/org.example/lib@1.0%2Bbuild?repository_url=https%3A%2F%2Frepo.example.com%2Fmaven2&type=pom", layout.getUri("org.example", "lib", "1.0+build", "pom", null));
+    }
+
+    @Test
+    public void test_descriptorUri() {
+        Dependency dependency = testUtils.createDependency("org.example", "lib", "1.0", "compile", "test-jar");
+        MavenArtifactResourceDescriptor descriptor = new MavenArtifactResourceDescriptor(dependency, new DigestSet(), PackageUrlLayout.MAVEN_CENTRAL);
+        assertEquals("pkg:maven/org.example/lib@1.0?type=test-jar", descriptor.getUri());
+    }
+
+}
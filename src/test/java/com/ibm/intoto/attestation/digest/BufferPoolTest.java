@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.test.Constants;
+
+public class BufferPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_buffersReused() throws Exception {
+        BufferPool pool = new BufferPool(1 << 20);
+        ByteBuffer buffer = pool.acquire(5000, Cancellation.NONE);
+        assertTrue(buffer.isDirect());
+        assertEquals(8192, buffer.capacity(), "The size should have been rounded up to a power of two.");
+        assertEquals(8192, pool.getInUseBytes());
+
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        assertEquals(0, pool.getInUseBytes());
+
+        ByteBuffer reused = pool.acquire(8000, Cancellation.NONE);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position(), "A reused buffer should be cleared.");
+        assertEquals(8192, pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void test_requestsLimitedByBudget() throws Exception {
+        BufferPool pool = new BufferPool(10_000);
+        assertEquals(8192, pool.acquire(1 << 20, Cancellation.NONE).capacity(), "The buffer should be the largest the budget allows.");
+        assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.getCapacity(1));
+    }
+
+    @Test
+    public void test_waitsForBudget() throws Exception {
+        BufferPool pool = new BufferPool(8192);
+        ByteBuffer first = pool.acquire(4096, Cancellation.NONE);
+        pool.acquire(4096, Cancellation.NONE);
+
+        CompletableFuture<ByteBuffer> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.acquire(4096, Cancellation.NONE);
+            } catch (DigestCancelledException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(waiting.isDone(), "The budget is used up, so the request should wait.");
+
+        pool.release(first);
+        assertSame(first, waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(1, pool.getWaitCount());
+        assertEquals(8192, pool.getAllocatedBytes());
+    }
+
+    @Test
+    public void test_tryAcquireDoesNotWait() throws Exception {
+        BufferPool pool = new BufferPool(8192);
+        ByteBuffer first = pool.tryAcquire(4096);
+        assertEquals(4096, first.capacity());
+        assertEquals(4096, pool.tryAcquire(4096).capacity());
+
+        assertNull(pool.tryAcquire(4096), "The budget is used up.");
+        assertEquals(0, pool.getWaitCount());
+
+        pool.release(first);
+        assertSame(first, pool.tryAcquire(4096));
+    }
+
+    @Test
+    public void test_waitEndsAtDeadline() throws Exception {
+        BufferPool pool = new BufferPool(4096);
+        pool.acquire(4096, Cancellation.NONE);
+
+        assertThrows(DigestCancelledException.class, () -> pool.acquire(4096, Cancellation.withTimeout(50, TimeUnit.MILLISECONDS)));
+    }
+
+    @Test
+    public void test_releasedBuffersDroppedForOtherSizes() throws Exception {
+        BufferPool pool = new BufferPool(16384);
+        pool.release(pool.acquire(8192, Cancellation.NONE));
+
+        assertEquals(16384, pool.acquire(16384, Cancellation.NONE).capacity());
+        assertEquals(16384, pool.getAllocatedBytes(), "The released 8KB buffer should have been dropped.");
+    }
+
+    @Test
+    public void test_engineUsesPool() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            Files.copy(Paths.get(Constants.FILE_PATH_SIMPLE_TXT), tempDir.resolve("file" + i + ".txt"));
+        }
+        BufferPool pool = new BufferPool(2 * BufferPool.MIN_BUFFER_SIZE);
+
+        try (DigestEngine engine = new DigestEngine.Builder().bufferPool(pool).parallelism(4).build()) {
+            SortedMap<String, DigestSet> digests = engine.digestTree(tempDir);
+            assertEquals(10, digests.size());
+            for (DigestSet digest : digests.values()) {
+                assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digest.get(DigestSet.ALG_SHA256));
+            }
+        }
+        assertEquals(0, pool.getInUseBytes(), "Every buffer should have been released.");
+        assertTrue(pool.getAllocatedBytes() <= pool.getBudget());
+    }
+
+}
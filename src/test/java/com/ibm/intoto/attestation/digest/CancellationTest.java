@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.test.CommonTestUtils;
+
+public class CancellationTest {
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_cancel() throws Exception {
+        Cancellation cancellation = new Cancellation();
+        assertFalse(cancellation.isCancelled());
+        cancellation.throwIfCancelled();
+        assertEquals(Long.MAX_VALUE, cancellation.getRemainingNanos());
+
+        cancellation.cancel();
+
+        assertTrue(cancellation.isCancelled());
+        DigestCancelledException e = assertThrows(DigestCancelledException.class, cancellation::throwIfCancelled);
+        testUtils.assertExceptionMatchesPattern(e, ".*stopped because it was cancelled.*");
+    }
+
+    @Test
+    public void test_deadline() throws Exception {
+        Cancellation future = Cancellation.withTimeout(1, TimeUnit.HOURS);
+        assertFalse(future.isCancelled());
+        assertTrue(future.getRemainingNanos() > 0);
+
+        Cancellation past = Cancellation.withTimeout(-1, TimeUnit.MILLISECONDS);
+        assertTrue(past.isCancelled());
+        DigestCancelledException e = assertThrows(DigestCancelledException.class, past::throwIfCancelled);
+        testUtils.assertExceptionMatchesPattern(e, ".*deadline passed.*");
+
+        // An explicit cancel after the deadline keeps the deadline as the reason
+        past.cancel();
+        testUtils.assertExceptionMatchesPattern(assertThrows(DigestCancelledException.class, past::throwIfCancelled), ".*deadline passed.*");
+    }
+
+    @Test
+    public void test_noneCannotBeCancelled() {
+        assertThrows(UnsupportedOperationException.class, Cancellation.NONE::cancel);
+        assertFalse(Cancellation.NONE.isCancelled());
+    }
+
+}
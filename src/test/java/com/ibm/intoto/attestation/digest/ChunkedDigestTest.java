@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.exceptions.ChunkManifestException;
+import com.ibm.intoto.attestation.digest.exceptions.InvalidChunkedDigestException;
+import com.ibm.intoto.attestation.utils.Utils;
+import com.ibm.intoto.test.CommonTestUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+public class ChunkedDigestTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_digestChunks() throws Exception {
+        byte[] content = content(10_000);
+        Path file = Files.write(tempDir.resolve("large.bin"), content);
+
+        ChunkedDigest chunked;
+        try (DigestEngine engine = new DigestEngine.Builder().parallelism(3).build()) {
+            chunked = engine.digestChunks(file, 4096, Cancellation.NONE);
+        }
+
+        assertEquals(DigestSet.ALG_SHA256, chunked.getAlgorithm());
+        assertEquals(3, chunked.getChunkCount());
+        assertEquals(10_000 - 8192, chunked.getChunkLength(2));
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        sha256.update(content, 4096, 4096);
+        assertEquals(Utils.toHex(sha256.digest()), chunked.getChunks().get(1));
+        assertTrue(chunked.isRootValid());
+    }
+
+    @Test
+    public void test_verifyWholeFileAndRanges() throws Exception {
+        Path file = Files.write(tempDir.resolve("large.bin"), content(20_000));
+        try (DigestEngine engine = new DigestEngine.Builder().build()) {
+            ChunkedDigest chunked = engine.digestChunks(file, 1000, Cancellation.NONE);
+            assertTrue(engine.verifyChunks(file, chunked, Cancellation.NONE));
+
+            // Corrupt one byte in the eighth chunk
+            try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.WRITE)) {
+                channel.position(7500);
+                channel.write(ByteBuffer.wrap(new byte[] { 42 }));
+            }
+            assertFalse(engine.verifyChunks(file, chunked, Cancellation.NONE));
+            assertEquals(Collections.singleton(7), engine.verifyChunks(file, chunked, 6500, 2000, Cancellation.NONE));
+            assertTrue(engine.verifyChunks(file, chunked, 0, 7000, Cancellation.NONE).isEmpty(), "Only the chunks in the range should be checked.");
+            assertThrows(IndexOutOfBoundsException.class, () -> engine.verifyChunks(file, chunked, 19_000, 2000, Cancellation.NONE));
+        }
+    }
+
+    @Test
+    public void test_inlineAnnotations() throws Exception {
+        ChunkedDigest chunked = newChunkedDigest();
+        JsonObject annotations = chunked.toAnnotations(null);
+
+        ChunkedDigest read = ChunkedDigest.fromAnnotations(annotations);
+        assertEquals(chunked.getChunks(), read.getChunks());
+        assertEquals(chunked.getRoot(), read.getRoot());
+        assertEquals(5, read.getLength());
+        assertNull(read.getManifest());
+        assertTrue(read.isRootValid());
+        assertNull(ChunkedDigest.fromAnnotations(null));
+    }
+
+    @Test
+    public void test_companionManifest() throws Exception {
+        ChunkedDigest chunked = newChunkedDigest();
+        Path manifest = tempDir.resolve("large.bin" + ChunkedDigest.MANIFEST_EXTENSION);
+        chunked.writeManifest(manifest);
+
+        ChunkedDigest annotated = ChunkedDigest.fromAnnotations(chunked.toAnnotations(manifest.getFileName().toString()));
+        assertNull(annotated.getChunks(), "The chunks should only be in the manifest.");
+        assertFalse(annotated.isRootValid());
+
+        ChunkedDigest read = annotated.readManifest(manifest);
+        assertEquals(chunked.getChunks(), read.getChunks());
+        assertEquals(manifest.getFileName().toString(), read.getManifest());
+    }
+
+    @Test
+    public void test_tamperedManifestRejected() throws Exception {
+        ChunkedDigest chunked = newChunkedDigest();
+        Path manifest = tempDir.resolve("tampered" + ChunkedDigest.MANIFEST_EXTENSION);
+        new ChunkedDigest(DigestSet.ALG_SHA256, 2, 5, Arrays.asList(hex('a'), hex('b'), hex('x'))).writeManifest(manifest);
+
+        ChunkManifestException e = assertThrows(ChunkManifestException.class, () -> ChunkedDigest.fromAnnotations(chunked.toAnnotations("tampered")).readManifest(manifest));
+        testUtils.assertExceptionMatchesPattern(e, "do not produce the root");
+    }
+
+    @Test
+    public void test_wrongChunkCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedDigest(DigestSet.ALG_SHA256, 2, 5, Arrays.asList(hex('a'))));
+    }
+
+    @Test
+    public void test_wrongDigestLength() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedDigest(DigestSet.ALG_SHA256, 2, 5, Arrays.asList(hex('a'), hex('b'), "abcd")));
+    }
+
+    @Test
+    public void test_invalidJsonRejected() throws Exception {
+        JsonObject valid = newChunkedDigest().toJson();
+        assertEquals(newChunkedDigest().getChunks(), ChunkedDigest.fromJson(valid).getChunks());
+
+        assertInvalid(Json.createObjectBuilder(valid).add(ChunkedDigest.KEY_CHUNKS, Json.createArrayBuilder().add(hex('a')).add(hex('b')).add(hex('c').substring(2))).build(), "is not a hex encoded sha256 digest");
+        assertInvalid(Json.createObjectBuilder(valid).add(ChunkedDigest.KEY_CHUNKS, Json.createArrayBuilder().add(1)).build(), "chunk digest 1 is not");
+        assertInvalid(Json.createObjectBuilder(valid).add(ChunkedDigest.KEY_CHUNKS, "chunks").build(), "chunks entry is not an array");
+        assertInvalid(Json.createObjectBuilder(valid).add(ChunkedDigest.KEY_ROOT, "xyz").build(), "root xyz is not");
+        assertInvalid(Json.createObjectBuilder(valid).remove(ChunkedDigest.KEY_ROOT).build(), "root entry is missing");
+        assertInvalid(Json.createObjectBuilder(valid).add(ChunkedDigest.KEY_ALGORITHM, "md4").build(), "md4 algorithm is not supported");
+        assertInvalid(Json.createObjectBuilder(valid).add(ChunkedDigest.KEY_CHUNK_SIZE, 1L << 32).build(), "chunkSize entry is missing or not a whole number");
+        assertInvalid(Json.createObjectBuilder(valid).add(ChunkedDigest.KEY_CHUNK_SIZE, 2.5).build(), "chunkSize entry is missing or not a whole number");
+        assertInvalid(Json.createObjectBuilder(valid).add(ChunkedDigest.KEY_LENGTH, -1).build(), "length entry is missing or not a whole number");
+    }
+
+    private void assertInvalid(JsonObject json, String pattern) {
+        InvalidChunkedDigestException e = assertThrows(InvalidChunkedDigestException.class, () -> ChunkedDigest.fromJson(json));
+        testUtils.assertExceptionMatchesPattern(e, pattern);
+    }
+
+    private ChunkedDigest newChunkedDigest() throws Exception {
+        return new ChunkedDigest(DigestSet.ALG_SHA256, 2, 5, Arrays.asList(hex('a'), hex('b'), hex('c')));
+    }
+
+    private static String hex(char c) {
+        char[] digest = new char[64];
+        Arrays.fill(digest, Character.forDigit(Character.digit(c, 36) % 16, 16));
+        return new String(digest);
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 13 + i / 256);
+        }
+        return content;
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.attestation.utils.Utils;
+import com.ibm.intoto.test.Constants;
+
+public class DigestEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_digestTree() throws Exception {
+        Path simple = Paths.get(Constants.FILE_PATH_SIMPLE_TXT);
+        Files.createDirectories(tempDir.resolve("a/b"));
+        Files.copy(simple, tempDir.resolve("top.txt"));
+        Files.copy(simple, tempDir.resolve("a/b/nested.txt"));
+
+        List<DigestProgress> reports = new CopyOnWriteArrayList<>();
+        try (DigestEngine engine = new DigestEngine.Builder().parallelism(2).progressListener(reports::add).build()) {
+            SortedMap<String, DigestSet> digests = engine.digestTree(tempDir);
+
+            assertEquals(2, digests.size(), "Unexpected files: " + digests.keySet());
+            assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digests.get("top.txt").get(DigestSet.ALG_SHA256));
+            assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digests.get("a/b/nested.txt").get(DigestSet.ALG_SHA256));
+        }
+
+        DigestProgress last = reports.get(reports.size() - 1);
+        assertTrue(last.isComplete(), "The final report should be complete: " + last);
+        assertEquals(2, last.getFilesCompleted());
+        assertEquals(2 * Files.size(simple), last.getBytesCompleted());
+    }
+
+    @Test
+    public void test_multipleAlgorithmsMatchUtils() throws Exception {
+        Path file = writeFile("data.bin", 200_000);
+        DigestEngine engine = new DigestEngine.Builder().algorithms(DigestSet.ALG_SHA1, DigestSet.ALG_SHA512).bufferSize(4096).build();
+
+        DigestSet digests = engine.digest(file);
+
+        assertEquals(Utils.calculateDigestsForFile(file.toFile(), DigestSet.ALG_SHA1, DigestSet.ALG_SHA512).asMap(), digests.asMap());
+    }
+
+    @Test
+    public void test_digestWithOtherAlgorithms() throws Exception {
+        Path file = writeFile("data.bin", 50_000);
+        try (DigestEngine engine = new DigestEngine.Builder().build()) {
+            DigestSet single = engine.digest(file, Cancellation.NONE, DigestSet.ALG_SHA1);
+            SortedMap<String, DigestSet> all = engine.digestFiles(Collections.singletonMap("data.bin", file), Cancellation.NONE, DigestSet.ALG_SHA1);
+
+            assertEquals(1, single.asMap().size(), "Unexpected digests: " + single.asMap());
+            assertEquals(engine.digest(file).get(DigestSet.ALG_SHA256), Utils.calculateSha256ForFile(file.toFile()));
+            assertEquals(single.asMap(), all.get("data.bin").asMap());
+            assertThrows(IllegalArgumentException.class, () -> engine.digest(file, Cancellation.NONE, "md4"));
+        }
+    }
+
+    @Test
+    public void test_defaultEngineIsSharedUntilClosed() {
+        DigestEngine engine = DigestEngine.getDefault();
+        assertTrue(engine == DigestEngine.getDefault(), "The default engine was not reused.");
+
+        engine.close();
+
+        DigestEngine replacement = DigestEngine.getDefault();
+        assertFalse(replacement.isClosed(), "A closed default engine was returned.");
+        assertFalse(replacement == engine, "A closed default engine was returned.");
+    }
+
+    @Test
+    public void test_overlappedReadMatchesSequential() throws Exception {
+        Path file = writeFile("large.bin", 300_001);
+        List<DigestProgress> reports = new CopyOnWriteArrayList<>();
+        try (DigestEngine engine = new DigestEngine.Builder().algorithms(DigestSet.ALG_SHA1, DigestSet.ALG_SHA512).bufferSize(4096).overlappedBuffers(3).overlapThreshold(0).progressListener(reports::add).build()) {
+            assertEquals(Utils.calculateDigestsForFile(file.toFile(), DigestSet.ALG_SHA1, DigestSet.ALG_SHA512).asMap(), engine.digest(file).asMap());
+
+            engine.digestTree(tempDir);
+            assertEquals(300_001, reports.get(reports.size() - 1).getBytesCompleted());
+
+            // Chunks are ranges of the file, which the reader must stop at
+            ChunkedDigest chunked = engine.digestChunks(file, 100_000, Cancellation.NONE);
+            assertTrue(engine.verifyChunks(file, chunked, Cancellation.NONE));
+            assertEquals(new DigestEngine.Builder().algorithms(DigestSet.ALG_SHA1).build().digestChunks(file, 100_000, Cancellation.NONE).getChunks(), chunked.getChunks());
+        }
+    }
+
+    @Test
+    public void test_overlappedReadStaysWithinPoolBudget() throws Exception {
+        Path file = writeFile("large.bin", 100_000);
+        BufferPool pool = new BufferPool(2 * BufferPool.MIN_BUFFER_SIZE);
+        try (DigestEngine engine = new DigestEngine.Builder().bufferSize(BufferPool.MIN_BUFFER_SIZE).bufferPool(pool).overlappedBuffers(3).overlapThreshold(0).build()) {
+            assertEquals(Utils.calculateDigestsForFile(file.toFile(), DigestSet.ALG_SHA256).asMap(), engine.digest(file).asMap());
+        }
+        assertEquals(0, pool.getInUseBytes(), "Every buffer should have been released.");
+        assertTrue(pool.getAllocatedBytes() <= pool.getBudget());
+    }
+
+    @Test
+    public void test_cancelStopsOverlappedRead() throws Exception {
+        writeFile("large.bin", 5_000_000);
+        Cancellation cancellation = new Cancellation();
+        ProgressListener cancelOnFirstReport = progress -> cancellation.cancel();
+        try (DigestEngine engine = new DigestEngine.Builder().bufferSize(1024).overlappedBuffers(2).overlapThreshold(0).progressListener(cancelOnFirstReport).progressInterval(0, TimeUnit.MILLISECONDS).build()) {
+            DigestCancelledException e = assertThrows(DigestCancelledException.class, () -> engine.digestTree(tempDir, cancellation));
+            assertTrue(e.getMessage().contains(Cancellation.REASON_CANCELLED), "Unexpected message: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void test_streamDigest() throws Exception {
+        DigestEngine engine = new DigestEngine.Builder().bufferSize(7).build();
+
+        try (InputStream in = Files.newInputStream(Paths.get(Constants.FILE_PATH_SIMPLE_TXT))) {
+            assertEquals(Constants.SHA_FILE_SIMPLT_TXT, engine.digest(in, "simple.txt").get(DigestSet.ALG_SHA256));
+        }
+    }
+
+    @Test
+    public void test_zipFileSystemTree() throws Exception {
+        Path zip = tempDir.resolve("archive.zip");
+        try (OutputStream out = Files.newOutputStream(zip); ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            zipOut.putNextEntry(new ZipEntry("a/simple.txt"));
+            zipOut.write(Files.readAllBytes(Paths.get(Constants.FILE_PATH_SIMPLE_TXT)));
+            zipOut.closeEntry();
+        }
+
+        try (FileSystem zipFileSystem = FileSystems.newFileSystem(zip, (ClassLoader) null); DigestEngine engine = new DigestEngine.Builder().build()) {
+            SortedMap<String, DigestSet> digests = engine.digestTree(zipFileSystem.getPath("/"));
+            assertEquals(1, digests.size());
+            assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digests.get("a/simple.txt").get(DigestSet.ALG_SHA256));
+        }
+    }
+
+    @Test
+    public void test_progressIsRateLimited() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            writeFile("file" + i + ".bin", 10_000);
+        }
+        List<DigestProgress> reports = new CopyOnWriteArrayList<>();
+        try (DigestEngine engine = new DigestEngine.Builder().bufferSize(100).progressListener(reports::add).progressInterval(1, TimeUnit.HOURS).build()) {
+            engine.digestTree(tempDir);
+        }
+        // Only the final report, since the interval never passes
+        assertEquals(1, reports.size(), "Unexpected reports: " + reports);
+        assertEquals(20, reports.get(0).getFilesCompleted());
+    }
+
+    @Test
+    public void test_cancelStopsTreeDigest() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            writeFile("file" + i + ".bin", 1_000_000);
+        }
+        Cancellation cancellation = new Cancellation();
+        ProgressListener cancelOnFirstReport = progress -> cancellation.cancel();
+        try (DigestEngine engine = new DigestEngine.Builder().bufferSize(1024).parallelism(2).progressListener(cancelOnFirstReport).progressInterval(0, TimeUnit.MILLISECONDS).build()) {
+            DigestCancelledException e = assertThrows(DigestCancelledException.class, () -> engine.digestTree(tempDir, cancellation));
+            assertTrue(e.getMessage().contains(Cancellation.REASON_CANCELLED), "Unexpected message: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void test_deadlineStopsDigest() throws Exception {
+        Path file = writeFile("data.bin", 1000);
+        DigestEngine engine = new DigestEngine.Builder().build();
+
+        DigestCancelledException e = assertThrows(DigestCancelledException.class, () -> engine.digest(file, Cancellation.withTimeout(0, TimeUnit.SECONDS)));
+        assertTrue(e.getMessage().contains(Cancellation.REASON_DEADLINE), "Unexpected message: " + e.getMessage());
+    }
+
+    @Test
+    public void test_closedEngineRejectsTrees() throws Exception {
+        DigestEngine engine = new DigestEngine.Builder().build();
+        engine.close();
+
+        assertThrows(IllegalStateException.class, () -> engine.digestTree(tempDir));
+    }
+
+    @Test
+    public void test_closeStopsTreeDigest() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            writeFile("file-" + i + ".bin", 100_000);
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        DigestEngine engine = new DigestEngine.Builder().bufferSize(1024).parallelism(2).progressListener(progress -> started.countDown()).progressInterval(0, TimeUnit.MILLISECONDS).build();
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<SortedMap<String, DigestSet>> digests = caller.submit(() -> engine.digestTree(tempDir));
+            assertTrue(started.await(10, TimeUnit.SECONDS), "The digest did not start.");
+            engine.close();
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> digests.get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof DigestCancelledException, "Unexpected failure: " + e.getCause());
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_invalidBuilderValues() {
+        assertThrows(IllegalArgumentException.class, () -> new DigestEngine.Builder().algorithms("md5"));
+        assertThrows(IllegalArgumentException.class, () -> new DigestEngine.Builder().algorithms());
+        assertThrows(IllegalArgumentException.class, () -> new DigestEngine.Builder().bufferSize(0));
+        assertThrows(IllegalArgumentException.class, () -> new DigestEngine.Builder().parallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> new DigestEngine.Builder().overlappedBuffers(0));
+        assertThrows(IllegalArgumentException.class, () -> new DigestEngine.Builder().overlappedBuffers(DigestEngine.MAX_OVERLAPPED_BUFFERS + 1));
+        assertThrows(IllegalArgumentException.class, () -> new DigestEngine.Builder().overlapThreshold(-1));
+        assertFalse(new DigestEngine.Builder().build().getAlgorithms().length == 0);
+    }
+
+    private Path writeFile(String name, int size) throws Exception {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        return Files.write(tempDir.resolve(name), content);
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
+import com.ibm.intoto.test.Constants;
+
+public class FileDigestCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_cachesUnchangedFiles() throws Exception {
+        File file = copySimpleFile("cached.txt");
+        FileDigestCache cache = new FileDigestCache(10);
+
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, cache.getDigests(file).get(DigestSet.ALG_SHA256));
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, cache.getDigests(file).get(DigestSet.ALG_SHA256));
+        assertEquals(1, cache.getMissCount(), "The file should have been hashed once.");
+        assertEquals(1, cache.getHitCount(), "The second lookup should have been a hit.");
+
+        // Callers cannot change the cached digests
+        cache.getDigests(file).put(DigestSet.ALG_SHA256, "changed");
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, cache.getDigests(file).get(DigestSet.ALG_SHA256));
+    }
+
+    @Test
+    public void test_changedFileRehashed() throws Exception {
+        File file = copySimpleFile("changed.txt");
+        FileDigestCache cache = new FileDigestCache(10);
+        String before = cache.getDigests(file).get(DigestSet.ALG_SHA256);
+
+        Files.write(file.toPath(), "different content".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis() - 50_000));
+        assertNotEquals(before, cache.getDigests(file).get(DigestSet.ALG_SHA256), "The changed file should have been hashed again.");
+        assertEquals(2, cache.getMissCount(), "Unexpected number of misses.");
+    }
+
+    @Test
+    public void test_recentlyModifiedFileNotCached() throws Exception {
+        File file = copySimpleFile("recent.txt");
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis()));
+        FileDigestCache cache = new FileDigestCache(10);
+
+        cache.getDigests(file);
+        cache.getDigests(file);
+        assertEquals(0, cache.size(), "A recently modified file should not have been cached.");
+        assertEquals(2, cache.getMissCount(), "Unexpected number of misses.");
+    }
+
+    @Test
+    public void test_concurrentLookupsHashOnce() throws Exception {
+        File file = copySimpleFile("shared.txt");
+        FileDigestCache cache = new FileDigestCache(10, DigestSet.ALG_SHA256, DigestSet.ALG_SHA512);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<DigestSet>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                Callable<DigestSet> lookup = () -> cache.getDigests(file);
+                results.add(executor.submit(lookup));
+            }
+            for (Future<DigestSet> result : results) {
+                assertEquals(Constants.SHA_FILE_SIMPLT_TXT, result.get().get(DigestSet.ALG_SHA256));
+                assertEquals(128, result.get().get(DigestSet.ALG_SHA512).length());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        assertEquals(1, cache.getMissCount(), "Concurrent lookups of the same file should have hashed it once.");
+        assertEquals(63, cache.getHitCount(), "Unexpected number of hits.");
+    }
+
+    @Test
+    public void test_missingFile() {
+        FileDigestCache cache = new FileDigestCache(10);
+        assertThrows(DigestCalculationException.class, () -> cache.getDigests(tempDir.resolve("missing.txt").toFile()));
+    }
+
+    private File copySimpleFile(String name) throws Exception {
+        Path target = tempDir.resolve(name);
+        Files.copy(Paths.get(Constants.FILE_PATH_SIMPLE_TXT), target);
+        Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        return target.toFile();
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+public class FileStatTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_annotationRoundTrip() throws Exception {
+        Path file = Files.write(tempDir.resolve("file.txt"), new byte[123]);
+        Instant lastModified = Instant.parse("2026-01-02T03:04:05.123456789Z");
+        Files.setLastModifiedTime(file, FileTime.from(lastModified));
+
+        FileStat stat = FileStat.of(Files.readAttributes(file, BasicFileAttributes.class));
+        assertEquals(123, stat.getSize());
+
+        JsonObject annotations = Json.createObjectBuilder().add(FileStat.ANNOTATION_KEY, stat.toJson()).build();
+        assertTrue(stat.matches(FileStat.fromAnnotations(annotations)), "The file key is not recorded, so only it may differ.");
+        assertEquals(new FileStat(5, lastModified), FileStat.fromAnnotations(Json.createObjectBuilder().add(FileStat.ANNOTATION_KEY, new FileStat(5, lastModified).toJson()).build()));
+    }
+
+    @Test
+    public void test_unchangedSince() {
+        Instant lastModified = Instant.parse("2026-01-02T03:04:05Z");
+        long takenAt = lastModified.toEpochMilli() + FileStat.RACY_MODIFICATION_WINDOW_MILLIS + 1;
+        FileStat earlier = new FileStat(5, lastModified);
+
+        assertTrue(new FileStat(5, lastModified).isUnchangedSince(earlier, takenAt));
+        assertFalse(new FileStat(6, lastModified).isUnchangedSince(earlier, takenAt));
+        assertFalse(new FileStat(5, lastModified.plusNanos(1)).isUnchangedSince(earlier, takenAt));
+        assertFalse(new FileStat(5, lastModified).isUnchangedSince(null, takenAt));
+        assertTrue(earlier.isRacy(takenAt - 1), "A file modified within the window should be racy.");
+        assertFalse(new FileStat(5, lastModified).isUnchangedSince(earlier, takenAt - 1));
+    }
+
+    @Test
+    public void test_missingOrMalformedAnnotations() {
+        assertNull(FileStat.fromAnnotations(null));
+        assertNull(FileStat.fromAnnotations(Json.createObjectBuilder().add("other", "value").build()));
+        assertNull(FileStat.fromAnnotations(annotation(Json.createObjectBuilder().add(FileStat.KEY_SIZE, 5))));
+        assertNull(FileStat.fromAnnotations(annotation(Json.createObjectBuilder().add(FileStat.KEY_SIZE, "5").add(FileStat.KEY_LAST_MODIFIED, "2026-01-02T03:04:05Z"))));
+        assertNull(FileStat.fromAnnotations(annotation(Json.createObjectBuilder().add(FileStat.KEY_SIZE, 5).add(FileStat.KEY_LAST_MODIFIED, "yesterday"))));
+        assertNull(FileStat.fromAnnotations(annotation(Json.createObjectBuilder().add(FileStat.KEY_SIZE, 5.5).add(FileStat.KEY_LAST_MODIFIED, "2026-01-02T03:04:05Z"))));
+    }
+
+    private static JsonObject annotation(JsonObjectBuilder stat) {
+        return Json.createObjectBuilder().add(FileStat.ANNOTATION_KEY, stat).build();
+    }
+
+}
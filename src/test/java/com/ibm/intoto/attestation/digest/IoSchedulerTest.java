@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.test.Constants;
+
+public class IoSchedulerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_storeSettingsAndLimits() throws Exception {
+        String type = Files.getFileStore(tempDir).type();
+        IoScheduler scheduler = new IoScheduler.Builder().adaptive(false).storeType(type, 2, 4096).build();
+        Path file = Files.copy(Paths.get(Constants.FILE_PATH_SIMPLE_TXT), tempDir.resolve("simple.txt"));
+
+        IoScheduler.Lane lane = scheduler.getLane(file);
+        assertSame(lane, scheduler.getLane(tempDir.resolve("other.txt")), "Files in one directory should share a lane.");
+        assertEquals(4096, lane.getReadAhead());
+        assertTrue(lane.tryAcquire());
+        assertTrue(lane.tryAcquire());
+        assertFalse(lane.tryAcquire(), "The store's concurrency limit should have been reached.");
+        lane.release();
+        assertTrue(lane.tryAcquire());
+
+        List<IoScheduler.StoreStatus> statuses = scheduler.getStoreStatus();
+        assertEquals(1, statuses.size());
+        assertEquals(type, statuses.get(0).getType());
+        assertEquals(2, statuses.get(0).getActiveReads());
+    }
+
+    @Test
+    public void test_engineTunesStores() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            Files.copy(Paths.get(Constants.FILE_PATH_SIMPLE_TXT), tempDir.resolve("file" + i + ".txt"));
+        }
+        IoScheduler scheduler = new IoScheduler.Builder().concurrency(1).tuningWindow(1, 0, TimeUnit.MILLISECONDS).build();
+
+        try (DigestEngine engine = new DigestEngine.Builder().ioScheduler(scheduler).parallelism(4).build()) {
+            SortedMap<String, DigestSet> digests = engine.digestTree(tempDir);
+            assertEquals(20, digests.size());
+            for (DigestSet digest : digests.values()) {
+                assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digest.get(DigestSet.ALG_SHA256));
+            }
+        }
+
+        IoScheduler.StoreStatus status = scheduler.getStoreStatus().get(0);
+        assertEquals(20 * Files.size(Paths.get(Constants.FILE_PATH_SIMPLE_TXT)), status.getBytesRead());
+        assertEquals(0, status.getActiveReads());
+        assertTrue(status.getBytesPerSecond() > 0, "The throughput should have been measured: " + status);
+    }
+
+    @Test
+    public void test_singleFileDigestsWaitForStore() throws Exception {
+        String type = Files.getFileStore(tempDir).type();
+        IoScheduler scheduler = new IoScheduler.Builder().adaptive(false).storeType(type, 1, 4096).build();
+        Path file = Files.copy(Paths.get(Constants.FILE_PATH_SIMPLE_TXT), tempDir.resolve("simple.txt"));
+        IoScheduler.Lane lane = scheduler.getLane(file);
+
+        try (DigestEngine engine = new DigestEngine.Builder().ioScheduler(scheduler).build()) {
+            assertTrue(lane.tryAcquire());
+            DigestCancelledException e = assertThrows(DigestCancelledException.class, () -> engine.digest(file, Cancellation.withTimeout(100, TimeUnit.MILLISECONDS)));
+            assertTrue(e.getMessage().contains(Cancellation.REASON_DEADLINE), "The read should have waited for the store: " + e.getMessage());
+
+            lane.release();
+            assertEquals(Constants.SHA_FILE_SIMPLT_TXT, engine.digest(file).get(DigestSet.ALG_SHA256));
+        }
+        assertEquals(0, scheduler.getStoreStatus().get(0).getActiveReads(), "The permit should have been released.");
+    }
+
+    @Test
+    public void test_acquireWaitsForRelease() throws Exception {
+        IoScheduler scheduler = new IoScheduler.Builder().adaptive(false).concurrency(1).build();
+        IoScheduler.Lane lane = scheduler.getUnknownLane();
+        assertTrue(lane.acquire(0, TimeUnit.MILLISECONDS));
+        assertFalse(lane.acquire(20, TimeUnit.MILLISECONDS), "The store's concurrency limit should have been reached.");
+
+        ExecutorService releaser = Executors.newSingleThreadExecutor();
+        try {
+            releaser.submit(() -> {
+                TimeUnit.MILLISECONDS.sleep(50);
+                lane.release();
+                return null;
+            });
+            assertTrue(lane.acquire(10, TimeUnit.SECONDS), "The waiting read should have been given the released permit.");
+        } finally {
+            releaser.shutdownNow();
+        }
+        assertEquals(1, scheduler.getStoreStatus().get(0).getActiveReads());
+    }
+
+    @Test
+    public void test_invalidBuilderValues() {
+        assertThrows(IllegalArgumentException.class, () -> new IoScheduler.Builder().concurrency(0));
+        assertThrows(IllegalArgumentException.class, () -> new IoScheduler.Builder().readAhead(0));
+        assertThrows(IllegalArgumentException.class, () -> new IoScheduler.Builder().concurrencyRange(4, 2));
+        assertThrows(IllegalArgumentException.class, () -> new IoScheduler.Builder().readAheadRange(8192, 4096));
+        assertThrows(IllegalArgumentException.class, () -> new IoScheduler.Builder().tuningWindow(0));
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ThroughputTunerTest {
+
+    @Test
+    public void test_keepsImprovementsAndUndoesRegressions() {
+        ThroughputTuner tuner = new ThroughputTuner(4, 1, 8, 65536, 4096, 1048576);
+
+        // Each window keeps the settings it measured and tries a step in the other setting
+        tuner.windowCompleted(100);
+        assertSettings(tuner, 5, 65536);
+        tuner.windowCompleted(120);
+        assertSettings(tuner, 5, 131072);
+
+        // The larger read-ahead was slower, so it is undone and the read-ahead shrinks next time
+        tuner.windowCompleted(80);
+        assertSettings(tuner, 5, 65536);
+        tuner.windowCompleted(120);
+        assertSettings(tuner, 6, 65536);
+        tuner.windowCompleted(119);
+        assertSettings(tuner, 6, 32768);
+    }
+
+    @Test
+    public void test_noiseIsNotARegression() {
+        ThroughputTuner tuner = new ThroughputTuner(4, 1, 8, 65536, 4096, 1048576);
+        tuner.windowCompleted(100);
+        tuner.windowCompleted(100 * (1 - ThroughputTuner.TOLERANCE / 2));
+
+        assertSettings(tuner, 5, 131072);
+    }
+
+    @Test
+    public void test_staysWithinRange() {
+        ThroughputTuner tuner = new ThroughputTuner(10, 1, 2, 1 << 30, 4096, 8192);
+        assertSettings(tuner, 2, 8192);
+
+        // At the maximum, the next step goes down instead
+        tuner.windowCompleted(100);
+        assertSettings(tuner, 1, 8192);
+        tuner.windowCompleted(100);
+        assertSettings(tuner, 1, 4096);
+    }
+
+    private static void assertSettings(ThroughputTuner tuner, int concurrency, int readAhead) {
+        assertEquals(concurrency, tuner.getConcurrency(), "Unexpected concurrency.");
+        assertEquals(readAhead, tuner.getReadAhead(), "Unexpected read-ahead.");
+    }
+
+}
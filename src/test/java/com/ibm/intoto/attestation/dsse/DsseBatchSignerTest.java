@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.dsse.exceptions.DsseSigningException;
+import jakarta.json.Json;
+
+public class DsseBatchSignerTest {
+
+    private static final String ALGORITHM = "SHA256withECDSA";
+
+    private static KeyPair keyPair;
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    public void test_signAll() throws Exception {
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", ALGORITHM);
+        Map<String, byte[]> envelopes = new ConcurrentHashMap<>();
+        try (DsseBatchSigner batchSigner = new DsseBatchSigner.Builder(signer).parallelism(4).queueCapacity(2).build()) {
+            long count = batchSigner.signAll(statements(200), (statement, envelope) -> envelopes.put(statement.getSubject().toJson().getJsonObject(0).getString(ResourceDescriptor.KEY_NAME), envelope));
+
+            assertEquals(200, count, "Unexpected number of envelopes.");
+            assertTrue(batchSigner.getSignatureInstanceCount() <= 4, "Signature objects should have been reused, but " + batchSigner.getSignatureInstanceCount() + " were created.");
+        }
+
+        assertEquals(200, envelopes.size(), "Unexpected number of envelopes.");
+        Signature verifier = Signature.getInstance(ALGORITHM);
+        for (byte[] envelopeBytes : envelopes.values()) {
+            DsseEnvelope envelope = DsseEnvelope.fromJson(Json.createReader(new ByteArrayInputStream(envelopeBytes)).readObject());
+            verifier.initVerify(keyPair.getPublic());
+            DsseEnvelope.updatePreAuthenticationEncoding(verifier, envelope.getPayloadType(), envelope.getPayload(), envelope.getPayload().length);
+            assertTrue(verifier.verify(envelope.getSignatures().get(0).getSig()), "Signature did not verify.");
+        }
+    }
+
+    @Test
+    public void test_signAll_handlerFailureStopsBatch() throws Exception {
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", ALGORITHM);
+        AtomicInteger pulled = new AtomicInteger();
+        try (DsseBatchSigner batchSigner = new DsseBatchSigner.Builder(signer).parallelism(2).queueCapacity(0).build()) {
+            Stream<Statement> statements = statements(10_000).peek(statement -> pulled.incrementAndGet());
+            assertThrows(IOException.class, () -> batchSigner.signAll(statements, (statement, envelope) -> {
+                throw new IOException("disk full");
+            }));
+        }
+        assertTrue(pulled.get() < 10_000, "The batch should have stopped pulling statements after the failure.");
+    }
+
+    @Test
+    public void test_signAll_badAlgorithm() throws Exception {
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", "NotARealAlgorithm");
+        try (DsseBatchSigner batchSigner = new DsseBatchSigner.Builder(signer).parallelism(2).build()) {
+            assertThrows(DsseSigningException.class, () -> batchSigner.signAll(statements(5), (statement, envelope) -> {
+            }));
+        }
+    }
+
+    @Test
+    public void test_signAll_closedSigner() throws Exception {
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", ALGORITHM);
+        DsseBatchSigner batchSigner = new DsseBatchSigner.Builder(signer).parallelism(2).build();
+        batchSigner.close();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(IllegalStateException.class, () -> batchSigner.signAll(statements(5), (statement, envelope) -> {
+        })));
+    }
+
+    @Test
+    public void test_signAll_closedWhileSigning() throws Exception {
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", ALGORITHM);
+        DsseBatchSigner batchSigner = new DsseBatchSigner.Builder(signer).parallelism(2).queueCapacity(0).build();
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Statement> statements = statements(100).peek(statement -> {
+            if (pulled.incrementAndGet() == 3) {
+                batchSigner.close();
+            }
+        });
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(RejectedExecutionException.class, () -> batchSigner.signAll(statements, (statement, envelope) -> {
+        })));
+    }
+
+    private Stream<Statement> statements(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            try {
+                Subject subject = new Subject.Builder().resourceDescriptor(new ResourceDescriptor.Builder().name("file-" + i + ".war").build()).build();
+                return new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, "https://localhost/predicate/v1").build();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.dsse.exceptions.InvalidDsseEnvelopeException;
+import com.ibm.intoto.test.CommonTestUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+public class DsseEnvelopeTest {
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_preAuthenticationEncodingHeader() {
+        // Test vector from the DSSE protocol specification
+        byte[] header = DsseEnvelope.preAuthenticationEncodingHeader("http://example.com/HelloWorld", "hello world".length());
+        assertEquals("DSSEv1 29 http://example.com/HelloWorld 11 ", new String(header, StandardCharsets.UTF_8), "PAE header did not match.");
+    }
+
+    @Test
+    public void test_writeTo_matchesToJson() throws Exception {
+        for (String payload : Arrays.asList("", "a", "ab", "abc", "{\"_type\":\"https://in-toto.io/Statement/v1\"}")) {
+            DsseEnvelope envelope = new DsseEnvelope(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, payload.getBytes(StandardCharsets.UTF_8), Arrays.asList(new DsseSignature("key-1", new byte[] { 1, 2, 3 }), new DsseSignature(null, new byte[] { 4 })));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            envelope.writeTo(out);
+
+            assertEquals(envelope.toJson().toString(), new String(out.toByteArray(), StandardCharsets.UTF_8), "Streamed envelope did not match the JSON tree for payload [" + payload + "].");
+        }
+    }
+
+    @Test
+    public void test_fromJson() throws Exception {
+        byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+        DsseEnvelope envelope = new DsseEnvelope("text/plain", payload, Arrays.asList(new DsseSignature("key-1", new byte[] { 1, 2, 3 })));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        envelope.writeTo(out);
+        JsonObject json = Json.createReader(new ByteArrayInputStream(out.toByteArray())).readObject();
+        DsseEnvelope parsed = DsseEnvelope.fromJson(json);
+
+        assertEquals("text/plain", parsed.getPayloadType(), "Payload type did not match.");
+        assertArrayEquals(payload, parsed.getPayload(), "Payload did not match.");
+        assertEquals(envelope.getSignatures(), parsed.getSignatures(), "Signatures did not match.");
+    }
+
+    @Test
+    public void test_fromJson_invalid() throws Exception {
+        JsonObject valid = new DsseEnvelope("text/plain", new byte[] { 1 }, Arrays.asList(new DsseSignature("key-1", new byte[] { 1, 2, 3 }))).toJson();
+
+        assertInvalid(Json.createObjectBuilder(valid).remove(DsseEnvelope.KEY_SIGNATURES).build(), "signatures entry is missing or not an array");
+        assertInvalid(Json.createObjectBuilder(valid).add(DsseEnvelope.KEY_SIGNATURES, Json.createArrayBuilder().add("sig")).build(), "signature is not an object");
+        assertInvalid(Json.createObjectBuilder(valid).add(DsseEnvelope.KEY_PAYLOAD, 1).build(), "payload entry is missing or not a string");
+        assertInvalid(Json.createObjectBuilder(valid).add(DsseEnvelope.KEY_PAYLOAD, "not base64!").build(), "payload entry is not Base64 encoded");
+        assertInvalid(Json.createObjectBuilder(valid).remove(DsseEnvelope.KEY_PAYLOAD_TYPE).build(), "payloadType entry is missing or not a string");
+        JsonObject badKeyId = Json.createObjectBuilder().add(DsseSignature.KEY_KEYID, true).add(DsseSignature.KEY_SIG, "AQID").build();
+        assertInvalid(Json.createObjectBuilder(valid).add(DsseEnvelope.KEY_SIGNATURES, Json.createArrayBuilder().add(badKeyId)).build(), "keyid entry is missing or not a string");
+    }
+
+    private void assertInvalid(JsonObject json, String pattern) {
+        InvalidDsseEnvelopeException e = assertThrows(InvalidDsseEnvelopeException.class, () -> DsseEnvelope.fromJson(json));
+        testUtils.assertExceptionMatchesPattern(e, pattern);
+    }
+
+}
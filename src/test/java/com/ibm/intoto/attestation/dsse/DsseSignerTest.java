@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.TestPredicate;
+import com.ibm.intoto.attestation.dsse.exceptions.DsseSigningException;
+import com.ibm.intoto.test.CommonTestUtils;
+import jakarta.json.Json;
+
+public class DsseSignerTest {
+
+    private static final String ALGORITHM = "SHA256withECDSA";
+
+    private static KeyPair keyPair;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    public void test_sign() throws Exception {
+        Statement statement = getStatement();
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", ALGORITHM);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        signer.sign(statement, out);
+        DsseEnvelope envelope = DsseEnvelope.fromJson(Json.createReader(new ByteArrayInputStream(out.toByteArray())).readObject());
+
+        ByteArrayOutputStream expectedPayload = new ByteArrayOutputStream();
+        statement.writeTo(expectedPayload);
+        assertEquals(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, envelope.getPayloadType(), "Payload type did not match.");
+        assertArrayEquals(expectedPayload.toByteArray(), envelope.getPayload(), "Payload did not match the serialized Statement.");
+        assertEquals(1, envelope.getSignatures().size(), "Unexpected number of signatures.");
+        assertEquals("key-1", envelope.getSignatures().get(0).getKeyId(), "Key ID did not match.");
+
+        Signature verifier = Signature.getInstance(ALGORITHM);
+        verifier.initVerify(keyPair.getPublic());
+        DsseEnvelope.updatePreAuthenticationEncoding(verifier, envelope.getPayloadType(), envelope.getPayload(), envelope.getPayload().length);
+        assertTrue(verifier.verify(envelope.getSignatures().get(0).getSig()), "Signature did not verify.");
+
+        verifier.initVerify(keyPair.getPublic());
+        byte[] tampered = envelope.getPayload().clone();
+        tampered[tampered.length - 2] ^= 1;
+        DsseEnvelope.updatePreAuthenticationEncoding(verifier, envelope.getPayloadType(), tampered, tampered.length);
+        assertFalse(verifier.verify(envelope.getSignatures().get(0).getSig()), "Signature should not have verified a tampered payload.");
+    }
+
+    @Test
+    public void test_sign_badAlgorithm() throws Exception {
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", "NotARealAlgorithm");
+        try {
+            signer.sign(getStatement(), new ByteArrayOutputStream());
+            fail("Should have thrown an exception but didn't.");
+        } catch (DsseSigningException e) {
+            testUtils.assertExceptionMatchesPattern(e, "key-1");
+        }
+    }
+
+    private Statement getStatement() throws Exception {
+        Subject subject = new Subject.Builder().resourceDescriptor(new ResourceDescriptor.Builder().name("file.war").build()).build();
+        TestPredicate predicate = new TestPredicate(Json.createObjectBuilder().add("special-key", "special value").build());
+        return new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, TestPredicate.PREDICATE_TYPE).predicate(predicate).build();
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.dsse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.dsse.exceptions.DsseVerificationException;
+import com.ibm.intoto.test.CommonTestUtils;
+import jakarta.json.Json;
+
+public class DsseVerifierTest {
+
+    private static final String ALGORITHM = "SHA256withECDSA";
+
+    private static KeyPair trustedKeyPair;
+    private static KeyPair untrustedKeyPair;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @BeforeAll
+    public static void beforeAll() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        trustedKeyPair = generator.generateKeyPair();
+        untrustedKeyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    public void test_verify() throws Exception {
+        byte[] envelope = sign(trustedKeyPair, "trusted", "file.war");
+        try (DsseVerifier verifier = newVerifier(10)) {
+            Statement statement = verifier.verify(envelope);
+
+            List<ResourceDescriptor> subject = statement.getSubject().getResourceDescriptors();
+            assertEquals(1, subject.size(), "Unexpected number of subjects.");
+            assertEquals("file.war", subject.get(0).getName(), "Subject name did not match.");
+            assertEquals("abc123", subject.get(0).getDigest().get(DigestSet.ALG_SHA256), "Subject digest did not match.");
+        }
+    }
+
+    @Test
+    public void test_verify_untrustedKey() throws Exception {
+        try (DsseVerifier verifier = newVerifier(10)) {
+            // Claiming a trusted key ID doesn't help when the signature was made with another key
+            assertVerificationFails(verifier, sign(untrustedKeyPair, "trusted", "file.war"), "trusted key");
+            assertVerificationFails(verifier, sign(untrustedKeyPair, "unknown", "file.war"), "trusted key");
+            assertEquals(0, verifier.getVerifiedCacheSize(), "Failed envelopes should not have been cached.");
+        }
+    }
+
+    @Test
+    public void test_verify_tamperedPayload() throws Exception {
+        byte[] envelope = sign(trustedKeyPair, "trusted", "file.war");
+        DsseEnvelope parsed = DsseEnvelope.fromJson(Json.createReader(new ByteArrayInputStream(envelope)).readObject());
+        byte[] payload = new String(parsed.getPayload(), StandardCharsets.UTF_8).replace("file.war", "evil.war").getBytes(StandardCharsets.UTF_8);
+        DsseEnvelope tampered = new DsseEnvelope(parsed.getPayloadType(), payload, parsed.getSignatures());
+        try (DsseVerifier verifier = newVerifier(10)) {
+            try {
+                verifier.verify(tampered);
+                fail("Should have thrown an exception but didn't.");
+            } catch (DsseVerificationException e) {
+                testUtils.assertExceptionMatchesPattern(e, "trusted key");
+            }
+        }
+    }
+
+    @Test
+    public void test_verify_cachedPayloadSkipsSignatureCheck() throws Exception {
+        byte[] envelope = sign(trustedKeyPair, "trusted", "file.war");
+        try (DsseVerifier verifier = newVerifier(10)) {
+            Statement first = verifier.verify(envelope);
+            assertEquals(1, verifier.getVerifiedCacheSize(), "The verified payload should have been cached.");
+
+            // The payload was already verified with a trusted key, so the signatures aren't checked again
+            DsseEnvelope parsed = DsseEnvelope.fromJson(Json.createReader(new ByteArrayInputStream(envelope)).readObject());
+            DsseEnvelope resigned = new DsseEnvelope(parsed.getPayloadType(), parsed.getPayload(), Arrays.asList(new DsseSignature("other", new byte[] { 1 })));
+            Statement second = verifier.verify(resigned);
+            assertEquals(first.toJson(), second.toJson(), "The cached payload should have been accepted.");
+
+            // Each caller gets its own Statement, so editing one can't change what is later returned as verified
+            assertNotSame(first, second, "The same Statement was returned to two callers.");
+            first.getSubject().getResourceDescriptors().get(0).getDigest().put(DigestSet.ALG_SHA256, "tampered");
+            assertNotEquals("tampered", verifier.verify(resigned).getSubject().getResourceDescriptors().get(0).getDigest().get(DigestSet.ALG_SHA256));
+        }
+    }
+
+    @Test
+    public void test_verify_cacheBounded() throws Exception {
+        try (DsseVerifier verifier = newVerifier(2)) {
+            for (int i = 0; i < 5; i++) {
+                verifier.verify(sign(trustedKeyPair, "trusted", "file-" + i + ".war"));
+            }
+            assertEquals(2, verifier.getVerifiedCacheSize(), "The verified cache should not grow past its bound.");
+        }
+    }
+
+    @Test
+    public void test_verifyAll() throws Exception {
+        List<byte[]> envelopes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            envelopes.add(sign(trustedKeyPair, i % 2 == 0 ? "trusted" : null, "file-" + i + ".war"));
+        }
+        try (DsseVerifier verifier = newVerifier(100)) {
+            List<Statement> statements = verifier.verifyAll(envelopes);
+            assertEquals(50, statements.size(), "Unexpected number of statements.");
+            for (int i = 0; i < 50; i++) {
+                assertEquals("file-" + i + ".war", statements.get(i).getSubject().getResourceDescriptors().get(0).getName(), "Statements were not returned in order.");
+            }
+
+            envelopes.add(sign(untrustedKeyPair, "trusted", "evil.war"));
+            try {
+                verifier.verifyAll(envelopes);
+                fail("Should have thrown an exception but didn't.");
+            } catch (DsseVerificationException e) {
+                testUtils.assertExceptionMatchesPattern(e, "trusted key");
+            }
+        }
+    }
+
+    private DsseVerifier newVerifier(int cacheSize) {
+        return new DsseVerifier.Builder().trustedKey("trusted", trustedKeyPair.getPublic().getEncoded(), "EC", ALGORITHM).verifiedCacheSize(cacheSize).parallelism(4).build();
+    }
+
+    private void assertVerificationFails(DsseVerifier verifier, byte[] envelope, String expectedMessage) {
+        try {
+            verifier.verify(envelope);
+            fail("Should have thrown an exception but didn't.");
+        } catch (DsseVerificationException e) {
+            testUtils.assertExceptionMatchesPattern(e, expectedMessage);
+        }
+    }
+
+    private byte[] sign(KeyPair keyPair, String keyId, String subjectName) throws Exception {
+        DigestSet digest = new DigestSet();
+        digest.put(DigestSet.ALG_SHA256, "abc123");
+        Subject subject = new Subject.Builder().resourceDescriptor(new ResourceDescriptor.Builder().name(subjectName).digest(digest).build()).build();
+        Statement statement = new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, "https://localhost/predicate/v1").build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DsseSigner(keyPair.getPrivate(), keyId, ALGORITHM).sign(statement, out);
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.bundle.BundleWriter;
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.FileResourceDescriptor;
+import com.ibm.intoto.attestation.digest.DigestEngine;
+import com.ibm.intoto.attestation.digest.FileStat;
+import com.ibm.intoto.attestation.dsse.DsseSigner;
+import com.ibm.intoto.attestation.dsse.DsseVerifier;
+import com.ibm.intoto.attestation.incremental.exceptions.IncrementalAttestationException;
+import com.ibm.intoto.attestation.pipeline.StatementFactory;
+import com.ibm.intoto.attestation.utils.Utils;
+import com.ibm.intoto.test.CommonTestUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+
+public class IncrementalAttestorTest {
+
+    private static final String PREDICATE_TYPE = "https://example.com/incremental/v1";
+
+    private static final StatementFactory STATEMENTS = subject -> new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, PREDICATE_TYPE).build();
+
+    private static final Instant AN_HOUR_AGO = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+
+    @TempDir
+    Path tempDir;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws Exception {
+        directory = Files.createDirectories(tempDir.resolve("build"));
+        write("a.txt", "alpha", AN_HOUR_AGO);
+        write("lib/b.txt", "bravo", AN_HOUR_AGO);
+        write("d.txt", "delta", AN_HOUR_AGO);
+        write("f.txt", "foxtrot", AN_HOUR_AGO);
+    }
+
+    @Test
+    public void test_firstAttestation() throws Exception {
+        IncrementalAttestation first = new IncrementalAttestor.Builder(STATEMENTS).build().attest(directory, (Statement) null);
+
+        assertEquals(new TreeSet<>(Arrays.asList("a.txt", "d.txt", "f.txt", "lib/b.txt")), first.getRehashed());
+        assertEquals(0, first.getReusedCount());
+        assertEquals(4, first.getDiff().getAdded().size());
+        assertEquals(0, first.getDiff().getUnchangedCount());
+
+        Map<String, ResourceDescriptor> subjects = subjects(first.getStatement());
+        ResourceDescriptor b = subjects.get("lib/b.txt");
+        assertEquals(Utils.calculateSha256ForFile(directory.resolve("lib/b.txt").toFile()), b.getDigest().get(DigestSet.ALG_SHA256));
+        assertEquals(new FileStat(5, AN_HOUR_AGO), FileStat.fromAnnotations(b.getAnnotations()));
+    }
+
+    @Test
+    public void test_onlyChangedFilesRehashed() throws Exception {
+        IncrementalAttestor attestor = new IncrementalAttestor.Builder(STATEMENTS).build();
+        Statement previous = attestor.attest(directory, (Statement) null).getStatement();
+
+        Instant later = AN_HOUR_AGO.plusSeconds(60);
+        write("lib/b.txt", "bravo-2", later);
+        Files.setLastModifiedTime(directory.resolve("a.txt"), FileTime.from(later));
+        Files.delete(directory.resolve("d.txt"));
+        write("e.txt", "echo", AN_HOUR_AGO);
+
+        IncrementalAttestation next = attestor.attest(directory, previous);
+
+        assertEquals(new TreeSet<>(Arrays.asList("a.txt", "e.txt", "lib/b.txt")), next.getRehashed());
+        assertEquals(1, next.getReusedCount(), "Only f.txt should have been reused.");
+        SubjectDiff diff = next.getDiff();
+        assertEquals(new TreeSet<>(Arrays.asList("e.txt")), diff.getAdded().keySet());
+        assertEquals(new TreeSet<>(Arrays.asList("d.txt")), diff.getRemoved().keySet());
+        assertEquals(new TreeSet<>(Arrays.asList("lib/b.txt")), diff.getChanged().keySet());
+        assertEquals(2, diff.getUnchangedCount(), "a.txt was only touched, so its content is unchanged.");
+        assertEquals(subjects(previous).get("lib/b.txt").getDigest(), diff.getChanged().get("lib/b.txt").getPrevious());
+
+        JsonObject json = diff.toJson();
+        assertEquals("lib/b.txt", json.getJsonArray(SubjectDiff.KEY_CHANGED).getJsonObject(0).getString(ResourceDescriptor.KEY_NAME));
+        assertEquals(1, json.getJsonArray(SubjectDiff.KEY_REMOVED).size());
+        assertEquals(2, json.getInt(SubjectDiff.KEY_UNCHANGED_COUNT));
+
+        Map<String, ResourceDescriptor> subjects = subjects(next.getStatement());
+        assertEquals(new TreeSet<>(Arrays.asList("a.txt", "e.txt", "f.txt", "lib/b.txt")), new TreeSet<>(subjects.keySet()));
+        assertEquals(new FileStat(1, later).getLastModified(), FileStat.fromAnnotations(subjects.get("a.txt").getAnnotations()).getLastModified());
+    }
+
+    @Test
+    public void test_unchangedStatReusesPreviousDigestAndAnnotations() throws Exception {
+        DigestSet recorded = new DigestSet();
+        recorded.put(DigestSet.ALG_SHA256, "recorded");
+        JsonObject annotations = Json.createObjectBuilder().add(FileStat.ANNOTATION_KEY, new FileStat(5, AN_HOUR_AGO).toJson()).add("other", "kept").build();
+        Statement previous = STATEMENTS.create(new Subject.Builder().resourceDescriptor(new FileResourceDescriptor("a.txt", recorded, annotations)).build());
+
+        IncrementalAttestation next = new IncrementalAttestor.Builder(STATEMENTS).build().attest(directory, previous);
+
+        ResourceDescriptor a = subjects(next.getStatement()).get("a.txt");
+        assertEquals("recorded", a.getDigest().get(DigestSet.ALG_SHA256), "The file should not have been read.");
+        assertEquals("kept", a.getAnnotations().getString("other"));
+        assertTrue(next.getDiff().getChanged().isEmpty());
+        assertEquals(1, next.getReusedCount());
+    }
+
+    @Test
+    public void test_rehashedFileDropsPreviousAnnotations() throws Exception {
+        DigestSet recorded = new DigestSet();
+        recorded.put(DigestSet.ALG_SHA256, "recorded");
+        JsonObject annotations = Json.createObjectBuilder().add(FileStat.ANNOTATION_KEY, new FileStat(4, AN_HOUR_AGO).toJson()).add("chunkedDigest", "stale").build();
+        Statement previous = STATEMENTS.create(new Subject.Builder().resourceDescriptor(new FileResourceDescriptor("a.txt", recorded, annotations)).build());
+
+        IncrementalAttestation next = new IncrementalAttestor.Builder(STATEMENTS).build().attest(directory, previous);
+
+        ResourceDescriptor a = subjects(next.getStatement()).get("a.txt");
+        assertTrue(next.getRehashed().contains("a.txt"), "The size differs, so the file should have been read.");
+        assertFalse(a.getAnnotations().containsKey("chunkedDigest"), "An annotation of the old content was kept: " + a.getAnnotations());
+        assertEquals(new FileStat(5, AN_HOUR_AGO), FileStat.fromAnnotations(a.getAnnotations()));
+    }
+
+    @Test
+    public void test_missingAlgorithmOrStatRehashes() throws Exception {
+        Statement previous = new IncrementalAttestor.Builder(STATEMENTS).build().attest(directory, (Statement) null).getStatement();
+        IncrementalAttestor sha512 = new IncrementalAttestor.Builder(STATEMENTS).digestEngine(new DigestEngine.Builder().algorithms(DigestSet.ALG_SHA256, DigestSet.ALG_SHA512).build()).build();
+
+        IncrementalAttestation next = sha512.attest(directory, previous);
+
+        assertEquals(4, next.getRehashed().size(), "The previous Statement has no sha512 digests.");
+        assertEquals(4, next.getDiff().getUnchangedCount(), "The sha256 digests should still match.");
+
+        DigestSet digest = new DigestSet();
+        digest.put(DigestSet.ALG_SHA256, "no stat");
+        Statement withoutStat = STATEMENTS.create(new Subject.Builder().resourceDescriptor(new FileResourceDescriptor("a.txt", digest)).build());
+        IncrementalAttestation rehashed = new IncrementalAttestor.Builder(STATEMENTS).build().attest(directory, withoutStat);
+        assertTrue(rehashed.getRehashed().contains("a.txt"));
+        assertEquals(1, rehashed.getDiff().getChanged().size());
+    }
+
+    @Test
+    public void test_recentlyModifiedFilesNotGivenStat() throws Exception {
+        write("recent.txt", "recent", Instant.now());
+        IncrementalAttestor attestor = new IncrementalAttestor.Builder(STATEMENTS).build();
+        Statement previous = attestor.attest(directory, (Statement) null).getStatement();
+
+        assertNull(subjects(previous).get("recent.txt").getAnnotations(), "A file modified within the racy window should not be given stat data.");
+        assertNotNull(subjects(previous).get("a.txt").getAnnotations());
+        assertEquals(new TreeSet<>(Arrays.asList("recent.txt")), attestor.attest(directory, previous).getRehashed());
+    }
+
+    @Test
+    public void test_previousBundle() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        KeyPair keyPair = generator.generateKeyPair();
+        DsseSigner signer = new DsseSigner(keyPair.getPrivate(), "key-1", "SHA256withECDSA");
+        IncrementalAttestor attestor = new IncrementalAttestor.Builder(STATEMENTS).build();
+
+        Path bundle = tempDir.resolve("previous" + BundleWriter.FILE_EXTENSION);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            writer.append(attestor.attest(directory, (Statement) null).getStatement(), signer).get();
+        }
+
+        try (DsseVerifier verifier = new DsseVerifier.Builder().trustedKey("key-1", keyPair.getPublic(), "SHA256withECDSA").build()) {
+            IncrementalAttestation next = attestor.attest(directory, bundle, verifier);
+            assertTrue(next.getRehashed().isEmpty(), "Unexpected files rehashed: " + next.getRehashed());
+            assertTrue(next.getDiff().isEmpty());
+        }
+
+        IncrementalAttestationException e = assertThrows(IncrementalAttestationException.class, () -> attestor.attest(directory, bundle, null));
+        testUtils.assertExceptionMatchesPattern(e, "line 1 holds a DSSE envelope but no verifier was given");
+
+        // An unsigned Statement appended to the signed bundle must not be trusted
+        Statement forged = STATEMENTS.create(new Subject.Builder().resourceDescriptor(new FileResourceDescriptor("a.txt", new DigestSet())).build());
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            writer.append(forged).get();
+        }
+        try (DsseVerifier verifier = new DsseVerifier.Builder().trustedKey("key-1", keyPair.getPublic(), "SHA256withECDSA").build()) {
+            e = assertThrows(IncrementalAttestationException.class, () -> attestor.attest(directory, bundle, verifier));
+            testUtils.assertExceptionMatchesPattern(e, "line 2 holds an unsigned Statement but a verifier was given");
+        }
+    }
+
+    @Test
+    public void test_unsignedBundleAndBadLines() throws Exception {
+        IncrementalAttestor attestor = new IncrementalAttestor.Builder(STATEMENTS).build();
+        Path bundle = tempDir.resolve("previous" + BundleWriter.FILE_EXTENSION);
+        try (BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            writer.append(attestor.attest(directory, (Statement) null).getStatement()).get();
+        }
+        assertEquals(1, IncrementalAttestor.readBundle(bundle, null).size());
+
+        Files.write(bundle, "\n{not json\n".getBytes(StandardCharsets.UTF_8));
+        IncrementalAttestationException e = assertThrows(IncrementalAttestationException.class, () -> IncrementalAttestor.readBundle(bundle, null));
+        testUtils.assertExceptionMatchesPattern(e, "at line 2");
+    }
+
+    @Test
+    public void test_statementFactoryFailure() {
+        IncrementalAttestor attestor = new IncrementalAttestor.Builder(subject -> {
+            throw new IllegalStateException("no predicate");
+        }).build();
+
+        IncrementalAttestationException e = assertThrows(IncrementalAttestationException.class, () -> attestor.attest(directory, (Statement) null));
+        testUtils.assertExceptionMatchesPattern(e, "no predicate");
+    }
+
+    @Test
+    public void test_closeOnlyOwnedEngine() throws Exception {
+        DigestEngine given = new DigestEngine.Builder().build();
+        try (IncrementalAttestor attestor = new IncrementalAttestor.Builder(STATEMENTS).digestEngine(given).build()) {
+            attestor.attest(directory, (Statement) null);
+        }
+        assertFalse(given.isClosed(), "An engine given to the builder was closed.");
+        given.close();
+
+        IncrementalAttestor attestor = new IncrementalAttestor.Builder(STATEMENTS).build();
+        attestor.close();
+        assertThrows(IllegalStateException.class, () -> attestor.attest(directory, (Statement) null), "The engine the attestor created was left open.");
+    }
+
+    private void write(String name, String content, Instant lastModified) throws Exception {
+        Path file = directory.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.from(lastModified));
+    }
+
+    private static Map<String, ResourceDescriptor> subjects(Statement statement) {
+        Map<String, ResourceDescriptor> subjects = new HashMap<>();
+        for (ResourceDescriptor descriptor : statement.getSubject().getResourceDescriptors()) {
+            subjects.put(descriptor.getName(), descriptor);
+        }
+        return subjects;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.Files;
+import java.security.KeyPairGenerator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.digest.FileDigestCache;
+import com.ibm.intoto.attestation.dsse.DsseSigner;
+import com.ibm.intoto.test.Constants;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_notRecording() {
+        assertTrue(JfrEvents.isAvailable(), "JFR should be available on the test JVM.");
+        assertNull(JfrEvents.beginFileDigest(), "No event should be started while nothing is recording.");
+        // Committing an event that was not started is a no-op
+        JfrEvents.commitFileDigest(null, "file", 0, new String[] { DigestSet.ALG_SHA256 }, false);
+    }
+
+    @Test
+    public void test_recordedEvents() throws Exception {
+        Path file = tempDir.resolve("simple.txt");
+        Files.copy(Paths.get(Constants.FILE_PATH_SIMPLE_TXT), file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+        Path dump = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FileDigestEvent.NAME);
+            recording.enable(StatementSerializationEvent.NAME);
+            recording.enable(EnvelopeSigningEvent.NAME);
+            recording.start();
+
+            FileDigestCache cache = new FileDigestCache(10);
+            DigestSet digest = cache.getDigests(file.toFile());
+            cache.getDigests(file.toFile());
+
+            ResourceDescriptor descriptor = new ResourceDescriptor.Builder().name("simple.txt").digest(digest).build();
+            Statement statement = new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, new Subject.Builder().resourceDescriptor(descriptor).build(), "https://localhost/predicate/v1").build();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            statement.writeTo(out);
+
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(256);
+            new DsseSigner(generator.generateKeyPair().getPrivate(), "key-1", "SHA256withECDSA").sign(statement, new ByteArrayOutputStream());
+
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            List<RecordedEvent> digests = ofType(events, FileDigestEvent.NAME);
+            assertEquals(2, digests.size(), "Expected one calculated and one cached digest event.");
+            assertEquals(file.toFile().getPath(), digests.get(0).getString("path"));
+            assertEquals(new File(Constants.FILE_PATH_SIMPLE_TXT).length(), digests.get(0).getLong("size"));
+            assertEquals(DigestSet.ALG_SHA256, digests.get(0).getString("algorithms"));
+            assertFalse(digests.get(0).getBoolean("cacheHit"), "The first lookup should have calculated the digest.");
+            assertTrue(digests.get(1).getBoolean("cacheHit"), "The second lookup should have been a cache hit.");
+
+            List<RecordedEvent> serializations = ofType(events, StatementSerializationEvent.NAME);
+            assertEquals(2, serializations.size(), "Expected the direct and the signed serialization.");
+            assertEquals(out.size(), serializations.get(0).getLong("size"));
+            assertEquals(1, serializations.get(0).getInt("subjectCount"));
+
+            List<RecordedEvent> signings = ofType(events, EnvelopeSigningEvent.NAME);
+            assertEquals(1, signings.size(), "Expected one signing event.");
+            assertEquals("key-1", signings.get(0).getString("keyId"));
+            assertEquals(out.size(), signings.get(0).getLong("payloadSize"));
+        }
+    }
+
+    private List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime())).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.security.KeyPairGenerator;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.dsse.DsseSigner;
+import com.ibm.intoto.attestation.utils.Utils;
+import com.ibm.intoto.test.Constants;
+
+public class JmxMetricsTest {
+
+    private JmxMetrics metrics;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (metrics != null) {
+            metrics.unregister();
+        }
+        Metrics.install(null);
+    }
+
+    @Test
+    public void test_disabledByDefault() {
+        assertFalse(Metrics.isEnabled(), "No metrics should be installed.");
+        assertNull(Metrics.get());
+        // Reporting without metrics installed is a no-op
+        Metrics.cacheHit(Metrics.CACHE_FILE_DIGEST);
+        Metrics.descriptorCreated();
+    }
+
+    @Test
+    public void test_collectsMeasurements() throws Exception {
+        metrics = JmxMetrics.register();
+        assertSame(metrics, Metrics.get(), "Registering should have installed the metrics.");
+
+        File file = new File(Constants.FILE_PATH_SIMPLE_TXT);
+        Utils.calculateDigestsForFile(file, DigestSet.ALG_SHA256, DigestSet.ALG_SHA512);
+        assertEquals(file.length(), metrics.getBytesHashed().get(DigestSet.ALG_SHA256).longValue(), "Unexpected number of bytes hashed.");
+        assertEquals(file.length(), metrics.getBytesHashed().get(DigestSet.ALG_SHA512).longValue(), "Unexpected number of bytes hashed.");
+
+        ResourceDescriptor descriptor = new ResourceDescriptor.Builder().name("file").digest(Utils.calculateDigestsForFile(file, DigestSet.ALG_SHA256)).build();
+        assertEquals(1, metrics.getDescriptorCount(), "Unexpected number of descriptors.");
+        ResourceDescriptor.fromJson(descriptor.toJson());
+        assertEquals(1, metrics.getDescriptorCount(), "A parsed descriptor should not have been counted.");
+
+        Statement statement = new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, new Subject.Builder().resourceDescriptor(descriptor).build(), "https://localhost/predicate/v1").build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statement.writeTo(out);
+        assertEquals(1, metrics.getStatementsSerialized(), "Unexpected number of statements.");
+        assertEquals(out.size(), metrics.getSerializedBytes(), "Unexpected number of serialized bytes.");
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        new DsseSigner(generator.generateKeyPair().getPrivate(), "key", "SHA256withECDSA").sign(statement, new ByteArrayOutputStream());
+        assertEquals(1, metrics.getEnvelopesSigned(), "Unexpected number of signatures.");
+        assertEquals(1, metrics.getEnvelopesSignedByAlgorithm().get("SHA256withECDSA").longValue(), "Unexpected signatures by algorithm.");
+        assertEquals(2, metrics.getStatementsSerialized(), "Signing should have serialized the statement.");
+
+        metrics.cacheHit("test");
+        metrics.cacheMiss("test");
+        metrics.cacheMiss("test");
+        assertEquals(1, metrics.getCacheHits().get("test").longValue());
+        assertEquals(2, metrics.getCacheMisses().get("test").longValue());
+
+        metrics.reset();
+        assertEquals(0, metrics.getDescriptorCount(), "Reset should have cleared the totals.");
+        assertTrue(metrics.getBytesHashed().isEmpty(), "Reset should have cleared the totals.");
+    }
+
+    @Test
+    public void test_publishedThroughJmx() throws Exception {
+        metrics = JmxMetrics.register();
+        metrics.bytesHashed(DigestSet.ALG_SHA256, 1024, 5_000_000);
+        metrics.descriptorCreated();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(JmxMetrics.DEFAULT_OBJECT_NAME);
+        assertEquals(1L, server.getAttribute(name, "DescriptorCount"));
+        TabularData bytesHashed = (TabularData) server.getAttribute(name, "BytesHashed");
+        assertEquals(1024L, bytesHashed.get(new Object[] { DigestSet.ALG_SHA256 }).get("value"));
+
+        metrics.unregister();
+        metrics = null;
+        assertFalse(server.isRegistered(name), "The MXBean should have been unregistered.");
+        assertFalse(Metrics.isEnabled(), "Unregistering should have uninstalled the metrics.");
+    }
+
+    @Test
+    public void test_unregisterFromOwnServer() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = new ObjectName(JmxMetrics.DEFAULT_OBJECT_NAME);
+        metrics = JmxMetrics.register(server, name);
+        assertTrue(server.isRegistered(name), "The MXBean should have been registered.");
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name), "The MXBean should not be on the platform server.");
+
+        metrics.unregister();
+        metrics = null;
+        assertFalse(server.isRegistered(name), "The MXBean should have been unregistered from its own server.");
+    }
+
+}
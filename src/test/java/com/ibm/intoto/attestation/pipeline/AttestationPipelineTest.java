@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.bundle.BundleWriter;
+import com.ibm.intoto.attestation.digest.Cancellation;
+import com.ibm.intoto.attestation.digest.DigestEngine;
+import com.ibm.intoto.attestation.digest.DigestProgress;
+import com.ibm.intoto.attestation.digest.ProgressListener;
+import com.ibm.intoto.attestation.digest.exceptions.DigestCancelledException;
+import com.ibm.intoto.attestation.dsse.DsseSigner;
+import com.ibm.intoto.attestation.dsse.DsseVerifier;
+import com.ibm.intoto.test.Constants;
+import jakarta.json.Json;
+
+public class AttestationPipelineTest {
+
+    private static final String PREDICATE_TYPE = "https://localhost/predicate/v1";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_attestDirectoryToBundle() throws Exception {
+        Path files = createFiles(25);
+        Path bundle = tempDir.resolve("attestations" + BundleWriter.FILE_EXTENSION);
+
+        try (AttestationPipeline pipeline = newBuilder().subjectsPerStatement(10).bufferSize(4).parallelism(3).build(); BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            assertEquals(3L, pipeline.attest(files, writer).get(10, TimeUnit.SECONDS), "Unexpected number of Statements.");
+        }
+
+        List<ResourceDescriptor> subjects = new ArrayList<>();
+        for (String line : Files.readAllLines(bundle)) {
+            Statement statement = Statement.fromJson(Json.createReader(new ByteArrayInputStream(line.getBytes())).readObject());
+            assertEquals(PREDICATE_TYPE, statement.getPredicateType());
+            subjects.addAll(statement.getSubject().getResourceDescriptors());
+        }
+        TreeSet<String> names = new TreeSet<>();
+        for (ResourceDescriptor subject : subjects) {
+            names.add(subject.getName());
+            assertEquals(Constants.SHA_FILE_SIMPLT_TXT, subject.getDigest().get(DigestSet.ALG_SHA256));
+        }
+        assertEquals(25, names.size(), "Every file should be a subject once: " + names);
+        assertTrue(names.contains("dir-2/file-2.txt"), "Subjects should be named relative to the directory: " + names);
+    }
+
+    @Test
+    public void test_signedEnvelopes() throws Exception {
+        Path files = createFiles(3);
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        KeyPair keyPair = generator.generateKeyPair();
+        Path bundle = tempDir.resolve("signed" + BundleWriter.FILE_EXTENSION);
+
+        try (AttestationPipeline pipeline = newBuilder().signer(new DsseSigner(keyPair.getPrivate(), "key-1", "SHA256withECDSA")).build(); BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            assertEquals(1L, pipeline.attest(files, writer).get(10, TimeUnit.SECONDS));
+        }
+
+        try (DsseVerifier verifier = new DsseVerifier.Builder().trustedKey("key-1", keyPair.getPublic(), "SHA256withECDSA").build()) {
+            Statement statement = verifier.verify(Files.readAllBytes(bundle));
+            assertEquals(3, statement.getSubject().getResourceDescriptors().size());
+        }
+    }
+
+    @Test
+    public void test_failurePropagates() throws Exception {
+        Path files = createFiles(5);
+        Path bundle = tempDir.resolve("failed" + BundleWriter.FILE_EXTENSION);
+        AttestationPipeline.Builder builder = newBuilder().descriptorFactory(file -> {
+            throw new IllegalStateException("cannot describe " + file.getName());
+        });
+
+        try (AttestationPipeline pipeline = builder.build(); BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> pipeline.attest(files, writer).get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException, "Unexpected failure: " + e.getCause());
+        }
+        assertEquals(0, Files.size(bundle), "Nothing should have been written.");
+    }
+
+    @Test
+    public void test_digestsReportProgress() throws Exception {
+        Path files = createFiles(12);
+        List<DigestProgress> reports = new CopyOnWriteArrayList<>();
+        Path bundle = tempDir.resolve("progress" + BundleWriter.FILE_EXTENSION);
+
+        try (DigestEngine engine = new DigestEngine.Builder().progressListener(reports::add).build(); AttestationPipeline pipeline = newBuilder().digestEngine(engine).build(); BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            pipeline.attest(files, writer).get(10, TimeUnit.SECONDS);
+        }
+
+        DigestProgress last = reports.get(reports.size() - 1);
+        assertTrue(last.isComplete(), "The final report should be complete: " + last);
+        assertEquals(12, last.getFilesCompleted());
+        assertEquals(12 * Files.size(Paths.get(Constants.FILE_PATH_SIMPLE_TXT)), last.getBytesCompleted());
+    }
+
+    @Test
+    public void test_cancellationStopsReads() throws Exception {
+        Path files = Files.createDirectory(tempDir.resolve("large"));
+        for (int i = 0; i < 4; i++) {
+            Files.write(files.resolve("file-" + i + ".bin"), new byte[2_000_000]);
+        }
+        Cancellation cancellation = new Cancellation();
+        ProgressListener cancelOnFirstReport = progress -> cancellation.cancel();
+        Path bundle = tempDir.resolve("cancelled" + BundleWriter.FILE_EXTENSION);
+
+        try (DigestEngine engine = new DigestEngine.Builder().bufferSize(1024).progressListener(cancelOnFirstReport).progressInterval(0, TimeUnit.MILLISECONDS).build(); AttestationPipeline pipeline = newBuilder().digestEngine(engine).build(); BundleWriter writer = new BundleWriter.Builder(bundle).build()) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> pipeline.attest(files, writer, cancellation).get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof DigestCancelledException, "Unexpected failure: " + e.getCause());
+        }
+        assertEquals(0, Files.size(bundle), "Nothing should have been written.");
+    }
+
+    private AttestationPipeline.Builder newBuilder() {
+        return new AttestationPipeline.Builder(subject -> new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, PREDICATE_TYPE).build());
+    }
+
+    private Path createFiles(int count) throws Exception {
+        Path root = Files.createDirectory(tempDir.resolve("files"));
+        for (int i = 0; i < count; i++) {
+            Path directory = Files.createDirectories(root.resolve("dir-" + (i % 3)));
+            Files.copy(Paths.get(Constants.FILE_PATH_SIMPLE_TXT), directory.resolve("file-" + i + ".txt"));
+        }
+        return root;
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.pipeline.StageTest.CollectingSubscriber;
+import com.ibm.intoto.attestation.pipeline.StageTest.RangePublisher;
+
+public class BatcherTest {
+
+    @Test
+    public void test_batchesWithPartialLastBatch() throws Exception {
+        Batcher<Integer> batcher = new Batcher<>(4, 2);
+        RangePublisher source = new RangePublisher(10);
+        CollectingSubscriber<List<Integer>> subscriber = new CollectingSubscriber<>(1);
+        source.subscribe(batcher);
+        batcher.subscribe(subscriber);
+
+        assertEquals(1, subscriber.items.size());
+        assertEquals(8 + 4, source.requested.get(), "Only two batches should be buffered beyond the one emitted.");
+
+        subscriber.subscription.request(10);
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS), "The batcher should have completed.");
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7), Arrays.asList(8, 9)), subscriber.items);
+    }
+
+    @Test
+    public void test_invalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new Batcher<>(0, 1));
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class StageTest {
+
+    private ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void test_orderedResults() throws Exception {
+        Stage<Integer, Integer> stage = new Stage<>(i -> {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            return i * 2;
+        }, executor, 8);
+        RangePublisher source = new RangePublisher(100);
+        CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+        source.subscribe(stage);
+        stage.subscribe(subscriber);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS), "The stage should have completed.");
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i * 2);
+        }
+        assertEquals(expected, subscriber.items);
+    }
+
+    @Test
+    public void test_slowSubscriberHoldsBackSource() throws Exception {
+        Stage<Integer, Integer> stage = new Stage<>(i -> i, executor, 4);
+        RangePublisher source = new RangePublisher(1000);
+        CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>(2);
+        source.subscribe(stage);
+        stage.subscribe(subscriber);
+
+        // Give the stage time to fill its buffer
+        Thread.sleep(200);
+        assertEquals(2, subscriber.items.size());
+        assertEquals(4 + 2, source.requested.get(), "The source should only have been asked to fill the buffer.");
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS), "The stage should have completed.");
+        assertEquals(1000, subscriber.items.size());
+    }
+
+    @Test
+    public void test_failureCancelsSource() throws Exception {
+        Stage<Integer, Integer> stage = new Stage<>(i -> {
+            if (i == 5) {
+                throw new IllegalStateException("failed on 5");
+            }
+            return i;
+        }, executor, 4);
+        RangePublisher source = new RangePublisher(1000);
+        CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>(Long.MAX_VALUE);
+        source.subscribe(stage);
+        stage.subscribe(subscriber);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS), "The stage should have failed.");
+        assertEquals("failed on 5", subscriber.error.getMessage());
+        assertEquals(5, subscriber.items.size(), "The items before the failure should have been emitted.");
+        assertTrue(source.cancelled, "The source should have been cancelled.");
+    }
+
+    /**
+     * Publishes the integers from zero, recording how many were requested.
+     */
+    static class RangePublisher implements Flow.Publisher<Integer> {
+
+        final AtomicLong requested = new AtomicLong();
+        private final int count;
+        volatile boolean cancelled;
+
+        RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+                private long demand;
+                private boolean emitting;
+
+                @Override
+                public synchronized void request(long n) {
+                    requested.addAndGet(n);
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && next < count && !cancelled) {
+                        demand--;
+                        subscriber.onNext(next++);
+                    }
+                    if (next == count && !cancelled) {
+                        next++;
+                        subscriber.onComplete();
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    static class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        private final long initialRequest;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+
+        CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+}
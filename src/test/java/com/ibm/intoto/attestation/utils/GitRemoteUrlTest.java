@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 International Business Machines Corp.
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.intoto.attestation.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.utils.exceptions.GitRepoUrlFormatException;
+import com.ibm.intoto.attestation.utils.exceptions.GitRepoUrlNullOrEmptyException;
+
+public class GitRemoteUrlTest {
+
+    @Test
+    void test_scpLike() throws Exception {
+        assertParsed("git@github.com:brutus/hello-world.git", "ssh", "github.com", -1, "brutus", "hello-world");
+        assertParsed("github.ibm.com:brutus/hello-world", "ssh", "github.ibm.com", -1, "brutus", "hello-world");
+        assertParsed("git@gitlab.com:/group/subgroup/project.git", "ssh", "gitlab.com", -1, "group/subgroup", "project");
+    }
+
+    @Test
+    void test_ssh() throws Exception {
+        assertParsed("ssh://git@bitbucket.example.com:7999/proj/repo.git", "ssh", "bitbucket.example.com", 7999, "proj", "repo");
+        assertParsed("git+ssh://git@github.com/brutus/hello-world.git", "git+ssh", "github.com", -1, "brutus", "hello-world");
+        assertEquals("https://bitbucket.example.com/proj/repo", GitRemoteUrl.parse("ssh://git@bitbucket.example.com:7999/proj/repo.git").getWebUrl(), "The SSH port should not be part of the web URL.");
+    }
+
+    @Test
+    void test_git() throws Exception {
+        assertParsed("git://git.example.org/pub/scm/tool.git", "git", "git.example.org", -1, "pub/scm", "tool");
+    }
+
+    @Test
+    void test_https() throws Exception {
+        assertParsed("https://github.com/brutus/hello-world.git", "https", "github.com", -1, "brutus", "hello-world");
+        assertParsed("HTTP://www.GitHub.com/brutus/hello-world.GIT", "http", "github.com", -1, "brutus", "hello-world");
+        assertParsed("https://gitlab.example.com/group/sub/project/", "https", "gitlab.example.com", -1, "group/sub", "project");
+
+        GitRemoteUrl withCredentials = GitRemoteUrl.parse("https://user:p@ss@git.example.com:8443/team/service.git");
+        assertEquals("https://git.example.com:8443/team/service", withCredentials.getWebUrl(), "Credentials should have been dropped.");
+        assertEquals(8443, withCredentials.getPort());
+    }
+
+    @Test
+    void test_invalid() {
+        assertNull(GitRemoteUrl.parseUncached("The quick brown fox jumps over the lazy dog."));
+        assertNull(GitRemoteUrl.parseUncached("ftp://example.com/owner/repo.git"), "Unsupported scheme.");
+        assertNull(GitRemoteUrl.parseUncached("https://github.com/repo.git"), "No owner.");
+        assertNull(GitRemoteUrl.parseUncached("https://github.com"), "No path.");
+        assertNull(GitRemoteUrl.parseUncached("https://github.com:http/owner/repo.git"), "Invalid port.");
+        assertNull(GitRemoteUrl.parseUncached("https://github.com:99999/owner/repo.git"), "Port out of range.");
+        assertNull(GitRemoteUrl.parseUncached("C:/work/owner/repo"), "A Windows path is not a host.");
+        assertNull(GitRemoteUrl.parseUncached("git@github.com:owner//repo.git"), "Empty path segment.");
+        assertNull(GitRemoteUrl.parseUncached("https://github.com/owner/repo name.git"), "Whitespace in the path.");
+        assertNull(GitRemoteUrl.parseUncached("git@github.com:owner/.git"), "No repository name.");
+
+        assertThrows(GitRepoUrlFormatException.class, () -> GitRemoteUrl.parse("not a url"));
+        assertThrows(GitRepoUrlNullOrEmptyException.class, () -> GitRemoteUrl.parse(""));
+    }
+
+    @Test
+    void test_cached() throws Exception {
+        String url = "git@github.com:brutus/cached.git";
+        assertSame(GitRemoteUrl.parse(url), GitRemoteUrl.parse(url), "The parsed URL should have been cached.");
+    }
+
+    private void assertParsed(String url, String scheme, String host, int port, String owner, String repoName) throws Exception {
+        GitRemoteUrl parsed = GitRemoteUrl.parse(url);
+        assertEquals(scheme, parsed.getScheme(), "Unexpected scheme for " + url);
+        assertEquals(host, parsed.getHost(), "Unexpected host for " + url);
+        assertEquals(port, parsed.getPort(), "Unexpected port for " + url);
+        assertEquals(owner, parsed.getOwner(), "Unexpected owner for " + url);
+        assertEquals(repoName, parsed.getRepoName(), "Unexpected repository name for " + url);
+    }
+
+}
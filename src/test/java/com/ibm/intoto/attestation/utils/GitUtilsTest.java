@@ -93,6 +93,12 @@ public class GitUtilsTest {
         }
     }
 
+    @Test
+    void test_buildGitHubRepoUrl_otherHost() throws GitRepoUrlException {
+        final String input = "ssh://git@gitlab.example.com:2222/group/" + user + "/" + repoName + ".git";
+        assertEquals("https://gitlab.example.com/group/" + user + "/" + repoName, GitUtils.buildGitHubRepoUrl(input));
+    }
+
     @Test
     void test_getRepoOwner_null() {
         final String input = null;
@@ -23,6 +23,7 @@ import java.io.File;
 
 import org.junit.jupiter.api.Test;
 
+import com.ibm.intoto.attestation.DigestSet;
 import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
 import com.ibm.intoto.test.Constants;
 
@@ -39,4 +40,16 @@ public class UtilsTest {
         }
     }
 
+    @Test
+    void test_calculateDigestsForFile() throws Exception {
+        DigestSet digests = Utils.calculateDigestsForFile(new File(Constants.FILE_PATH_SIMPLE_TXT), DigestSet.ALG_SHA1, DigestSet.ALG_SHA256);
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digests.get(DigestSet.ALG_SHA256));
+        assertEquals(40, digests.get(DigestSet.ALG_SHA1).length());
+    }
+
+    @Test
+    void test_toHexKeepsLeadingZeros() {
+        assertEquals("000f10ff", Utils.toHex(new byte[] { 0x00, 0x0f, 0x10, (byte) 0xff }));
+    }
+
 }